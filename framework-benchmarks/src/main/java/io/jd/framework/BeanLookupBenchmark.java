@@ -0,0 +1,63 @@
+package io.jd.framework;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanLookupBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    int definitionCount;
+
+    private BeanProvider beanProvider;
+    private BeanProvider childBeanProvider;
+
+    @Setup
+    public void setup() {
+        var definitions = new ArrayList<BeanDefinition<?>>();
+        IntStream.range(1, definitionCount).forEach(i -> definitions.add(new FixedDefinition<>(Filler.class, new Filler())));
+        definitions.add(new FixedDefinition<>(Target.class, new Target()));
+        var baseBeanProvider = new BaseBeanProvider(definitions);
+        beanProvider = baseBeanProvider;
+        childBeanProvider = baseBeanProvider.child(List.of(new FixedDefinition<>(Filler.class, new Filler())));
+    }
+
+    @Benchmark
+    public Target provide() {
+        return beanProvider.provide(Target.class);
+    }
+
+    @Benchmark
+    public Target provideFromChild() {
+        return childBeanProvider.provide(Target.class);
+    }
+
+    @Benchmark
+    public Collection<Target> provideAll() {
+        return beanProvider.provideAll(Target.class);
+    }
+
+    public static class Filler {
+    }
+
+    public static class Target {
+    }
+
+    private record FixedDefinition<T>(Class<T> type, T bean) implements BeanDefinition<T> {
+        @Override
+        public T create(BeanProvider beanProvider) {
+            return bean;
+        }
+    }
+}
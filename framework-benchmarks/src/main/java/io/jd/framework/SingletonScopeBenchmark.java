@@ -0,0 +1,47 @@
+package io.jd.framework;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class SingletonScopeBenchmark {
+
+    private final ScopeProvider<Object> singletonScope = ScopeProvider.singletonScope(beanProvider -> new Object());
+    private final Function<BeanProvider, Object> synchronizedScope = new SynchronizedSingleton(beanProvider -> new Object());
+
+    @Benchmark
+    public Object singletonScope() {
+        return singletonScope.apply(null);
+    }
+
+    @Benchmark
+    public Object synchronizedBaseline() {
+        return synchronizedScope.apply(null);
+    }
+
+    private static final class SynchronizedSingleton implements Function<BeanProvider, Object> {
+        private final Function<BeanProvider, Object> delegate;
+        private volatile Object value;
+
+        SynchronizedSingleton(Function<BeanProvider, Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized Object apply(BeanProvider beanProvider) {
+            if (value == null) {
+                value = delegate.apply(beanProvider);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.batch.Batching;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+public class BatchedLookupBenchmark {
+
+    private final Inventory direct = new Inventory();
+    private Inventory batched;
+
+    @Setup
+    public void setup() {
+        batched = BeanProviderFactory.getInstance().provide(Inventory.class);
+        if (!(batched instanceof Batching)) {
+            throw new IllegalStateException("Inventory is expected to be provided as its generated $Intercepted subclass");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        // every direct call is a round trip, the batched calls share them
+        var statistics = ((Batching) batched).batchers().get("Inventory.item").statistics();
+        if (statistics.calls() > 0) {
+            System.out.printf("%nBatched calls: %d, round trips: %d, mean batch size: %.1f, batch sizes: %s%n",
+                    statistics.calls(), statistics.batches(), statistics.meanBatchSize(), statistics.batchSizes());
+        }
+    }
+
+    @Benchmark
+    public Long directLookup() {
+        return direct.item(ThreadLocalRandom.current().nextLong(1000));
+    }
+
+    @Benchmark
+    public Long batchedLookup() {
+        return batched.item(ThreadLocalRandom.current().nextLong(1000));
+    }
+}
@@ -0,0 +1,56 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.BeanProviderFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int beans;
+
+    @Param({"1", "10"})
+    int depth;
+
+    private String packageName;
+    private Class<?> deepestBean;
+    private BeanProvider beanProvider;
+
+    @Setup
+    public void setup() {
+        packageName = SyntheticGraph.packageName(beans, depth);
+        deepestBean = SyntheticGraph.deepestBean(beans, depth);
+        beanProvider = BeanProviderFactory.getInstance(packageName);
+        beanProvider.provide(deepestBean);
+        beanProvider.provideAll(SyntheticBean.class);
+    }
+
+    @Benchmark
+    public BeanProvider getInstance() {
+        return BeanProviderFactory.getInstance(packageName);
+    }
+
+    @Benchmark
+    public Object getInstanceAndProvideDeepest() {
+        return BeanProviderFactory.getInstance(packageName).provide(deepestBean);
+    }
+
+    @Benchmark
+    public Object provide() {
+        return beanProvider.provide(deepestBean);
+    }
+
+    @Benchmark
+    public Collection<SyntheticBean> provideAll() {
+        return beanProvider.provideAll(SyntheticBean.class);
+    }
+}
@@ -0,0 +1,41 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.BeanProviderFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class ContainerColdStartBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int beans;
+
+    @Param({"1", "10"})
+    int depth;
+
+    private String packageName;
+    private Class<?> deepestBean;
+
+    @Setup
+    public void setup() {
+        packageName = SyntheticGraph.packageName(beans, depth);
+        deepestBean = SyntheticGraph.deepestBean(beans, depth);
+    }
+
+    @Benchmark
+    public BeanProvider getInstance() {
+        return BeanProviderFactory.getInstance(packageName);
+    }
+
+    @Benchmark
+    public Object getInstanceAndProvideDeepest() {
+        return BeanProviderFactory.getInstance(packageName).provide(deepestBean);
+    }
+}
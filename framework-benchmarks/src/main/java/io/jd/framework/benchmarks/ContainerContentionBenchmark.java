@@ -0,0 +1,45 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.BeanProviderFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ContainerContentionBenchmark {
+
+    @Param({"100", "1000"})
+    int beans;
+
+    @Param({"1", "10"})
+    int depth;
+
+    private Class<?> deepestBean;
+    private BeanProvider beanProvider;
+
+    @Setup
+    public void setup() {
+        deepestBean = SyntheticGraph.deepestBean(beans, depth);
+        beanProvider = BeanProviderFactory.getInstance(SyntheticGraph.packageName(beans, depth));
+        beanProvider.provide(deepestBean);
+        beanProvider.provideAll(SyntheticBean.class);
+    }
+
+    @Benchmark
+    public Object provide() {
+        return beanProvider.provide(deepestBean);
+    }
+
+    @Benchmark
+    public Collection<SyntheticBean> provideAll() {
+        return beanProvider.provideAll(SyntheticBean.class);
+    }
+}
@@ -0,0 +1,39 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.transactional.GroupCommitting;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+public class GroupCommitBenchmark {
+
+    private final SimulatedFlushTransactionManager transactionManager = new SimulatedFlushTransactionManager();
+    // both journals are built by hand to share the stand-in manager instead of the container's no-op one
+    private final Journal flushPerCommit = new Journal$Intercepted(transactionManager);
+    private final GroupCommittedJournal groupCommit = new GroupCommittedJournal$Intercepted(transactionManager);
+    private long entry = 42;
+
+    @TearDown
+    public void tearDown() {
+        var statistics = ((GroupCommitting) groupCommit).groupCommitters().get("GroupCommittedJournal.append").statistics();
+        System.out.printf("%nFlushes: %d, group committed: %d, mean group size: %.1f, group sizes: %s%n",
+                transactionManager.flushes(), statistics.commits(), statistics.meanGroupSize(), statistics.groupSizes());
+    }
+
+    @Benchmark
+    public long flushPerCommit() {
+        return flushPerCommit.append(entry);
+    }
+
+    @Benchmark
+    public long groupCommit() {
+        return groupCommit.append(entry);
+    }
+}
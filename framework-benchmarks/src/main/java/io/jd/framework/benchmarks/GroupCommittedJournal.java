@@ -0,0 +1,15 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.transactional.GroupCommit;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+@Singleton
+public class GroupCommittedJournal {
+
+    @Transactional
+    @GroupCommit(maxGroupSize = 32, windowMicros = 100)
+    public long append(long entry) {
+        return entry + 1;
+    }
+}
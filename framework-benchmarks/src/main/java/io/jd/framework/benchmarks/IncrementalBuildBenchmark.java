@@ -0,0 +1,116 @@
+package io.jd.framework.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+public class IncrementalBuildBenchmark {
+    private static final String FULL_RECOMPILATION = "Full recompilation is required";
+
+    private final Path projectDir;
+    private final String gradle;
+    private final int beans;
+
+    IncrementalBuildBenchmark(Path projectDir, String gradle, int beans) {
+        this.projectDir = projectDir;
+        this.gradle = gradle;
+        this.beans = beans;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 5) {
+            System.err.println("Usage: IncrementalBuildBenchmark <beans> <iterations> <project dir> <gradle executable> <framework classpath>");
+            System.exit(1);
+        }
+        var benchmark = new IncrementalBuildBenchmark(Path.of(args[2]), args[3], Integer.parseInt(args[0]));
+        benchmark.generateProject(List.of(args[4].split(File.pathSeparator)));
+        benchmark.run(Integer.parseInt(args[1]));
+    }
+
+    void generateProject(List<String> frameworkClasspath) throws IOException {
+        var classpath = frameworkClasspath.stream()
+                .map(entry -> "'%s'".formatted(entry.replace("\\", "/")))
+                .collect(Collectors.joining(", "));
+        write(projectDir.resolve("settings.gradle"), "rootProject.name = 'synthetic-beans'\n");
+        write(projectDir.resolve("build.gradle"), """
+                plugins {
+                    id 'java'
+                }
+
+                dependencies {
+                    implementation files(%1$s)
+                    annotationProcessor files(%1$s)
+                }
+                """.formatted(classpath));
+        SyntheticProject.sources(beans).forEach((name, source) -> write(sourceOf(name), source));
+    }
+
+    void run(int iterations) throws Exception {
+        System.out.printf("Synthetic project with %d beans in %s%n", beans, projectDir);
+        var results = new ArrayList<String>();
+        // the first build warms up the daemon, the later ones are measured
+        build("--rerun-tasks");
+        results.add(measure("full rebuild", iterations, iteration -> {
+        }, "--rerun-tasks"));
+        results.add(measure("non-ABI change", iterations, iteration -> write(sourceOf(SyntheticProject.beanName(1)), SyntheticProject.bean(1, iteration + 1, ""))));
+        results.add(measure("ABI change", iterations, iteration -> write(sourceOf(SyntheticProject.beanName(1)), SyntheticProject.bean(1, 0, """
+
+                    public int extra%d() {
+                        return %d;
+                    }
+                """.formatted(iteration, iteration)))));
+        results.add(measure("no change", iterations, iteration -> {
+        }));
+        results.forEach(System.out::println);
+    }
+
+    private String measure(String scenario, int iterations, IntConsumer change, String... options) throws Exception {
+        var times = new ArrayList<Long>();
+        var recompilations = new ArrayList<String>();
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            change.accept(iteration);
+            var start = System.nanoTime();
+            var output = build(options);
+            times.add(System.nanoTime() - start);
+            recompilations.add(output.contains(FULL_RECOMPILATION) ? "full" : output.contains("Incremental compilation") ? "incremental" : "up-to-date");
+        }
+        var sorted = times.stream().sorted().toList();
+        return "%-15s median %7.1f ms, min %7.1f ms, compilation: %s".formatted(
+                scenario, millis(sorted.get(sorted.size() / 2)), millis(sorted.get(0)), recompilations.stream().distinct().collect(Collectors.joining("/")));
+    }
+
+    private String build(String... options) throws IOException, InterruptedException {
+        var command = new ArrayList<>(List.of(gradle, "--project-dir", projectDir.toString(), "--info", "compileJava"));
+        command.addAll(List.of(options));
+        var process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        var output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Build of the synthetic project failed:%n%s".formatted(output));
+        }
+        return output;
+    }
+
+    private Path sourceOf(String typeName) {
+        return projectDir.resolve("src/main/java/%s.java".formatted(typeName.replace('.', '/')));
+    }
+
+    private static void write(Path path, String content) {
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,38 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.Intercepted;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptedCallBenchmark {
+
+    private final Ledger direct = new Ledger();
+    private Ledger intercepted;
+    private long amount = 42;
+
+    @Setup
+    public void setup() {
+        intercepted = BeanProviderFactory.getInstance().provide(Ledger.class);
+        if (!(intercepted instanceof Intercepted)) {
+            throw new IllegalStateException("Ledger is expected to be provided as its generated $Intercepted subclass");
+        }
+    }
+
+    @Benchmark
+    public long directCall() {
+        return direct.post(amount);
+    }
+
+    @Benchmark
+    public long interceptedCall() {
+        return intercepted.post(amount);
+    }
+}
@@ -0,0 +1,35 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.batch.Batched;
+import jakarta.inject.Singleton;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.stream.Collectors.toMap;
+
+@Singleton
+public class Inventory {
+    static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private final Semaphore connections = new Semaphore(4);
+
+    @Batched(value = "items", maxBatchSize = 32, windowMicros = 200)
+    public Long item(Long id) {
+        return items(List.of(id)).get(id);
+    }
+
+    public Map<Long, Long> items(Collection<Long> ids) {
+        // stands in for a store with a few connections, every call costs the same round trip whatever the number of keys
+        connections.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+        } finally {
+            connections.release();
+        }
+        return ids.stream().collect(toMap(id -> id, id -> id * 7));
+    }
+}
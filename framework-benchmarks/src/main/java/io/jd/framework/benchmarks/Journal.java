@@ -0,0 +1,13 @@
+package io.jd.framework.benchmarks;
+
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+@Singleton
+public class Journal {
+
+    @Transactional
+    public long append(long entry) {
+        return entry + 1;
+    }
+}
@@ -0,0 +1,14 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.Lazy;
+import jakarta.inject.Singleton;
+
+@Lazy
+@Singleton
+public class LazyPricing implements Pricing {
+
+    @Override
+    public long price(long amount) {
+        return amount * 3 + 7;
+    }
+}
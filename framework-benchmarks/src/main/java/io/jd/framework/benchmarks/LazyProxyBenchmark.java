@@ -0,0 +1,37 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.BeanProviderFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyProxyBenchmark {
+
+    private Pricing direct;
+    private Pricing proxy;
+    private long amount = 42;
+
+    @Setup
+    public void setup() {
+        var beanProvider = BeanProviderFactory.getInstance();
+        direct = beanProvider.provide(LazyPricing.class);
+        proxy = beanProvider.provide(Pricing.class);
+        proxy.price(amount);
+    }
+
+    @Benchmark
+    public long directCall() {
+        return direct.price(amount);
+    }
+
+    @Benchmark
+    public long proxyCall() {
+        return proxy.price(amount);
+    }
+}
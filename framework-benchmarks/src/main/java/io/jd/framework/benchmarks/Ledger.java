@@ -0,0 +1,13 @@
+package io.jd.framework.benchmarks;
+
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+@Singleton
+public class Ledger {
+
+    @Transactional
+    public long post(long amount) {
+        return amount * 3 + 7;
+    }
+}
@@ -0,0 +1,48 @@
+package io.jd.framework.benchmarks;
+
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+
+@Singleton
+public class NoOpTransactionManager implements TransactionManager {
+
+    @Override
+    public void begin() {
+    }
+
+    @Override
+    public void commit() throws SecurityException, IllegalStateException {
+    }
+
+    @Override
+    public void rollback() throws IllegalStateException, SecurityException {
+    }
+
+    @Override
+    public int getStatus() {
+        return 0;
+    }
+
+    @Override
+    public Transaction getTransaction() {
+        return null;
+    }
+
+    @Override
+    public void resume(Transaction tobj) throws IllegalStateException {
+    }
+
+    @Override
+    public void setRollbackOnly() throws IllegalStateException {
+    }
+
+    @Override
+    public void setTransactionTimeout(int seconds) {
+    }
+
+    @Override
+    public Transaction suspend() {
+        return null;
+    }
+}
@@ -0,0 +1,5 @@
+package io.jd.framework.benchmarks;
+
+public interface Pricing {
+    long price(long amount);
+}
@@ -0,0 +1,219 @@
+package io.jd.framework.benchmarks;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import io.jd.framework.processor.BeanProcessor;
+import io.jd.framework.processor.RegistryProcessor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class ProcessorScalabilityBenchmark {
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: ProcessorScalabilityBenchmark <comma separated bean counts> <iterations>");
+            System.exit(1);
+        }
+        var iterations = Integer.parseInt(args[1]);
+        // the smallest project warms up javac and the processors
+        compile(sources(100));
+        var results = Stream.of(args[0].split(",")).map(Integer::parseInt).map(beans -> measure(beans, iterations)).toList();
+        results.forEach(System.out::println);
+    }
+
+    private static String measure(int beans, int iterations) {
+        var sources = sources(beans);
+        var processingTimes = new ArrayList<Long>();
+        var filerTimes = new ArrayList<Long>();
+        var compilationTimes = new ArrayList<Long>();
+        var peakHeaps = new ArrayList<Long>();
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            System.gc();
+            heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+            var start = System.nanoTime();
+            var times = compile(sources);
+            compilationTimes.add(System.nanoTime() - start);
+            processingTimes.add(times.processing());
+            filerTimes.add(times.filer());
+            peakHeaps.add(heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum());
+        }
+        // javac checks every created file against all files created before, so the Filer share grows quadratically
+        var processing = median(processingTimes);
+        var filer = median(filerTimes);
+        return "%6d beans: processing median %8.1f ms, in Filer %8.1f ms, outside Filer %5.1f us per bean, compilation median %8.1f ms, peak heap median %5d MB".formatted(
+                beans, millis(processing), millis(filer), (processing - filer) / 1_000.0 / beans, millis(median(compilationTimes)), median(peakHeaps) / (1024 * 1024));
+    }
+
+    private static Times compile(List<JavaFileObject> sources) {
+        var processingTime = new AtomicLong();
+        var filerTime = new AtomicLong();
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new TimedProcessor(new BeanProcessor(), processingTime, filerTime), new TimedProcessor(new RegistryProcessor(), processingTime, filerTime))
+                .compile(sources);
+        if (compilation.status() != Compilation.Status.SUCCESS) {
+            throw new IllegalStateException("Compilation of the synthetic project failed: %s".formatted(compilation.errors()));
+        }
+        return new Times(processingTime.get(), filerTime.get());
+    }
+
+    private static List<JavaFileObject> sources(int beans) {
+        return SyntheticProject.sources(beans).entrySet().stream()
+                .map(source -> JavaFileObjects.forSourceString(source.getKey(), source.getValue()))
+                .toList();
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP).toList();
+    }
+
+    private static long median(List<Long> values) {
+        var sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record Times(long processing, long filer) {
+    }
+
+    private static class TimedProcessor extends AbstractProcessor {
+        private final Processor delegate;
+        private final AtomicLong processingTime;
+        private final AtomicLong filerTime;
+
+        TimedProcessor(Processor delegate, AtomicLong processingTime, AtomicLong filerTime) {
+            this.delegate = delegate;
+            this.processingTime = processingTime;
+            this.filerTime = filerTime;
+        }
+
+        @Override
+        public synchronized void init(ProcessingEnvironment processingEnv) {
+            super.init(processingEnv);
+            delegate.init(new TimedEnvironment(processingEnv));
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return delegate.getSupportedOptions();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return delegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            var start = System.nanoTime();
+            try {
+                return delegate.process(annotations, roundEnv);
+            } finally {
+                processingTime.addAndGet(System.nanoTime() - start);
+            }
+        }
+
+        private <T> T timed(FilerCall<T> call) throws IOException {
+            var start = System.nanoTime();
+            try {
+                return call.call();
+            } finally {
+                filerTime.addAndGet(System.nanoTime() - start);
+            }
+        }
+
+        private interface FilerCall<T> {
+            T call() throws IOException;
+        }
+
+        private class TimedEnvironment implements ProcessingEnvironment {
+            private final ProcessingEnvironment environment;
+
+            TimedEnvironment(ProcessingEnvironment environment) {
+                this.environment = environment;
+            }
+
+            @Override
+            public Filer getFiler() {
+                var filer = environment.getFiler();
+                return new Filer() {
+                    @Override
+                    public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements) throws IOException {
+                        return timed(() -> filer.createSourceFile(name, originatingElements));
+                    }
+
+                    @Override
+                    public JavaFileObject createClassFile(CharSequence name, Element... originatingElements) throws IOException {
+                        return timed(() -> filer.createClassFile(name, originatingElements));
+                    }
+
+                    @Override
+                    public FileObject createResource(JavaFileManager.Location location, CharSequence moduleAndPkg, CharSequence relativeName, Element... originatingElements) throws IOException {
+                        return timed(() -> filer.createResource(location, moduleAndPkg, relativeName, originatingElements));
+                    }
+
+                    @Override
+                    public FileObject getResource(JavaFileManager.Location location, CharSequence moduleAndPkg, CharSequence relativeName) throws IOException {
+                        return timed(() -> filer.getResource(location, moduleAndPkg, relativeName));
+                    }
+                };
+            }
+
+            @Override
+            public Map<String, String> getOptions() {
+                return environment.getOptions();
+            }
+
+            @Override
+            public Messager getMessager() {
+                return environment.getMessager();
+            }
+
+            @Override
+            public Elements getElementUtils() {
+                return environment.getElementUtils();
+            }
+
+            @Override
+            public Types getTypeUtils() {
+                return environment.getTypeUtils();
+            }
+
+            @Override
+            public SourceVersion getSourceVersion() {
+                return environment.getSourceVersion();
+            }
+
+            @Override
+            public Locale getLocale() {
+                return environment.getLocale();
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.metrics.Timed;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class Quotes {
+
+    @Timed
+    public long quote(long amount) {
+        return amount * 3 + 7;
+    }
+}
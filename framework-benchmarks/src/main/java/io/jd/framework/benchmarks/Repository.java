@@ -0,0 +1,7 @@
+package io.jd.framework.benchmarks;
+
+import jakarta.inject.Singleton;
+
+@Singleton
+public class Repository {
+}
@@ -0,0 +1,12 @@
+package io.jd.framework.benchmarks;
+
+import jakarta.inject.Singleton;
+
+@Singleton
+public class Service {
+    private final Repository repository;
+
+    public Service(Repository repository) {
+        this.repository = repository;
+    }
+}
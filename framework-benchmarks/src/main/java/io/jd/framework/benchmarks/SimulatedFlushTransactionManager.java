@@ -0,0 +1,77 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.transactional.FlushingTransactionManager;
+import jakarta.transaction.Transaction;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class SimulatedFlushTransactionManager implements FlushingTransactionManager {
+    static final long FLUSH_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    // one log device, flushes queue up behind each other like fsyncs of the same file
+    private final ReentrantLock device = new ReentrantLock();
+    private final LongAdder flushes = new LongAdder();
+
+    @Override
+    public void begin() {
+    }
+
+    @Override
+    public void commit() {
+        commitWithoutFlush();
+        flush();
+    }
+
+    @Override
+    public void commitWithoutFlush() {
+    }
+
+    @Override
+    public void flush() {
+        device.lock();
+        try {
+            LockSupport.parkNanos(FLUSH_NANOS);
+            flushes.increment();
+        } finally {
+            device.unlock();
+        }
+    }
+
+    long flushes() {
+        return flushes.sum();
+    }
+
+    @Override
+    public int getStatus() {
+        return 0;
+    }
+
+    @Override
+    public Transaction getTransaction() {
+        return null;
+    }
+
+    @Override
+    public void resume(Transaction transaction) {
+    }
+
+    @Override
+    public void rollback() {
+    }
+
+    @Override
+    public void setRollbackOnly() {
+    }
+
+    @Override
+    public void setTransactionTimeout(int seconds) {
+    }
+
+    @Override
+    public Transaction suspend() {
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.BeanProviderFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Benchmark
+    public Service indexedStartup() {
+        return BeanProviderFactory.getInstance().provide(Service.class);
+    }
+
+    @Benchmark
+    public Service scanningStartup() {
+        return BeanProviderFactory.getInstanceByScanning().provide(Service.class);
+    }
+}
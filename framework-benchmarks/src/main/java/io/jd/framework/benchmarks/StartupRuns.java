@@ -0,0 +1,58 @@
+package io.jd.framework.benchmarks;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+final class StartupRuns {
+    private StartupRuns() {
+    }
+
+    static void run(int runs, Map<String, List<String>> variants, Measurement measurement) throws Exception {
+        var results = new LinkedHashMap<String, Map<String, List<Long>>>();
+        for (int run = 0; run < runs; run++) {
+            // variants take turns, so drift of the machine load affects all of them alike
+            for (var variant : variants.entrySet()) {
+                var metrics = results.computeIfAbsent(variant.getKey(), ignored -> new LinkedHashMap<>());
+                measure(variant.getValue(), measurement).forEach((metric, nanos) -> metrics.computeIfAbsent(metric, ignored -> new ArrayList<>()).add(nanos));
+            }
+        }
+        results.forEach((variant, metrics) -> System.out.println(summary(variant, metrics)));
+    }
+
+    private static Map<String, Long> measure(List<String> arguments, Measurement measurement) throws Exception {
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(arguments);
+        var start = System.nanoTime();
+        var process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        return measurement.measure(process, start);
+    }
+
+    private static String summary(String variant, Map<String, List<Long>> metrics) {
+        var runs = metrics.values().stream().mapToInt(List::size).max().orElse(0);
+        return "%-25s %s (%d runs)".formatted(variant, metrics.entrySet().stream()
+                .map(metric -> "%s median %6.1f ms, min %6.1f ms".formatted(metric.getKey(), millis(median(metric.getValue())), millis(min(metric.getValue()))))
+                .collect(Collectors.joining("; ")), runs);
+    }
+
+    private static long median(List<Long> times) {
+        return times.stream().sorted().toList().get(times.size() / 2);
+    }
+
+    private static long min(List<Long> times) {
+        return times.stream().mapToLong(Long::longValue).min().orElse(0);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    interface Measurement {
+        // nanoseconds from the start of the process to each measured point, in the order they are reported
+        Map<String, Long> measure(Process process, long start) throws Exception;
+    }
+}
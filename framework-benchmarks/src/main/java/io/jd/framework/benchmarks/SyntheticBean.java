@@ -0,0 +1,4 @@
+package io.jd.framework.benchmarks;
+
+public interface SyntheticBean {
+}
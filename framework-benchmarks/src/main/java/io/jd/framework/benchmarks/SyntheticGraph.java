@@ -0,0 +1,19 @@
+package io.jd.framework.benchmarks;
+
+final class SyntheticGraph {
+    private SyntheticGraph() {
+    }
+
+    static String packageName(int beans, int depth) {
+        return "synthetic.b%dd%d".formatted(beans, depth);
+    }
+
+    static Class<?> deepestBean(int beans, int depth) {
+        // beans are generated in layers, the last one depends on a chain reaching through all of them
+        try {
+            return Class.forName("%s.Bean%d".formatted(packageName(beans, depth), beans - 1));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Synthetic graph of %d beans and depth %d was not generated".formatted(beans, depth), e);
+        }
+    }
+}
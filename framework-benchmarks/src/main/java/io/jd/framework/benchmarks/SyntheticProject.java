@@ -0,0 +1,88 @@
+package io.jd.framework.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class SyntheticProject {
+    private static final int BEANS_PER_PACKAGE = 50;
+
+    private SyntheticProject() {
+    }
+
+    static Map<String, String> sources(int beans) {
+        var sources = new LinkedHashMap<String, String>();
+        for (int bean = 0; bean < beans; bean++) {
+            sources.put(beanName(bean), bean(bean, 0, ""));
+        }
+        for (int packageIndex = 0; packageIndex * BEANS_PER_PACKAGE < beans; packageIndex++) {
+            sources.put("%s.Controller".formatted(packageOf(packageIndex * BEANS_PER_PACKAGE)), controller(packageIndex));
+        }
+        return sources;
+    }
+
+    static String beanName(int bean) {
+        return "%s.Bean%d".formatted(packageOf(bean), bean);
+    }
+
+    static String bean(int bean, int revision, String extraMethods) {
+        // beans form a chain within a package, every tenth one is intercepted to exercise the transactional plugin
+        var previous = bean % BEANS_PER_PACKAGE == 0 ? null : "Bean%d".formatted(bean - 1);
+        var transactional = bean % 10 == 5;
+        return """
+                package %s;
+
+                import jakarta.inject.Singleton;
+                %s
+                @Singleton
+                public class Bean%d {
+                %s
+                    public Bean%d(%s) {
+                %s    }
+
+                %s    public int value() {
+                        return %s%d;
+                    }
+                %s}
+                """.formatted(
+                packageOf(bean),
+                transactional ? "import jakarta.transaction.Transactional;\n" : "",
+                bean,
+                previous == null ? "" : "    private final %s previous;\n".formatted(previous),
+                bean,
+                previous == null ? "" : "%s previous".formatted(previous),
+                previous == null ? "" : "        this.previous = previous;\n",
+                transactional ? "    @Transactional\n" : "",
+                previous == null ? "" : "previous.value() + ",
+                bean + revision,
+                extraMethods
+        );
+    }
+
+    private static String controller(int packageIndex) {
+        return """
+                package %1$s;
+
+                import io.jd.framework.webapp.HttpMethod;
+                import io.jd.framework.webapp.RequestHandle;
+                import jakarta.inject.Singleton;
+
+                @Singleton
+                public class Controller {
+                    private final Bean%2$d first;
+
+                    public Controller(Bean%2$d first) {
+                        this.first = first;
+                    }
+
+                    @RequestHandle(value = "/p%3$04d", method = HttpMethod.GET)
+                    public int value() {
+                        return first.value();
+                    }
+                }
+                """.formatted(packageOf(packageIndex * BEANS_PER_PACKAGE), packageIndex * BEANS_PER_PACKAGE, packageIndex);
+    }
+
+    private static String packageOf(int bean) {
+        return "synthetic.p%04d".formatted(bean / BEANS_PER_PACKAGE);
+    }
+}
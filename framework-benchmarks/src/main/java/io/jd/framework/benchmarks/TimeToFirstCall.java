@@ -0,0 +1,49 @@
+package io.jd.framework.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TimeToFirstCall {
+    private final String marker;
+
+    TimeToFirstCall(String marker) {
+        this.marker = marker;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5 || (args.length - 2) % 3 != 0) {
+            System.err.println("Usage: TimeToFirstCall <runs> <marker> (<variant> <classpath> <main class>)...");
+            System.exit(1);
+        }
+        var variants = new LinkedHashMap<String, List<String>>();
+        for (int i = 2; i < args.length; i += 3) {
+            variants.put(args[i], List.of("-cp", args[i + 1], args[i + 2]));
+        }
+        var benchmark = new TimeToFirstCall(args[1]);
+        StartupRuns.run(Integer.parseInt(args[0]), variants, benchmark::measure);
+    }
+
+    private Map<String, Long> measure(Process process, long start) throws Exception {
+        var firstCall = -1L;
+        try (var reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (firstCall < 0 && line.contains(marker)) {
+                    firstCall = System.nanoTime() - start;
+                }
+            }
+        }
+        var exitCode = process.waitFor();
+        var exit = System.nanoTime() - start;
+        if (exitCode != 0 || firstCall < 0) {
+            throw new IllegalStateException("Application exited with %d before printing '%s'".formatted(exitCode, marker));
+        }
+        var times = new LinkedHashMap<String, Long>();
+        times.put("first call", firstCall);
+        times.put("exit", exit);
+        return times;
+    }
+}
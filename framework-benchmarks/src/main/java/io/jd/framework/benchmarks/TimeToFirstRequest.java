@@ -0,0 +1,96 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.WarmupPhase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+public class TimeToFirstRequest {
+    private static final Pattern PORT_LINE = Pattern.compile("Port: (\\d+)");
+
+    private final String classpath;
+    private final String mainClass;
+    private final String path;
+    private final String body;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    TimeToFirstRequest(String classpath, String mainClass, String path, String body) {
+        this.classpath = classpath;
+        this.mainClass = mainClass;
+        this.path = path;
+        this.body = body;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 6) {
+            System.err.println("Usage: TimeToFirstRequest <runs> <archive> <classpath> <main class> <path> <body>");
+            System.exit(1);
+        }
+        var runs = Integer.parseInt(args[0]);
+        var archive = Path.of(args[1]);
+        if (!Files.exists(archive)) {
+            throw new IllegalArgumentException("AppCDS archive %s does not exist, run the training first".formatted(archive));
+        }
+        var benchmark = new TimeToFirstRequest(args[2], args[3], args[4], args[5]);
+        // the warmup phase runs before the port is reported, so it is measured only by a variant of its own
+        var withoutWarmup = "-D%s=false".formatted(WarmupPhase.ENABLED_PROPERTY);
+        var variants = new LinkedHashMap<String, List<String>>();
+        variants.put("default CDS", benchmark.command(withoutWarmup));
+        variants.put("AppCDS archive", benchmark.command(withoutWarmup, "-XX:SharedArchiveFile=" + archive));
+        variants.put("AppCDS with warmup", benchmark.command("-XX:SharedArchiveFile=" + archive));
+        StartupRuns.run(runs, variants, benchmark::measure);
+    }
+
+    private List<String> command(String... jvmOptions) {
+        var command = new ArrayList<>(List.of(jvmOptions));
+        command.addAll(List.of("-cp", classpath, mainClass));
+        return command;
+    }
+
+    private Map<String, Long> measure(Process process, long start) throws Exception {
+        try {
+            var port = awaitPort(process);
+            var request = HttpRequest.newBuilder(URI.create("http://localhost:%s%s".formatted(port, path)))
+                    .POST(BodyPublishers.ofString(body))
+                    .build();
+            var response = client.send(request, BodyHandlers.discarding());
+            var elapsed = System.nanoTime() - start;
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException("First request failed with status %s".formatted(response.statusCode()));
+            }
+            return Map.of("first request", elapsed);
+        } finally {
+            // the application stops once its input is closed
+            process.getOutputStream().close();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static int awaitPort(Process process) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            var matcher = PORT_LINE.matcher(line);
+            if (matcher.matches()) {
+                return Integer.parseInt(matcher.group(1));
+            }
+        }
+        throw new IllegalStateException("Application exited before reporting its port");
+    }
+}
@@ -0,0 +1,53 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.metrics.LatencyHistogram;
+import io.jd.framework.metrics.Metered;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+public class TimedCallBenchmark {
+
+    private final Quotes direct = new Quotes();
+    // a single stripe shows what the recording would cost if all threads shared one set of counters
+    private final LatencyHistogram singleStripe = new LatencyHistogram("single stripe", 1);
+    private final LatencyHistogram striped = new LatencyHistogram("striped");
+    private Quotes timed;
+    private long amount = 42;
+
+    @Setup
+    public void setup() {
+        timed = BeanProviderFactory.getInstance().provide(Quotes.class);
+        if (!(timed instanceof Metered)) {
+            throw new IllegalStateException("Quotes are expected to be provided as their generated $Intercepted subclass");
+        }
+    }
+
+    @Benchmark
+    public long directCall() {
+        return direct.quote(amount);
+    }
+
+    @Benchmark
+    public long timedCall() {
+        return timed.quote(amount);
+    }
+
+    @Benchmark
+    public void recordStriped() {
+        striped.record(amount);
+    }
+
+    @Benchmark
+    public void recordSingleStripe() {
+        singleStripe.record(amount);
+    }
+}
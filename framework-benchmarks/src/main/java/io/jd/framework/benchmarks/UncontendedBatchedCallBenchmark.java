@@ -0,0 +1,44 @@
+package io.jd.framework.benchmarks;
+
+import io.jd.framework.batch.Batcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class UncontendedBatchedCallBenchmark {
+
+    // a caller alone holds the window open in vain, so its whole length is added to every call
+    @Param({"0", "50", "1000"})
+    private long windowMicros;
+
+    private final Function<List<Long>, Map<Long, Long>> bulk = ids -> ids.stream().collect(toMap(id -> id, id -> id * 7));
+    private Batcher<Long, Long> batcher;
+    private long id = 42;
+
+    @Setup
+    public void setup() {
+        batcher = Batcher.of("uncontended", 32, windowMicros, bulk);
+    }
+
+    @Benchmark
+    public Long directCall() {
+        return bulk.apply(List.of(id)).get(id);
+    }
+
+    @Benchmark
+    public Long batchedCall() {
+        return batcher.load(id);
+    }
+}
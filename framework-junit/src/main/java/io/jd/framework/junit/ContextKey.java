@@ -0,0 +1,21 @@
+package io.jd.framework.junit;
+
+import io.jd.framework.BeanDefinition;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+record ContextKey(List<String> packages, List<Class<? extends BeanDefinition<?>>> overrides) {
+    static final ContextKey DEFAULT = new ContextKey(List.of(), List.of());
+
+    static ContextKey of(FrameworkTest configuration) {
+        return new ContextKey(
+                Stream.of(configuration.packages()).sorted().distinct().toList(),
+                List.of(configuration.overrides())
+        );
+    }
+
+    ContextKey withoutOverrides() {
+        return new ContextKey(packages, List.of());
+    }
+}
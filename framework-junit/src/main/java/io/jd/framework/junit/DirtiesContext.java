@@ -0,0 +1,10 @@
+package io.jd.framework.junit;
+
+import java.lang.annotation.*;
+
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface DirtiesContext {
+}
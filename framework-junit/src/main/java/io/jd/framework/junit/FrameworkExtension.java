@@ -0,0 +1,107 @@
+package io.jd.framework.junit;
+
+import io.jd.framework.BeanDefinition;
+import io.jd.framework.BeanProvider;
+import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.tests.ServerContainer;
+import org.junit.jupiter.api.extension.*;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+
+import java.lang.reflect.AnnotatedElement;
+
+import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
+import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
+
+public class FrameworkExtension implements ParameterResolver, AfterEachCallback, AfterAllCallback {
+    private static final Namespace NAMESPACE = Namespace.create(FrameworkExtension.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        var type = parameterContext.getParameter().getType();
+        return type == BeanProvider.class
+                || type == ServerContainer.class
+                || context(extensionContext).beanProvider().canProvide(type);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        var context = context(extensionContext);
+        var type = parameterContext.getParameter().getType();
+        if (type == BeanProvider.class) {
+            return context.beanProvider();
+        } else if (type == ServerContainer.class) {
+            try {
+                return context.startedServer();
+            } catch (Exception e) {
+                throw new ParameterResolutionException("Failed to start server container", e);
+            }
+        }
+        return context.beanProvider().provide(type);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext extensionContext) throws Exception {
+        markDirtyIfAnnotated(extensionContext, extensionContext.getRequiredTestMethod());
+    }
+
+    @Override
+    public void afterAll(ExtensionContext extensionContext) throws Exception {
+        markDirtyIfAnnotated(extensionContext, extensionContext.getRequiredTestClass());
+    }
+
+    private void markDirtyIfAnnotated(ExtensionContext extensionContext, AnnotatedElement element) throws Exception {
+        if (isAnnotated(element, DirtiesContext.class)) {
+            close(store(extensionContext), key(extensionContext));
+        }
+    }
+
+    private void close(Store store, ContextKey key) throws Exception {
+        var dirty = store.remove(key, TestContext.class);
+        if (dirty != null) {
+            // children delegate to the dirty context, so they cannot outlive it
+            for (ContextKey child : dirty.children()) {
+                close(store, child);
+            }
+            dirty.close();
+        }
+    }
+
+    private TestContext context(ExtensionContext extensionContext) {
+        return context(store(extensionContext), key(extensionContext));
+    }
+
+    private TestContext context(Store store, ContextKey key) {
+        return store.getOrComputeIfAbsent(key, ignored -> createContext(store, key), TestContext.class);
+    }
+
+    private TestContext createContext(Store store, ContextKey key) {
+        var packages = key.packages().toArray(String[]::new);
+        if (key.overrides().isEmpty()) {
+            return new TestContext(BeanProviderFactory.getInstance(packages));
+        }
+        var parent = context(store, key.withoutOverrides());
+        var overrides = key.overrides().stream().map(FrameworkExtension::instantiate).toArray(BeanDefinition<?>[]::new);
+        var child = new TestContext(BeanProviderFactory.getChildInstance(parent.beanProvider(), overrides));
+        parent.addChild(key);
+        return child;
+    }
+
+    private static BeanDefinition<?> instantiate(Class<? extends BeanDefinition<?>> definitionType) {
+        try {
+            return definitionType.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new ExtensionConfigurationException("Cannot instantiate overriding definition %s".formatted(definitionType.getName()), e);
+        }
+    }
+
+    private static ContextKey key(ExtensionContext extensionContext) {
+        return findAnnotation(extensionContext.getRequiredTestClass(), FrameworkTest.class)
+                .map(ContextKey::of)
+                .orElse(ContextKey.DEFAULT);
+    }
+
+    private static Store store(ExtensionContext extensionContext) {
+        return extensionContext.getRoot().getStore(NAMESPACE);
+    }
+}
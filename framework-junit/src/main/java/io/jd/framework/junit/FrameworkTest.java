@@ -0,0 +1,18 @@
+package io.jd.framework.junit;
+
+import io.jd.framework.BeanDefinition;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.*;
+
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@ExtendWith(FrameworkExtension.class)
+public @interface FrameworkTest {
+
+    String[] packages() default {};
+
+    Class<? extends BeanDefinition<?>>[] overrides() default {};
+}
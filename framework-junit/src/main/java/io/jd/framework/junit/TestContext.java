@@ -0,0 +1,49 @@
+package io.jd.framework.junit;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.tests.ServerContainer;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+final class TestContext implements ExtensionContext.Store.CloseableResource {
+    private final BeanProvider beanProvider;
+    private final Set<ContextKey> children = new LinkedHashSet<>();
+    private ServerContainer startedServer;
+
+    TestContext(BeanProvider beanProvider) {
+        this.beanProvider = beanProvider;
+    }
+
+    BeanProvider beanProvider() {
+        return beanProvider;
+    }
+
+    synchronized void addChild(ContextKey key) {
+        children.add(key);
+    }
+
+    synchronized List<ContextKey> children() {
+        return List.copyOf(children);
+    }
+
+    synchronized ServerContainer startedServer() throws Exception {
+        if (startedServer == null) {
+            var serverContainer = beanProvider.provide(ServerContainer.class);
+            serverContainer.start();
+            startedServer = serverContainer;
+        }
+        return startedServer;
+    }
+
+    @Override
+    public synchronized void close() throws Exception {
+        if (startedServer != null) {
+            startedServer.stop();
+            startedServer = null;
+        }
+        beanProvider.close();
+    }
+}
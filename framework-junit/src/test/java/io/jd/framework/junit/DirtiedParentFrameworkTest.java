@@ -0,0 +1,55 @@
+package io.jd.framework.junit;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.tests.ServerContainer;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+class DirtiedParentFrameworkTest {
+    private static BeanProvider firstChild;
+    private static ServerContainer firstServerContainer;
+
+    @Nested
+    @Order(1)
+    @FrameworkTest(overrides = OverridingFrameworkTest.MarkerDefinition.class)
+    class BeforeParentIsDirtied {
+
+        @Test
+        void shouldCreateChildOfParentContext(BeanProvider beanProvider) {
+            firstChild = beanProvider;
+            firstServerContainer = beanProvider.provide(ServerContainer.class);
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @FrameworkTest
+    class DirtyingParent {
+
+        @Test
+        @DirtiesContext
+        void shouldShareServerContainerWithChild(ServerContainer serverContainer) {
+            assertSame(firstServerContainer, serverContainer);
+        }
+    }
+
+    @Nested
+    @Order(3)
+    @FrameworkTest(overrides = OverridingFrameworkTest.MarkerDefinition.class)
+    class AfterParentIsDirtied {
+
+        @Test
+        void shouldCreateNewChildOfNewParentContext(BeanProvider beanProvider, OverridingFrameworkTest.Marker marker) {
+            assertNotNull(firstChild);
+            assertNotSame(firstChild, beanProvider);
+            assertNotSame(firstServerContainer, beanProvider.provide(ServerContainer.class));
+            assertSame(OverridingFrameworkTest.MarkerDefinition.MARKER, marker);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.jd.framework.junit;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.tests.ServerContainer;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@FrameworkTest
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class FrameworkExtensionTest {
+    private static BeanProvider firstBeanProvider;
+
+    private final BeanProvider beanProvider;
+
+    FrameworkExtensionTest(BeanProvider beanProvider) {
+        this.beanProvider = beanProvider;
+    }
+
+    @Test
+    @Order(1)
+    void shouldInjectTheSameContextIntoConstructorAndMethods(BeanProvider injected) {
+        firstBeanProvider = injected;
+
+        assertSame(beanProvider, injected);
+    }
+
+    @Test
+    @Order(2)
+    void shouldInjectStartedServerContainerFromContext(ServerContainer serverContainer, ServerContainer again) {
+        assertSame(beanProvider.provide(ServerContainer.class), serverContainer);
+        assertSame(serverContainer, again);
+        assertTrue(serverContainer.port() > 0);
+    }
+
+    @Test
+    @Order(3)
+    @DirtiesContext
+    void shouldReuseCachedContext() {
+        assertSame(firstBeanProvider, beanProvider);
+    }
+
+    @Test
+    @Order(4)
+    void shouldCreateNewContextAfterContextWasMarkedDirty() {
+        assertNotNull(firstBeanProvider);
+        assertNotSame(firstBeanProvider, beanProvider);
+    }
+}
@@ -0,0 +1,36 @@
+package io.jd.framework.junit;
+
+import io.jd.framework.BeanDefinition;
+import io.jd.framework.BeanProvider;
+import io.jd.framework.tests.ServerContainer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@FrameworkTest(overrides = OverridingFrameworkTest.MarkerDefinition.class)
+class OverridingFrameworkTest {
+
+    @Test
+    void shouldInjectBeansDefinedByOverrides(Marker marker, BeanProvider beanProvider) {
+        assertSame(MarkerDefinition.MARKER, marker);
+        assertNotNull(beanProvider.provide(ServerContainer.class));
+    }
+
+    record Marker() {
+    }
+
+    public static class MarkerDefinition implements BeanDefinition<Marker> {
+        static final Marker MARKER = new Marker();
+
+        @Override
+        public Marker create(BeanProvider beanProvider) {
+            return MARKER;
+        }
+
+        @Override
+        public Class<Marker> type() {
+            return Marker.class;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.async.Async;
+import io.jd.framework.async.AsyncExecutor;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncInterceptedTest {
+
+    AsyncExecutor executor = AsyncExecutor.platform(2, 10);
+    SlowLookups lookups = new SlowLookups$Intercepted(executor);
+
+    @AfterEach
+    void closeExecutor() {
+        executor.close();
+    }
+
+    @Test
+    void shouldFanOutCallsConcurrently() throws Exception {
+        // each lookup waits for the other one, so they complete only if both run at the same time
+        var barrier = new CyclicBarrier(2);
+
+        var first = lookups.lookup(barrier, "first");
+        var second = lookups.lookup(barrier, "second");
+
+        assertEquals("first second", first.thenCombine(second, (a, b) -> a + " " + b).toCompletableFuture().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldRunVoidMethodOutsideOfCallerThread() throws Exception {
+        var caller = Thread.currentThread();
+        var worker = new CompletableFuture<Thread>();
+
+        lookups.touch(worker);
+
+        assertNotSame(caller, worker.get(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.statistics().queued());
+    }
+
+    @Test
+    void shouldInjectDefaultExecutorOfProvider() {
+        var beanProvider = BeanProviderFactory.getInstance();
+        var defaultExecutor = beanProvider.provide(AsyncExecutor.class);
+
+        assertNotNull(beanProvider.provide(SlowLookups.class));
+        beanProvider.close();
+
+        assertThrows(RejectedExecutionException.class, () -> defaultExecutor.execute(() -> {
+        }));
+    }
+}
+
+@Singleton
+class SlowLookups {
+
+    @Async
+    CompletionStage<String> lookup(CyclicBarrier barrier, String name) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+            return CompletableFuture.completedFuture(name);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Async
+    void touch(CompletableFuture<Thread> worker) {
+        worker.complete(Thread.currentThread());
+    }
+}
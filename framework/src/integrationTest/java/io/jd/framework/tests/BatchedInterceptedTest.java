@@ -0,0 +1,77 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.batch.Batched;
+import io.jd.framework.batch.Batching;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BatchedInterceptedTest {
+
+    BatchedVenues venues = new BatchedVenues$Intercepted();
+
+    @Test
+    void shouldCoalesceConcurrentLookupsIntoBulkCall() throws Exception {
+        var pool = Executors.newFixedThreadPool(8);
+        try {
+            var results = new ArrayList<Future<Venue>>();
+            for (int id = 0; id < 8; id++) {
+                var venueId = new VenueId(id);
+                results.add(pool.submit(() -> venues.venue(venueId)));
+            }
+
+            for (int id = 0; id < 8; id++) {
+                assertEquals(new VenueId(id), results.get(id).get(5, TimeUnit.SECONDS).id());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, venues.roundTrips.get());
+        var statistics = ((Batching) venues).batchers().get("BatchedVenues.venue").statistics();
+        assertEquals(Map.of(8, 1L), statistics.batchSizes());
+    }
+
+    @Test
+    void shouldReturnNullForKeyMissingFromBulkResult() {
+        assertNull(venues.quickVenue(new VenueId(-1)));
+    }
+}
+
+record VenueId(int id) {
+}
+
+record Venue(VenueId id) {
+}
+
+@Singleton
+class BatchedVenues {
+    final AtomicInteger roundTrips = new AtomicInteger();
+
+    @Batched(value = "venues", maxBatchSize = 8, windowMicros = 30_000_000)
+    Venue venue(VenueId id) {
+        throw new UnsupportedOperationException("venues are looked up in bulk");
+    }
+
+    @Batched("venues")
+    Venue quickVenue(VenueId id) {
+        throw new UnsupportedOperationException("venues are looked up in bulk");
+    }
+
+    Map<VenueId, Venue> venues(Collection<VenueId> ids) {
+        roundTrips.incrementAndGet();
+        return ids.stream().filter(id -> id.id() >= 0).collect(toMap(id -> id, Venue::new));
+    }
+}
@@ -0,0 +1,111 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.cache.CacheEvict;
+import io.jd.framework.cache.Cacheable;
+import io.jd.framework.cache.Cached;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CacheInterceptedTest {
+
+    NotWiseTransactionalManager manager = new NotWiseTransactionalManager();
+    CachedCustomers customers = new CachedCustomers$Intercepted(manager);
+
+    @Test
+    void shouldServeRepeatedCallsFromCache() {
+        var first = customers.customer(new CustomerId(1));
+        var second = customers.customer(new CustomerId(1));
+
+        assertSame(first, second);
+        assertEquals(1, customers.loads.get());
+        var statistics = ((Cached) customers).caches().get("customers").statistics();
+        assertEquals(1, statistics.hits());
+        assertEquals(1, statistics.misses());
+    }
+
+    @Test
+    void shouldSkipTransactionOnCacheHit() {
+        customers.customer(new CustomerId(1));
+        customers.customer(new CustomerId(1));
+
+        assertEquals(1, manager.beginCounter().get());
+        assertEquals(1, manager.commitCounter().get());
+    }
+
+    @Test
+    void shouldLoadAgainAfterEviction() {
+        customers.customer(new CustomerId(1));
+        customers.customer(new CustomerId(2));
+
+        customers.rename(new CustomerId(1), "renamed");
+
+        assertEquals("renamed", customers.customer(new CustomerId(1)).name());
+        customers.customer(new CustomerId(2));
+        assertEquals(3, customers.loads.get());
+    }
+
+    @Test
+    void shouldCacheByAllArguments() {
+        customers.search("a", 1);
+        customers.search("a", 1);
+        customers.search("a", 2);
+
+        assertEquals(2, customers.loads.get());
+    }
+
+    @Test
+    void shouldNotCacheMissingValues() {
+        assertNull(customers.customer(new CustomerId(-1)));
+        assertNull(customers.customer(new CustomerId(-1)));
+
+        assertEquals(2, customers.loads.get());
+    }
+
+    @Test
+    void shouldBoundCacheSize() {
+        for (int id = 0; id < 1000; id++) {
+            customers.customer(new CustomerId(id));
+        }
+
+        var statistics = ((Cached) customers).caches().get("customers").statistics();
+        assertEquals(100, statistics.size());
+        assertEquals(900, statistics.evictions());
+    }
+}
+
+record CustomerId(int id) {
+}
+
+record Customer(CustomerId id, String name) {
+}
+
+@Singleton
+class CachedCustomers {
+    final AtomicInteger loads = new AtomicInteger();
+    private final java.util.Map<CustomerId, String> names = new java.util.concurrent.ConcurrentHashMap<>();
+
+    @Transactional
+    @Cacheable(value = "customers", maximumSize = 100)
+    Customer customer(CustomerId id) {
+        loads.incrementAndGet();
+        return id.id() < 0 ? null : new Customer(id, names.getOrDefault(id, "customer" + id.id()));
+    }
+
+    @Cacheable("searches")
+    String search(String phrase, int page) {
+        loads.incrementAndGet();
+        return phrase + page;
+    }
+
+    @CacheEvict("customers")
+    void rename(CustomerId id, String name) {
+        names.put(id, name);
+    }
+}
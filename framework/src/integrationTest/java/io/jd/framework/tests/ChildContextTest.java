@@ -0,0 +1,26 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProviderFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChildContextTest {
+
+    @Test
+    void shouldOverrideBeansInChildAndShareTheRest() {
+        var parent = BeanProviderFactory.getInstance();
+        var child = BeanProviderFactory.getChildInstance(parent, new $ServiceB$Definition());
+
+        assertNotSame(parent.provide(ServiceB.class), child.provide(ServiceB.class));
+        assertSame(parent.provide(ServiceA.class), child.provide(ServiceA.class));
+        assertSame(parent.provide(ServiceC.class), child.provide(ServiceC.class));
+        assertEquals(3, child.provideAll(Service.class).size());
+        assertTrue(child.provideAll(Service.class).contains(child.provide(ServiceB.class)));
+    }
+
+    @Test
+    void shouldRejectParentNotCreatedByFactory() {
+        assertThrows(IllegalArgumentException.class, () -> BeanProviderFactory.getChildInstance(new $TestComponent$Component()));
+    }
+}
@@ -0,0 +1,83 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.async.AsyncExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentTest {
+    private final BeanProvider beanProvider = new $TestComponent$Component();
+
+    @Test
+    void shouldWireSingletonsThroughConstructors() {
+        var serviceC = beanProvider.provide(ServiceC.class);
+
+        assertSame(serviceC, beanProvider.provide(ServiceC.class));
+        assertTrue(beanProvider.provideAll(Service.class).contains(serviceC));
+    }
+
+    @Test
+    void shouldProvideInterceptedBeanInsteadOfSupersededOne() {
+        assertInstanceOf(RepositoryA$Intercepted.class, beanProvider.provide(RepositoryA.class));
+    }
+
+    @Test
+    void shouldProvideAllBeansOfGivenType() {
+        assertEquals(3, beanProvider.provideAll(Service.class).size());
+        assertNotNull(beanProvider.provide(Services.class));
+        assertTrue(beanProvider.provideAll(ExampleController.class).contains(beanProvider.provide(ExampleController.class)));
+    }
+
+    @Test
+    void shouldFailForAmbiguousOrMissingBeans() {
+        var ambiguous = assertThrows(IllegalStateException.class, () -> beanProvider.provide(Service.class));
+        var missing = assertThrows(IllegalStateException.class, () -> beanProvider.provide(ComponentTest.class));
+
+        assertEquals("More than one bean of given type: 'io.jd.framework.tests.Service'", ambiguous.getMessage());
+        assertEquals("No bean of given type: 'io.jd.framework.tests.ComponentTest'", missing.getMessage());
+        assertTrue(beanProvider.provideAll(ComponentTest.class).isEmpty());
+    }
+
+    @Test
+    void shouldAnswerCanProvideFromBeanTypes() {
+        assertTrue(beanProvider.canProvide(ServiceC.class));
+        assertTrue(beanProvider.canProvide(PrototypeBean.class));
+        assertFalse(beanProvider.canProvide(Service.class));
+        assertFalse(beanProvider.canProvide(ComponentTest.class));
+        assertFalse(beanProvider.canProvide(PooledBean.class));
+    }
+
+    @Test
+    void shouldKeepScopesOfNonSingletonBeans() {
+        assertNotSame(beanProvider.provide(PrototypeBean.class), beanProvider.provide(PrototypeBean.class));
+        assertNotSame(beanProvider.providerOf(PrototypeBean.class).get(), beanProvider.providerOf(PrototypeBean.class).get());
+
+        var pool = beanProvider.provide(PooledBeanUser.class).pool();
+        var borrowed = pool.borrow();
+        pool.release(borrowed);
+        assertSame(borrowed, pool.borrow());
+    }
+
+    @Test
+    void shouldResolveDeferredProvidersThroughComponent() {
+        var deferredServices = beanProvider.provide(DeferredServices.class);
+
+        assertSame(beanProvider.provide(ServiceC.class), deferredServices.serviceC().get());
+        assertEquals(3, deferredServices.services().get().size());
+    }
+
+    @Test
+    void shouldWireDefaultAsyncExecutorAndShutItDownOnClose() {
+        var component = new $TestComponent$Component();
+        var executor = component.provide(AsyncExecutor.class);
+
+        assertInstanceOf(SlowLookups$Intercepted.class, component.provide(SlowLookups.class));
+        component.close();
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+    }
+}
@@ -0,0 +1,55 @@
+package io.jd.framework.tests;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Singleton
+class DeferredLifecycleEvents {
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    void record(String event) {
+        events.add(event);
+    }
+
+    List<String> events() {
+        return List.copyOf(events);
+    }
+}
+
+@Singleton
+class DeferredResource {
+    private final DeferredLifecycleEvents events;
+
+    DeferredResource(DeferredLifecycleEvents events) {
+        this.events = events;
+    }
+
+    @PreDestroy
+    void close() {
+        events.record("resource destroyed");
+    }
+}
+
+@Singleton
+class DeferredResourceUser {
+    private final DeferredLifecycleEvents events;
+    private final Provider<DeferredResource> resource;
+
+    DeferredResourceUser(DeferredLifecycleEvents events, Provider<DeferredResource> resource) {
+        this.events = events;
+        this.resource = resource;
+    }
+
+    DeferredResource resource() {
+        return resource.get();
+    }
+
+    @PreDestroy
+    void close() {
+        events.record("user destroyed");
+    }
+}
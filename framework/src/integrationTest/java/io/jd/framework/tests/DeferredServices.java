@@ -0,0 +1,25 @@
+package io.jd.framework.tests;
+
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import java.util.Collection;
+
+@Singleton
+public class DeferredServices {
+    private final Provider<ServiceC> serviceC;
+    private final Provider<Collection<Service>> services;
+
+    public DeferredServices(Provider<ServiceC> serviceC, Provider<Collection<Service>> services) {
+        this.serviceC = serviceC;
+        this.services = services;
+    }
+
+    public Provider<ServiceC> serviceC() {
+        return serviceC;
+    }
+
+    public Provider<Collection<Service>> services() {
+        return services;
+    }
+}
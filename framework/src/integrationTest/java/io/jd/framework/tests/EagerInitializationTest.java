@@ -0,0 +1,36 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.BeanProviderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class EagerInitializationTest {
+
+    @Test
+    void shouldExposeConstructorDependenciesOfDefinitions() {
+        assertEquals(List.of(ServiceA.class, ServiceB.class), new $ServiceC$Definition().dependencies());
+        assertEquals(List.of(Service.class), new $Services$Definition().dependencies());
+        assertEquals(List.of(), new $ServiceA$Definition().dependencies());
+    }
+
+    @Test
+    void shouldRecordSupersededTypeInInterceptedDefinitions() {
+        assertEquals(Optional.of(RepositoryA.class), new $RepositoryA$Intercepted$Definition().supersedes());
+        assertEquals(Optional.empty(), new $RepositoryA$Definition().supersedes());
+    }
+
+    @Test
+    void shouldProvideEagerlyCreatedBeans() {
+        BeanProvider beanProvider = BeanProviderFactory.getEagerInstance();
+
+        assertInstanceOf(ServiceC.class, beanProvider.provide(ServiceC.class));
+        assertInstanceOf(RepositoryA$Intercepted.class, beanProvider.provide(RepositoryA.class));
+        assertEquals(3, beanProvider.provideAll(Service.class).size());
+    }
+}
@@ -1,5 +1,6 @@
 package io.jd.framework.tests;
 
+import io.jd.framework.Warmup;
 import io.jd.framework.webapp.HttpMethod;
 import io.jd.framework.webapp.MediaType;
 import io.jd.framework.webapp.Request;
@@ -22,6 +23,7 @@ public class ExampleController {
         return RANDOM.nextInt();
     }
 
+    @Warmup(iterations = 2, body = "42")
     @RequestHandle(value = "/int3", method = HttpMethod.POST)
     public int getIntFromString(Request request) {
         return Integer.parseInt(request.body());
@@ -0,0 +1,102 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.transactional.FlushingTransactionManager;
+import io.jd.framework.transactional.GroupCommit;
+import io.jd.framework.transactional.GroupCommitFailedException;
+import io.jd.framework.transactional.GroupCommitting;
+import jakarta.inject.Singleton;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GroupCommitInterceptedTest {
+
+    FlushingManager manager = new FlushingManager();
+    GroupCommittedJournal journal = new GroupCommittedJournal$Intercepted(manager);
+
+    @Test
+    void shouldFlushConcurrentTransactionsTogether() throws Exception {
+        var failures = appendConcurrently(8);
+
+        assertEquals(List.of(), failures);
+        assertEquals(8, manager.beginCounter().get());
+        assertEquals(8, manager.commitCounter().get());
+        assertEquals(1, manager.flushes.get());
+        assertEquals(8, ((GroupCommitting) journal).groupCommitters().get("GroupCommittedJournal.append").statistics().commits());
+    }
+
+    @Test
+    void shouldReportFailedFlushWithoutRollingBack() throws Exception {
+        manager.failure = new SystemException("disk full");
+
+        var failures = appendConcurrently(8);
+
+        assertEquals(8, failures.size());
+        failures.forEach(failure -> {
+            assertInstanceOf(GroupCommitFailedException.class, failure);
+            assertSame(manager.failure, failure.getCause());
+        });
+        assertEquals(0, manager.rollbackCounter().get());
+    }
+
+    private List<Throwable> appendConcurrently(int entries) throws Exception {
+        var pool = Executors.newFixedThreadPool(entries);
+        try {
+            var results = new ArrayList<Future<?>>();
+            for (int entry = 0; entry < entries; entry++) {
+                var text = "entry" + entry;
+                results.add(pool.submit(() -> journal.append(text)));
+            }
+            var failures = new ArrayList<Throwable>();
+            for (Future<?> result : results) {
+                try {
+                    result.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    static class FlushingManager extends NotWiseTransactionalManager implements FlushingTransactionManager {
+        final AtomicInteger flushes = new AtomicInteger();
+        volatile SystemException failure;
+
+        @Override
+        public void commitWithoutFlush() {
+            commit();
+        }
+
+        @Override
+        public void flush() throws SystemException {
+            flushes.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
+
+@Singleton
+class GroupCommittedJournal {
+
+    @Transactional
+    @GroupCommit(maxGroupSize = 8, windowMicros = 30_000_000)
+    void append(String entry) {
+    }
+}
@@ -0,0 +1,19 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.Lazy;
+import jakarta.inject.Singleton;
+
+@Lazy
+@Singleton
+public class LazyReporting implements Reporting {
+    private final ReportSource reportSource;
+
+    public LazyReporting(ReportSource reportSource) {
+        this.reportSource = reportSource;
+    }
+
+    @Override
+    public String report(String title) {
+        return title + ": " + reportSource.rows();
+    }
+}
@@ -0,0 +1,49 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.LazyProxy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyTest {
+
+    @Test
+    void shouldCreateLazyBeanOnFirstCall() {
+        var beanProvider = BeanProviderFactory.getInstance();
+
+        var reporting = beanProvider.provide(Reporting.class);
+        var proxy = assertInstanceOf(LazyProxy.class, reporting);
+        assertFalse(proxy.isTargetCreated());
+
+        assertEquals("daily: rows", reporting.report("daily"));
+        assertTrue(proxy.isTargetCreated());
+        assertEquals(1, beanProvider.provideAll(Reporting.class).size());
+    }
+
+    @Test
+    void shouldKeepLazyTargetReachableByItsType() {
+        var beanProvider = BeanProviderFactory.getInstance();
+
+        var target = beanProvider.provide(LazyReporting.class);
+
+        assertFalse(target instanceof LazyProxy<?>);
+        assertSame(target, beanProvider.provide(LazyReporting.class));
+        assertEquals(Optional.of(LazyReporting.class), new $LazyReporting$Lazy$Definition().supersedes());
+    }
+
+    @Test
+    void shouldDeferLazyBeansAndTheirOwnDependenciesInComponent() {
+        var instances = ReportSource.instances();
+
+        var component = new $TestComponent$Component();
+        var reporting = component.provide(Reporting.class);
+
+        assertEquals(instances, ReportSource.instances());
+        assertEquals("weekly: rows", reporting.report("weekly"));
+        assertEquals(instances + 1, ReportSource.instances());
+        assertSame(component.provide(ReportSource.class), component.provide(ReportSource.class));
+    }
+}
@@ -0,0 +1,37 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.Warmup;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+public class LifecycleBean {
+    private final LifecycleEvents events;
+    private final AtomicInteger warmups = new AtomicInteger();
+
+    public LifecycleBean(LifecycleEvents events, LifecycleDependency dependency) {
+        this.events = events;
+    }
+
+    @PostConstruct
+    void init() {
+        events.record("bean initialized");
+    }
+
+    @PreDestroy
+    void close() {
+        events.record("bean destroyed");
+    }
+
+    @Warmup(iterations = 3)
+    void warmup() {
+        warmups.incrementAndGet();
+    }
+
+    public int warmups() {
+        return warmups.get();
+    }
+}
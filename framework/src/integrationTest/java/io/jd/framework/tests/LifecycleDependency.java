@@ -0,0 +1,18 @@
+package io.jd.framework.tests;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class LifecycleDependency {
+    private final LifecycleEvents events;
+
+    public LifecycleDependency(LifecycleEvents events) {
+        this.events = events;
+    }
+
+    @PreDestroy
+    void close() {
+        events.record("dependency destroyed");
+    }
+}
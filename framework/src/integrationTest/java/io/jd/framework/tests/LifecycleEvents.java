@@ -0,0 +1,19 @@
+package io.jd.framework.tests;
+
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Singleton
+public class LifecycleEvents {
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    void record(String event) {
+        events.add(event);
+    }
+
+    public List<String> events() {
+        return List.copyOf(events);
+    }
+}
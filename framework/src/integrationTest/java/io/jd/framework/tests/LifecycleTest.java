@@ -0,0 +1,81 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.WarmupPhase;
+import io.jd.framework.WarmupRoutine;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LifecycleTest {
+
+    @Test
+    void shouldInitializeBeansAfterConstruction() {
+        var beanProvider = BeanProviderFactory.getInstance();
+
+        beanProvider.provide(LifecycleBean.class);
+
+        assertEquals(List.of("bean initialized"), beanProvider.provide(LifecycleEvents.class).events());
+    }
+
+    @Test
+    void shouldDestroySingletonsBeforeTheirDependencies() {
+        var beanProvider = BeanProviderFactory.getInstance();
+        var events = beanProvider.provide(LifecycleEvents.class);
+        beanProvider.provide(LifecycleBean.class);
+
+        beanProvider.close();
+
+        assertEquals(List.of("bean initialized", "bean destroyed", "dependency destroyed"), events.events());
+    }
+
+    @Test
+    void shouldDestroySingletonsBeforeDependenciesCreatedLaterThroughProviders() {
+        var beanProvider = BeanProviderFactory.getInstance();
+        var events = beanProvider.provide(DeferredLifecycleEvents.class);
+        // the user is created first, the resource only once the user asks its provider for it
+        beanProvider.provide(DeferredResourceUser.class).resource();
+
+        beanProvider.close();
+
+        assertEquals(List.of("user destroyed", "resource destroyed"), events.events());
+    }
+
+    @Test
+    void shouldRunLifecycleCallbacksOfComponentBeans() {
+        BeanProvider beanProvider = new $TestComponent$Component();
+        var events = beanProvider.provide(LifecycleEvents.class);
+
+        beanProvider.close();
+
+        assertEquals(List.of("bean initialized", "bean destroyed", "dependency destroyed"), events.events());
+    }
+
+    @Test
+    void shouldWarmUpCreatedBeansAndRoutes() {
+        BeanProvider beanProvider = new $TestComponent$Component();
+
+        var results = WarmupPhase.of(beanProvider).parallelism(2).run();
+
+        assertEquals(3, beanProvider.provide(LifecycleBean.class).warmups());
+        assertEquals(3, resultOf(results, "LifecycleBean#warmup").iterations());
+        assertEquals(2, resultOf(results, "ExampleController$getIntFromString$1$handler#warmup").iterations());
+    }
+
+    @Test
+    void shouldExposeWarmupRoutinesThroughDefinitions() {
+        var bean = new LifecycleBean(new LifecycleEvents(), new LifecycleDependency(new LifecycleEvents()));
+
+        var routines = new $LifecycleBean$Definition().warmups(bean);
+
+        assertEquals(List.of("io.jd.framework.tests.LifecycleBean#warmup"), routines.stream().map(WarmupRoutine::name).toList());
+        assertEquals(3, routines.get(0).iterations());
+    }
+
+    private static WarmupPhase.Result resultOf(List<WarmupPhase.Result> results, String routine) {
+        return results.stream().filter(result -> result.routine().endsWith(routine)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,7 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.Pooled;
+
+@Pooled(size = 2)
+public class PooledBean {
+}
@@ -0,0 +1,17 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.Pool;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class PooledBeanUser {
+    private final Pool<PooledBean> pool;
+
+    public PooledBeanUser(Pool<PooledBean> pool) {
+        this.pool = pool;
+    }
+
+    public Pool<PooledBean> pool() {
+        return pool;
+    }
+}
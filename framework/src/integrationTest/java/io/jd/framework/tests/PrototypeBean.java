@@ -0,0 +1,7 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.Prototype;
+
+@Prototype
+public class PrototypeBean {
+}
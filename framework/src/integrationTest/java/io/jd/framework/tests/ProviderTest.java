@@ -2,12 +2,21 @@ package io.jd.framework.tests;
 
 import io.jd.framework.BeanProvider;
 import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.junit.FrameworkTest;
 import notio.notjd.ExternalService;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
+@FrameworkTest
 class ProviderTest {
+    private final BeanProvider beanProvider;
+
+    ProviderTest(BeanProvider beanProvider) {
+        this.beanProvider = beanProvider;
+    }
 
     @Test
     void shouldCreateDefinitionForServices() {
@@ -20,8 +29,6 @@ class ProviderTest {
 
     @Test
     void shouldProvideInstanceForServiceWithoutDependencies() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
-
         ServiceA serviceA = beanProvider.provide(ServiceA.class);
         assertNotNull(serviceA);
         assertInstanceOf(ServiceA.class, serviceA);
@@ -29,8 +36,6 @@ class ProviderTest {
 
     @Test
     void shouldProvideInstanceForServiceWithOneDependency() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
-
         ServiceB serviceB = beanProvider.provide(ServiceB.class);
         assertNotNull(serviceB);
         assertInstanceOf(ServiceB.class, serviceB);
@@ -38,8 +43,6 @@ class ProviderTest {
 
     @Test
     void shouldProvideInstanceForServiceWithTwoDependency() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
-
         ServiceC serviceC = beanProvider.provide(ServiceC.class);
         assertNotNull(serviceC);
         assertInstanceOf(ServiceC.class, serviceC);
@@ -47,8 +50,6 @@ class ProviderTest {
 
     @Test
     void shouldProvideInterceptedInstance() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
-
         RepositoryA repositoryA = beanProvider.provide(RepositoryA$Intercepted.class);
         assertNotNull(repositoryA);
         assertInstanceOf(RepositoryA$Intercepted.class, repositoryA);
@@ -56,8 +57,6 @@ class ProviderTest {
 
     @Test
     void shouldProvideTransactionallyInterceptedRepositoryWhenProvidingBaseOne() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
-
         RepositoryA repositoryA = beanProvider.provide(RepositoryA.class);
         assertNotNull(repositoryA);
         assertInstanceOf(RepositoryA$Intercepted.class, repositoryA);
@@ -65,8 +64,6 @@ class ProviderTest {
 
     @Test
     void shouldNotProvideBeanWhichPackageIsNotScanned() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
-
         var result = beanProvider.provideAll(ExternalService.class);
         assertTrue(result.isEmpty(), "Should not provide the bean which package is not scanned for BeanDefinitions");
     }
@@ -80,9 +77,31 @@ class ProviderTest {
     }
 
     @Test
-    void shouldProvideClassDeclaredWithCollectionOfBeans() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
+    void shouldProvideBeansWhenScanningClasspath() {
+        BeanProvider beanProvider = BeanProviderFactory.getInstanceByScanning();
 
+        assertInstanceOf(RepositoryA$Intercepted.class, beanProvider.provide(RepositoryA.class));
+        assertTrue(beanProvider.provideAll(ExternalService.class).isEmpty());
+    }
+
+    @Test
+    void shouldProvideBeanWhichPackageIsNotScannedWhenScanningClasspath() {
+        BeanProvider beanProvider = BeanProviderFactory.getInstanceByScanning("notio.notjd");
+
+        assertFalse(beanProvider.provideAll(ExternalService.class).isEmpty());
+    }
+
+    @Test
+    void shouldInjectProvidersResolvingBeansOnFirstUse() {
+        DeferredServices deferredServices = beanProvider.provide(DeferredServices.class);
+        assertSame(beanProvider.provide(ServiceC.class), deferredServices.serviceC().get());
+        assertSame(deferredServices.serviceC().get(), deferredServices.serviceC().get());
+        assertEquals(3, deferredServices.services().get().size());
+        assertEquals(List.of(), new $DeferredServices$Definition().dependencies());
+    }
+
+    @Test
+    void shouldProvideClassDeclaredWithCollectionOfBeans() {
         Services services = beanProvider.provide(Services.class);
         assertNotNull(services);
     }
@@ -0,0 +1,40 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.BeanRegistry;
+import io.jd.framework.LazyProxy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReflectionFreeTest {
+
+    @Test
+    void shouldProvideBeansFromGeneratedRegistry() {
+        BeanProvider beanProvider = BeanProviderFactory.getInstanceFromRegistries(new $TestComponent$Registry());
+
+        assertSame(beanProvider.provide(ServiceC.class), beanProvider.provide(ServiceC.class));
+        assertEquals(3, beanProvider.provideAll(Service.class).size());
+        assertInstanceOf(RepositoryA$Intercepted.class, beanProvider.provide(RepositoryA.class));
+        assertFalse(assertInstanceOf(LazyProxy.class, beanProvider.provide(Reporting.class)).isTargetCreated());
+    }
+
+    @Test
+    void shouldNotUseReflectionOnRegistryPath() {
+        var descriptor = "([L%s;)L%s;".formatted(BeanRegistry.class.getName(), BeanProvider.class.getName()).replace('.', '/');
+
+        var violations = ReflectiveCalls.reachableFrom(BeanProviderFactory.class, "getInstanceFromRegistries", descriptor);
+
+        assertEquals(Set.of(), violations);
+    }
+
+    @Test
+    void shouldDetectReflectionOnScanningPath() {
+        var violations = ReflectiveCalls.reachableFrom(BeanProviderFactory.class, "getInstanceByScanning", "([Ljava/lang/String;)Lio/jd/framework/BeanProvider;");
+
+        assertTrue(violations.stream().anyMatch(violation -> violation.contains("java.lang.reflect.Constructor.newInstance")));
+    }
+}
@@ -0,0 +1,124 @@
+package io.jd.framework.tests;
+
+import org.objectweb.asm.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+class ReflectiveCalls {
+    private static final List<String> FORBIDDEN_OWNERS = List.of("java/lang/reflect/", "java/util/ServiceLoader", "org/reflections/");
+    private static final Set<String> FORBIDDEN_CLASS_METHODS = Set.of(
+            "forName", "newInstance", "getConstructor", "getConstructors", "getDeclaredConstructor", "getDeclaredConstructors",
+            "getMethod", "getMethods", "getDeclaredMethod", "getDeclaredMethods"
+    );
+
+    private final Set<String> visitedMethods = new HashSet<>();
+    private final Set<String> instantiatedClasses = new HashSet<>();
+    private final Deque<Call> pending = new ArrayDeque<>();
+    private final Set<String> violations = new TreeSet<>();
+
+    // walks every method reachable from the entry point, instantiated framework classes contribute all of their methods
+    static Set<String> reachableFrom(Class<?> owner, String name, String descriptor) {
+        var reflectiveCalls = new ReflectiveCalls();
+        reflectiveCalls.pending.add(new Call(Type.getInternalName(owner), name, descriptor));
+        reflectiveCalls.walk();
+        return reflectiveCalls.violations;
+    }
+
+    private void walk() {
+        while (!pending.isEmpty()) {
+            var call = pending.poll();
+            if (isFollowed(call.owner()) && visitedMethods.add(call.toString())) {
+                visit(call);
+            }
+        }
+    }
+
+    private static boolean isFollowed(String owner) {
+        // beans of the tests are application code, generated classes next to them belong to the runtime path
+        return owner.startsWith("io/jd/framework/") && (!owner.startsWith("io/jd/framework/tests/") || owner.contains("$"));
+    }
+
+    private void visit(Call call) {
+        classReader(call.owner()).accept(new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+                return name.equals(call.name()) && descriptor.equals(call.descriptor()) ? new CallCollector(call) : null;
+            }
+        }, ClassReader.SKIP_DEBUG);
+    }
+
+    private void instantiated(String owner) {
+        if (!isFollowed(owner) || !instantiatedClasses.add(owner)) {
+            return;
+        }
+        classReader(owner).accept(new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+                instantiated(superName);
+            }
+
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+                pending.add(new Call(owner, name, descriptor));
+                return null;
+            }
+        }, ClassReader.SKIP_CODE);
+    }
+
+    private static ClassReader classReader(String owner) {
+        try (InputStream classFile = ReflectiveCalls.class.getClassLoader().getResourceAsStream(owner + ".class")) {
+            return new ClassReader(Objects.requireNonNull(classFile, owner));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class CallCollector extends MethodVisitor {
+        private final Call caller;
+
+        CallCollector(Call caller) {
+            super(Opcodes.ASM9);
+            this.caller = caller;
+            pending.add(new Call(caller.owner(), "<clinit>", "()V"));
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            if (opcode == Opcodes.NEW) {
+                instantiated(type);
+            }
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            var callee = new Call(owner, name, descriptor);
+            if (isForbidden(callee)) {
+                violations.add("%s calls %s".formatted(caller, callee));
+            }
+            pending.add(callee);
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+            Arrays.stream(bootstrapMethodArguments)
+                    .filter(Handle.class::isInstance)
+                    .map(Handle.class::cast)
+                    .forEach(handle -> visitMethodInsn(Opcodes.INVOKESTATIC, handle.getOwner(), handle.getName(), handle.getDesc(), handle.isInterface()));
+        }
+
+        private static boolean isForbidden(Call callee) {
+            return FORBIDDEN_OWNERS.stream().anyMatch(callee.owner()::startsWith)
+                    || callee.owner().equals("java/lang/Class") && FORBIDDEN_CLASS_METHODS.contains(callee.name());
+        }
+    }
+
+    private record Call(String owner, String name, String descriptor) {
+        @Override
+        public String toString() {
+            return owner.replace('/', '.') + "." + name + descriptor;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.jd.framework.tests;
+
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+public class ReportSource {
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public ReportSource() {
+        INSTANCES.incrementAndGet();
+    }
+
+    public static int instances() {
+        return INSTANCES.get();
+    }
+
+    String rows() {
+        return "rows";
+    }
+}
@@ -0,0 +1,5 @@
+package io.jd.framework.tests;
+
+public interface Reporting {
+    String report(String title);
+}
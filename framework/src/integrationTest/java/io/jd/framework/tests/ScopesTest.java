@@ -0,0 +1,65 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.BeanProviderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScopesTest {
+    private final BeanProvider beanProvider = BeanProviderFactory.getInstance();
+
+    @Test
+    void shouldProvideNewPrototypeOnEveryRequest() {
+        assertNotSame(beanProvider.provide(PrototypeBean.class), beanProvider.provide(PrototypeBean.class));
+    }
+
+    @Test
+    void shouldProvideNewPrototypeOnEveryProviderCall() {
+        var provider = beanProvider.providerOf(PrototypeBean.class);
+
+        assertNotSame(provider.get(), provider.get());
+    }
+
+    @Test
+    void shouldProvideOneThreadScopedBeanPerThread() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var local = beanProvider.provide(ThreadScopedBean.class);
+            var other = executor.submit(() -> beanProvider.provide(ThreadScopedBean.class)).get();
+
+            assertSame(local, beanProvider.provide(ThreadScopedBean.class));
+            assertNotSame(local, other);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldInjectPoolOfPooledBeans() {
+        var pool = beanProvider.provide(PooledBeanUser.class).pool();
+
+        var borrowed = pool.borrow();
+        assertNotSame(borrowed, pool.borrow());
+        pool.release(borrowed);
+
+        assertSame(borrowed, pool.borrow());
+    }
+
+    @Test
+    void shouldProvidePooledBeansOnlyThroughPool() {
+        assertThrows(IllegalStateException.class, () -> beanProvider.provide(PooledBean.class));
+        assertTrue(beanProvider.provideAll(PooledBean.class).isEmpty());
+        assertFalse(beanProvider.canProvide(PooledBean.class));
+    }
+
+    @Test
+    void shouldNotCreateNonSingletonBeansEagerly() {
+        var eagerProvider = BeanProviderFactory.getEagerInstance();
+
+        assertNotSame(eagerProvider.provide(PrototypeBean.class), eagerProvider.provide(PrototypeBean.class));
+        assertNotNull(eagerProvider.provide(PooledBeanUser.class).pool());
+    }
+}
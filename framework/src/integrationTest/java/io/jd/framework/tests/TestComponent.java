@@ -0,0 +1,7 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.ApplicationComponent;
+
+@ApplicationComponent
+class TestComponent {
+}
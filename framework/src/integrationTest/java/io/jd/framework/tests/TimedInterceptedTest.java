@@ -0,0 +1,58 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.metrics.Metered;
+import io.jd.framework.metrics.Timed;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimedInterceptedTest {
+
+    TimedReports reports = new TimedReports$Intercepted();
+
+    @Test
+    void shouldRecordLatencyOfEveryCall() {
+        for (int call = 0; call < 10; call++) {
+            reports.render(1_000_000);
+        }
+
+        var snapshot = ((Metered) reports).histograms().get("TimedReports.render").snapshot();
+        assertEquals(10, snapshot.count());
+        assertTrue(snapshot.p50() >= 1_000_000, "p50 was %d".formatted(snapshot.p50()));
+    }
+
+    @Test
+    void shouldRecordFailedCalls() {
+        assertThrows(IllegalStateException.class, () -> reports.fail());
+
+        assertEquals(1, ((Metered) reports).histograms().get("reports.failures").snapshot().count());
+    }
+
+    @Test
+    void shouldExposeHistogramOfEveryTimedMethod() {
+        assertEquals(Set.of("TimedReports.render", "reports.failures"), ((Metered) reports).histograms().keySet());
+    }
+}
+
+@Singleton
+class TimedReports {
+
+    @Timed
+    String render(long nanos) {
+        var start = System.nanoTime();
+        while (System.nanoTime() - start < nanos) {
+            Thread.onSpinWait();
+        }
+        return "report";
+    }
+
+    @Timed("reports.failures")
+    void fail() {
+        throw new IllegalStateException("report failed");
+    }
+}
@@ -1,18 +1,23 @@
 package io.jd.framework.tests;
 
 import io.jd.framework.BeanProvider;
-import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.junit.FrameworkTest;
 import io.jd.framework.webapp.HttpMethod;
 import io.jd.framework.webapp.MediaType;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+@FrameworkTest
 public class WebHandlerTest {
+    private final BeanProvider beanProvider;
+
+    WebHandlerTest(BeanProvider beanProvider) {
+        this.beanProvider = beanProvider;
+    }
 
     @Test
     void shouldProvideHandlerInt2WithExpectedBehaviour() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
         var handler = beanProvider.provide(ExampleController$getInt$2$handler.class);
 
         assertEquals(HttpMethod.GET, handler.method());
@@ -22,7 +27,6 @@ public class WebHandlerTest {
 
     @Test
     void shouldProvideHandlerInt1WithExpectedBehaviour() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
         var handler = beanProvider.provide(ExampleController$getInt$1$handler.class);
 
         assertEquals(HttpMethod.GET, handler.method());
@@ -32,7 +36,6 @@ public class WebHandlerTest {
 
     @Test
     void shouldProvideHandlerInt3WithExpectedBehaviour() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
         var handler = beanProvider.provide(ExampleController$getIntFromString$1$handler.class);
 
         assertEquals(HttpMethod.POST, handler.method());
@@ -42,7 +45,6 @@ public class WebHandlerTest {
 
     @Test
     void shouldProvideHandlerVoidWithExpectedBehaviour() {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
         var handler = beanProvider.provide(ExampleController$doSomething$1$handler.class);
 
         assertEquals(HttpMethod.POST, handler.method());
@@ -0,0 +1,11 @@
+package io.jd.framework;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface ApplicationComponent {
+
+    String[] packages() default {};
+}
@@ -1,37 +1,134 @@
 package io.jd.framework;
 
-import java.util.List;
+import io.jd.framework.BeanResolution.Candidate;
+import jakarta.inject.Provider;
 
-import static java.util.function.Predicate.not;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 class BaseBeanProvider implements BeanProvider {
+    private final BaseBeanProvider parent;
     private final List<? extends BeanDefinition<?>> definitions;
+    private final List<? extends BeanDefinition<?>> superseded;
+    private final Map<Class<?>, BeanResolution<?>> resolutions = new ConcurrentHashMap<>();
+    private final BeanLifecycle lifecycle = new BeanLifecycle();
 
     public BaseBeanProvider(List<? extends BeanDefinition<?>> definitions) {
-        this.definitions = definitions;
+        this(null, definitions);
+    }
+
+    private BaseBeanProvider(BaseBeanProvider parent, List<? extends BeanDefinition<?>> definitions) {
+        Set<Class<?>> superseded = definitions.stream()
+                .flatMap(definition -> definition.supersedes().stream())
+                .collect(Collectors.toUnmodifiableSet());
+        this.parent = parent;
+        this.definitions = definitions.stream()
+                .filter(definition -> !superseded.contains(definition.type()))
+                .toList();
+        this.superseded = definitions.stream()
+                .filter(definition -> superseded.contains(definition.type()))
+                .toList();
+    }
+
+    BaseBeanProvider child(List<? extends BeanDefinition<?>> definitions) {
+        return new BaseBeanProvider(this, definitions);
+    }
+
+    List<? extends BeanDefinition<?>> definitions() {
+        return definitions;
+    }
+
+    List<BeanDefinition<?>> candidateDefinitions(Class<?> beanType) {
+        return resolution(beanType).candidates(def -> true).stream().<BeanDefinition<?>>map(Candidate::definition).toList();
+    }
+
+    @Override
+    public BeanLifecycle lifecycle() {
+        return lifecycle;
     }
 
     @Override
     public <T> T provide(Class<T> beanType) {
-        var beans = provideAll(beanType);
-        if (beans.isEmpty()) {
-            throw new IllegalStateException("No bean of given type: '%s'".formatted(beanType.getCanonicalName()));
-        } else if (beans.size() > 1) {
-            throw new IllegalStateException("More than one bean of given type: '%s'".formatted(beanType.getCanonicalName()));
-        } else {
-            return beans.get(0);
-        }
+        return resolution(beanType).bean();
     }
 
     @Override
     public <T> List<T> provideAll(Class<T> beanType) {
-        var allBeans = definitions.stream().filter(def -> beanType.isAssignableFrom(def.type()))
-                .map(def -> beanType.cast(def.create(this)))
-                .toList();
-        var interceptedTypes = allBeans.stream().filter(bean -> Intercepted.class.isAssignableFrom(bean.getClass()))
-                .map(bean -> ((Intercepted) bean).interceptedType())
+        return resolution(beanType).beans();
+    }
+
+    @Override
+    public boolean canProvide(Class<?> beanType) {
+        // answered from definitions alone, so asking does not create beans or run their initialization
+        return resolution(beanType).isUnique();
+    }
+
+    @Override
+    public <T> Provider<T> providerOf(Class<T> beanType) {
+        var resolution = resolution(beanType);
+        return resolution::bean;
+    }
+
+    @Override
+    public <T> Provider<Collection<T>> providerOfAll(Class<T> beanType) {
+        var resolution = resolution(beanType);
+        return resolution::beans;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Pool<T> poolOf(Class<T> beanType) {
+        var candidate = new BeanResolution<>(beanType, poolCandidates(beanType)).candidate();
+        return Pool.of((BeanDefinition<T>) candidate.definition(), candidate.owner());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> BeanResolution<T> resolution(Class<T> beanType) {
+        var resolution = resolutions.get(beanType);
+        if (resolution == null) {
+            resolution = resolutions.computeIfAbsent(beanType, this::resolve);
+        }
+        return (BeanResolution<T>) resolution;
+    }
+
+    private <T> BeanResolution<T> resolve(Class<T> beanType) {
+        // pooled instances are only handed out by pools, which make sure they are released
+        List<Candidate<? extends T>> matching = candidates(definitions, def -> !def.isPooled() && beanType.isAssignableFrom(def.type()));
+        if (matching.isEmpty()) {
+            // superseded beans stay reachable by their exact type, lazy proxies create their targets this way
+            matching = candidates(superseded, def -> !def.isPooled() && def.type() == beanType);
+        }
+        if (parent == null) {
+            return new BeanResolution<>(beanType, matching);
+        }
+        var inherited = parent.resolution(beanType);
+        if (matching.isEmpty() && !inherited.anyMatch(this::overrides)) {
+            return inherited;
+        }
+        var candidates = Stream.concat(matching.stream(), inherited.candidates(def -> !overrides(def)).stream()).toList();
+        return new BeanResolution<>(beanType, candidates);
+    }
+
+    private <T> List<Candidate<? extends T>> poolCandidates(Class<T> beanType) {
+        List<Candidate<? extends T>> matching = candidates(definitions, def -> beanType.isAssignableFrom(def.type()));
+        return matching.isEmpty() && parent != null ? parent.poolCandidates(beanType) : matching;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<Candidate<? extends T>> candidates(List<? extends BeanDefinition<?>> definitions, Predicate<BeanDefinition<?>> filter) {
+        return definitions.stream()
+                .filter(filter)
+                .<Candidate<? extends T>>map(def -> new Candidate<>((BeanDefinition<T>) def, this))
                 .toList();
-        return allBeans.stream().filter(not(bean -> interceptedTypes.contains(bean.getClass()))).toList();
     }
 
+    private boolean overrides(BeanDefinition<?> inherited) {
+        return definitions.stream().anyMatch(definition -> inherited.type().isAssignableFrom(definition.type()));
+    }
 }
@@ -0,0 +1,14 @@
+package io.jd.framework;
+
+public record BeanCreation(
+        Class<?> type,
+        String thread,
+        int order,
+        long startNanos,
+        long totalNanos,
+        long ownNanos
+) {
+    public long dependencyNanos() {
+        return totalNanos - ownNanos;
+    }
+}
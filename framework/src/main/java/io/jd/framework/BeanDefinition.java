@@ -1,7 +1,49 @@
 package io.jd.framework;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
 public interface BeanDefinition<T> {
     T create(BeanProvider beanProvider);
 
     Class<T> type();
+
+    default List<Class<?>> dependencies() {
+        return List.of();
+    }
+
+    default List<Class<?>> deferredDependencies() {
+        return List.of();
+    }
+
+    default Optional<Class<?>> supersedes() {
+        return Optional.empty();
+    }
+
+    default boolean isSingleton() {
+        return true;
+    }
+
+    default boolean isPooled() {
+        return false;
+    }
+
+    default T borrow(BeanProvider beanProvider) {
+        return create(beanProvider);
+    }
+
+    default T borrow(BeanProvider beanProvider, Duration timeout) {
+        return borrow(beanProvider);
+    }
+
+    default void release(T instance) {
+    }
+
+    default void destroy(T instance) {
+    }
+
+    default List<WarmupRoutine> warmups(T instance) {
+        return List.of();
+    }
 }
@@ -0,0 +1,118 @@
+package io.jd.framework;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Stream;
+
+public final class BeanLifecycle {
+    private static final BeanLifecycle UNMANAGED = new BeanLifecycle(false);
+
+    private final boolean managed;
+    private final Deque<ManagedBean<?>> beans = new ConcurrentLinkedDeque<>();
+
+    public BeanLifecycle() {
+        this(true);
+    }
+
+    private BeanLifecycle(boolean managed) {
+        this.managed = managed;
+    }
+
+    public static BeanLifecycle unmanaged() {
+        return UNMANAGED;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> void created(BeanDefinition<T> definition, Object bean) {
+        // beans are registered in creation order, which is not the destruction order for dependencies behind providers
+        if (managed) {
+            beans.push(new ManagedBean<>(definition, (T) bean));
+        }
+    }
+
+    public List<WarmupRoutine> warmups() {
+        var warmups = new ArrayList<WarmupRoutine>();
+        beans.descendingIterator().forEachRemaining(bean -> warmups.addAll(bean.warmups()));
+        return warmups;
+    }
+
+    public void close() {
+        var created = new ArrayList<ManagedBean<?>>();
+        for (var bean = beans.poll(); bean != null; bean = beans.poll()) {
+            created.add(bean);
+        }
+        var dependents = dependents(created);
+        var destroyed = Collections.newSetFromMap(new IdentityHashMap<ManagedBean<?>, Boolean>());
+        RuntimeException failure = null;
+        // the latest beans go first, but a bean is never destroyed before a bean depending on it, even through a provider
+        for (ManagedBean<?> bean : created) {
+            failure = destroy(bean, dependents, destroyed, failure);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static Map<ManagedBean<?>, List<ManagedBean<?>>> dependents(List<ManagedBean<?>> created) {
+        var byType = new HashMap<Class<?>, List<ManagedBean<?>>>();
+        created.forEach(bean -> supertypes(bean.bean().getClass(), new HashSet<>())
+                .forEach(type -> byType.computeIfAbsent(type, ignored -> new ArrayList<>()).add(bean)));
+        var dependents = new IdentityHashMap<ManagedBean<?>, List<ManagedBean<?>>>();
+        created.forEach(bean -> bean.dependencies()
+                .flatMap(type -> byType.getOrDefault(type, List.of()).stream())
+                .forEach(dependency -> dependents.computeIfAbsent(dependency, ignored -> new ArrayList<>()).add(bean)));
+        return dependents;
+    }
+
+    private static Set<Class<?>> supertypes(Class<?> type, Set<Class<?>> supertypes) {
+        if (type != null && supertypes.add(type)) {
+            supertypes(type.getSuperclass(), supertypes);
+            Stream.of(type.getInterfaces()).forEach(supertype -> supertypes(supertype, supertypes));
+        }
+        return supertypes;
+    }
+
+    private static RuntimeException destroy(ManagedBean<?> bean,
+                                            Map<ManagedBean<?>, List<ManagedBean<?>>> dependents,
+                                            Set<ManagedBean<?>> destroyed,
+                                            RuntimeException failure) {
+        // a bean is marked before its dependents are visited, so beans in a cycle through providers go in creation order
+        if (!destroyed.add(bean)) {
+            return failure;
+        }
+        for (ManagedBean<?> dependent : dependents.getOrDefault(bean, List.of())) {
+            failure = destroy(dependent, dependents, destroyed, failure);
+        }
+        try {
+            bean.destroy();
+        } catch (RuntimeException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+
+    private record ManagedBean<T>(BeanDefinition<T> definition, T bean) {
+        List<WarmupRoutine> warmups() {
+            return definition.warmups(bean);
+        }
+
+        Stream<Class<?>> dependencies() {
+            return Stream.concat(definition.dependencies().stream(), definition.deferredDependencies().stream());
+        }
+
+        void destroy() {
+            definition.destroy(bean);
+        }
+    }
+}
@@ -1,9 +1,51 @@
 package io.jd.framework;
 
+import jakarta.inject.Provider;
+
+import java.time.Duration;
 import java.util.Collection;
 
-public interface BeanProvider {
+public interface BeanProvider extends AutoCloseable {
     <T> T provide(Class<T> beanType);
 
     <T> Collection<T> provideAll(Class<T> beanType);
+
+    default boolean canProvide(Class<?> beanType) {
+        return provideAll(beanType).size() == 1;
+    }
+
+    default <T> Provider<T> providerOf(Class<T> beanType) {
+        return new DeferredProvider<>(this, beanProvider -> beanProvider.provide(beanType));
+    }
+
+    default <T> Provider<Collection<T>> providerOfAll(Class<T> beanType) {
+        return new DeferredProvider<>(this, beanProvider -> beanProvider.provideAll(beanType));
+    }
+
+    default <T> Pool<T> poolOf(Class<T> beanType) {
+        return new Pool<>() {
+            @Override
+            public T borrow() {
+                return provide(beanType);
+            }
+
+            @Override
+            public T borrow(Duration timeout) {
+                return provide(beanType);
+            }
+
+            @Override
+            public void release(T instance) {
+            }
+        };
+    }
+
+    default BeanLifecycle lifecycle() {
+        return BeanLifecycle.unmanaged();
+    }
+
+    @Override
+    default void close() {
+        lifecycle().close();
+    }
 }
@@ -1,50 +1,59 @@
 package io.jd.framework;
 
-import org.reflections.Reflections;
-import org.reflections.Store;
-import org.reflections.util.ConfigurationBuilder;
-import org.reflections.util.FilterBuilder;
-import org.reflections.util.QueryFunction;
-
-import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
 import java.util.List;
-
-import static org.reflections.scanners.Scanners.SubTypes;
+import java.util.ServiceLoader;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class BeanProviderFactory {
 
-    private static final QueryFunction<Store, Class<?>> TYPE_QUERY = SubTypes.of(BeanDefinition.class).asClass();
+    private static final String FRAMEWORK_PACKAGE = "io.jd";
 
     public static BeanProvider getInstance(String... packages) {
-        ConfigurationBuilder reflectionsConfig = new ConfigurationBuilder()
-                .forPackage("io.jd")
-                .forPackages(packages)
-                .filterInputsBy(createPackageFilter(packages));
-        var reflections = new Reflections(reflectionsConfig);
-        var definitions = definitions(reflections);
+        return new BaseBeanProvider(indexedDefinitions(packages));
+    }
+
+    public static BeanProvider getEagerInstance(String... packages) {
+        return getEagerInstance(Runtime.getRuntime().availableProcessors(), packages);
+    }
+
+    public static BeanProvider getEagerInstance(int parallelism, String... packages) {
+        var beanProvider = new BaseBeanProvider(indexedDefinitions(packages));
+        new ParallelInitializer(beanProvider, parallelism).initialize();
+        return beanProvider;
+    }
+
+    public static BeanProvider getChildInstance(BeanProvider parent, BeanDefinition<?>... definitions) {
+        if (!(parent instanceof BaseBeanProvider baseParent)) {
+            throw new IllegalArgumentException("Parent of a child bean provider has to be created by BeanProviderFactory");
+        }
+        return baseParent.child(List.of(definitions));
+    }
+
+    public static BeanProvider getInstanceFromRegistries(BeanRegistry... registries) {
+        // registries are passed in instead of being loaded, so neither class loading by name nor reflective instantiation is involved
+        var definitions = Stream.of(registries).flatMap(registry -> registry.definitions().stream()).toList();
         return new BaseBeanProvider(definitions);
     }
 
-    private static FilterBuilder createPackageFilter(String[] packages) {
-        var filter = new FilterBuilder().includePackage("io.jd");
-        Arrays.asList(packages).forEach(filter::includePackage);
-        return filter;
+    public static BeanProvider getInstanceByScanning(String... packages) {
+        return new BaseBeanProvider(new ClasspathScanner(FRAMEWORK_PACKAGE, packages).definitions());
     }
 
-    private static List<? extends BeanDefinition<?>> definitions(Reflections reflections) {
-        return reflections
-                .get(TYPE_QUERY)
+    private static List<BeanDefinition<?>> indexedDefinitions(String[] packages) {
+        var packageFilter = createPackagePredicate(packages);
+        return ServiceLoader.load(BeanRegistry.class)
                 .stream()
-                .map(BeanProviderFactory::getInstance)
+                .filter(registry -> packageFilter.test(registry.type().getPackageName()))
+                .flatMap(registry -> registry.get().definitions().stream())
                 .toList();
     }
 
-    private static BeanDefinition<?> getInstance(Class<?> e) {
-        try {
-            return (BeanDefinition<?>) e.getDeclaredConstructors()[0].newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
-            throw new FailedToInstantiateBeanDefinitionException(e, ex);
+    private static Predicate<String> createPackagePredicate(String[] packages) {
+        Predicate<String> filter = packageName -> packageName.startsWith(FRAMEWORK_PACKAGE);
+        for (String scannedPackage : packages) {
+            filter = filter.or(packageName -> packageName.startsWith(scannedPackage));
         }
+        return filter;
     }
 }
@@ -0,0 +1,7 @@
+package io.jd.framework;
+
+import java.util.List;
+
+public interface BeanRegistry {
+    List<BeanDefinition<?>> definitions();
+}
@@ -0,0 +1,64 @@
+package io.jd.framework;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+final class BeanResolution<T> {
+    private final Class<T> beanType;
+    private final List<Candidate<? extends T>> candidates;
+    private final boolean singletons;
+    private volatile List<T> beans;
+
+    BeanResolution(Class<T> beanType, List<Candidate<? extends T>> candidates) {
+        this.beanType = beanType;
+        this.candidates = candidates;
+        this.singletons = candidates.stream().allMatch(candidate -> candidate.definition().isSingleton());
+    }
+
+    T bean() {
+        return candidate().create();
+    }
+
+    List<T> beans() {
+        if (!singletons) {
+            return create();
+        }
+        var cached = beans;
+        if (cached == null) {
+            cached = create();
+            beans = cached;
+        }
+        return cached;
+    }
+
+    Candidate<? extends T> candidate() {
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("No bean of given type: '%s'".formatted(beanType.getCanonicalName()));
+        } else if (candidates.size() > 1) {
+            throw new IllegalStateException("More than one bean of given type: '%s'".formatted(beanType.getCanonicalName()));
+        }
+        return candidates.get(0);
+    }
+
+    boolean isUnique() {
+        return candidates.size() == 1;
+    }
+
+    boolean anyMatch(Predicate<BeanDefinition<?>> predicate) {
+        return candidates.stream().anyMatch(candidate -> predicate.test(candidate.definition()));
+    }
+
+    List<Candidate<? extends T>> candidates(Predicate<BeanDefinition<?>> predicate) {
+        return candidates.stream().filter(candidate -> predicate.test(candidate.definition())).toList();
+    }
+
+    private List<T> create() {
+        return candidates.stream().<T>map(Candidate::create).toList();
+    }
+
+    record Candidate<T>(BeanDefinition<T> definition, BeanProvider owner) {
+        T create() {
+            return definition.create(owner);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.jd.framework;
+
+import org.reflections.Reflections;
+import org.reflections.Store;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.reflections.util.QueryFunction;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.reflections.scanners.Scanners.SubTypes;
+
+class ClasspathScanner {
+    private static final QueryFunction<Store, Class<?>> TYPE_QUERY = SubTypes.of(BeanDefinition.class).asClass();
+
+    private final String frameworkPackage;
+    private final String[] packages;
+
+    ClasspathScanner(String frameworkPackage, String... packages) {
+        this.frameworkPackage = frameworkPackage;
+        this.packages = packages;
+    }
+
+    List<? extends BeanDefinition<?>> definitions() {
+        ConfigurationBuilder reflectionsConfig = new ConfigurationBuilder()
+                .forPackage(frameworkPackage)
+                .forPackages(packages)
+                .filterInputsBy(createPackageFilter());
+        var reflections = new Reflections(reflectionsConfig);
+        return reflections
+                .get(TYPE_QUERY)
+                .stream()
+                .filter(ClasspathScanner::isInstantiable)
+                .map(ClasspathScanner::getInstance)
+                .toList();
+    }
+
+    private FilterBuilder createPackageFilter() {
+        var filter = new FilterBuilder().includePackage(frameworkPackage);
+        Arrays.asList(packages).forEach(filter::includePackage);
+        return filter;
+    }
+
+    private static boolean isInstantiable(Class<?> type) {
+        return !type.isInterface()
+                && !Modifier.isAbstract(type.getModifiers())
+                && Arrays.stream(type.getDeclaredConstructors()).anyMatch(constructor -> constructor.getParameterCount() == 0);
+    }
+
+    private static BeanDefinition<?> getInstance(Class<?> e) {
+        try {
+            return (BeanDefinition<?>) e.getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException ex) {
+            throw new FailedToInstantiateBeanDefinitionException(e, ex);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.jd.framework;
+
+import jakarta.inject.Provider;
+
+final class DeferredProvider<T> implements Provider<T> {
+    private final BeanProvider beanProvider;
+    private final Instantiator<T> lookup;
+
+    DeferredProvider(BeanProvider beanProvider, Instantiator<T> lookup) {
+        this.beanProvider = beanProvider;
+        this.lookup = lookup;
+    }
+
+    @Override
+    public T get() {
+        // looked up on every call, reusing instances is up to the scope of the provided bean
+        return lookup.instantiate(beanProvider);
+    }
+}
@@ -0,0 +1,6 @@
+package io.jd.framework;
+
+@FunctionalInterface
+public interface Instantiator<T> {
+    T instantiate(BeanProvider beanProvider);
+}
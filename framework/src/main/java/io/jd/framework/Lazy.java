@@ -0,0 +1,9 @@
+package io.jd.framework;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Lazy {
+}
@@ -0,0 +1,6 @@
+package io.jd.framework;
+
+public interface LazyProxy<T> {
+
+    boolean isTargetCreated();
+}
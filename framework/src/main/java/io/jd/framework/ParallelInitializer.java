@@ -0,0 +1,98 @@
+package io.jd.framework;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.stream.Collectors.joining;
+
+class ParallelInitializer {
+    private final BaseBeanProvider beanProvider;
+    private final List<? extends BeanDefinition<?>> definitions;
+    private final int parallelism;
+
+    ParallelInitializer(BaseBeanProvider beanProvider, int parallelism) {
+        this.beanProvider = beanProvider;
+        this.definitions = beanProvider.definitions();
+        this.parallelism = parallelism;
+    }
+
+    void initialize() {
+        var graph = dependencyGraph();
+        var order = topologicalOrder(graph);
+        var pool = new ForkJoinPool(parallelism);
+        try {
+            awaitCreation(order, graph, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Map<BeanDefinition<?>, List<BeanDefinition<?>>> dependencyGraph() {
+        // candidates come from the resolutions the provider caches per type, so a shared dependency is matched only once
+        var graph = new LinkedHashMap<BeanDefinition<?>, List<BeanDefinition<?>>>();
+        definitions.forEach(definition -> graph.put(definition, definition.dependencies().stream()
+                .flatMap(dependency -> beanProvider.candidateDefinitions(dependency).stream())
+                .distinct()
+                .toList()));
+        return graph;
+    }
+
+    private List<BeanDefinition<?>> topologicalOrder(Map<BeanDefinition<?>, List<BeanDefinition<?>>> graph) {
+        var order = new ArrayList<BeanDefinition<?>>(graph.size());
+        var visited = new HashSet<BeanDefinition<?>>();
+        var path = new LinkedHashSet<BeanDefinition<?>>();
+        graph.keySet().forEach(definition -> visit(definition, graph, visited, path, order));
+        return order;
+    }
+
+    private void visit(BeanDefinition<?> definition,
+                       Map<BeanDefinition<?>, List<BeanDefinition<?>>> graph,
+                       Set<BeanDefinition<?>> visited,
+                       LinkedHashSet<BeanDefinition<?>> path,
+                       List<BeanDefinition<?>> order) {
+        if (visited.contains(definition)) {
+            return;
+        }
+        if (!path.add(definition)) {
+            throw new IllegalStateException("Dependency cycle detected: %s".formatted(describeCycle(path, definition)));
+        }
+        graph.get(definition).forEach(dependency -> visit(dependency, graph, visited, path, order));
+        path.remove(definition);
+        visited.add(definition);
+        order.add(definition);
+    }
+
+    private static String describeCycle(LinkedHashSet<BeanDefinition<?>> path, BeanDefinition<?> closing) {
+        var cycle = new ArrayList<>(path);
+        return cycle.subList(cycle.indexOf(closing), cycle.size()).stream()
+                .map(definition -> definition.type().getCanonicalName())
+                .collect(joining(" -> ", "", " -> " + closing.type().getCanonicalName()));
+    }
+
+    private void awaitCreation(List<BeanDefinition<?>> order, Map<BeanDefinition<?>, List<BeanDefinition<?>>> graph, ForkJoinPool pool) {
+        var failure = new CompletableFuture<Void>();
+        var creations = new HashMap<BeanDefinition<?>, CompletableFuture<Void>>();
+        for (BeanDefinition<?> definition : order) {
+            var dependencies = graph.get(definition).stream().map(creations::get).toArray(CompletableFuture[]::new);
+            var creation = definition.isSingleton()
+                    ? CompletableFuture.allOf(dependencies).thenRunAsync(() -> definition.create(beanProvider), pool)
+                    : CompletableFuture.allOf(dependencies);
+            creation.whenComplete((ignored, exception) -> {
+                if (exception != null) {
+                    failure.completeExceptionally(exception);
+                }
+            });
+            creations.put(definition, creation);
+        }
+        var all = CompletableFuture.allOf(creations.values().toArray(CompletableFuture[]::new));
+        try {
+            CompletableFuture.anyOf(all, failure).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("Eager initialization of beans failed", e.getCause());
+        }
+    }
+}
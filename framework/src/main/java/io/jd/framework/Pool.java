@@ -0,0 +1,32 @@
+package io.jd.framework;
+
+import java.time.Duration;
+
+public interface Pool<T> {
+    T borrow();
+
+    T borrow(Duration timeout);
+
+    void release(T instance);
+
+    static <T> Pool<T> of(BeanDefinition<T> definition, BeanProvider beanProvider) {
+        return new DefinitionPool<>(definition, beanProvider);
+    }
+}
+
+record DefinitionPool<T>(BeanDefinition<T> definition, BeanProvider beanProvider) implements Pool<T> {
+    @Override
+    public T borrow() {
+        return definition.borrow(beanProvider);
+    }
+
+    @Override
+    public T borrow(Duration timeout) {
+        return definition.borrow(beanProvider, timeout);
+    }
+
+    @Override
+    public void release(T instance) {
+        definition.release(instance);
+    }
+}
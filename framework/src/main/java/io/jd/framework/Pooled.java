@@ -0,0 +1,14 @@
+package io.jd.framework;
+
+import jakarta.inject.Scope;
+
+import java.lang.annotation.*;
+
+@Scope
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Pooled {
+
+    int size() default 16;
+}
@@ -1,26 +1,198 @@
 package io.jd.framework;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 public sealed interface ScopeProvider<T> extends Function<BeanProvider, T> {
 
-    static <T> ScopeProvider<T> singletonScope(Function<BeanProvider, T> delegate) {
-        return new SingletonProvider<>(delegate);
+    static <T> ScopeProvider<T> singletonScope(Instantiator<T> instantiator) {
+        return new SingletonProvider<>(instantiator);
+    }
+
+    static <T> ScopeProvider<T> prototypeScope(Instantiator<T> instantiator) {
+        return new PrototypeProvider<>(instantiator);
+    }
+
+    static <T> ScopeProvider<T> threadScope(Instantiator<T> instantiator) {
+        return new ThreadScopeProvider<>(instantiator);
+    }
+
+    static <T> ScopeProvider<T> pooledScope(Instantiator<T> instantiator, int size) {
+        return new PooledProvider<>(instantiator, size);
+    }
+
+    default T apply(BeanProvider beanProvider, Duration timeout) {
+        return apply(beanProvider);
+    }
+
+    default void release(T instance) {
     }
 }
 
 final class SingletonProvider<T> implements ScopeProvider<T> {
-    private final Function<BeanProvider, T> delegate;
-    private volatile T value;
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SingletonProvider.class, "value", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Instantiator<T> instantiator;
+    private T value;
+
+    SingletonProvider(Instantiator<T> instantiator) {
+        this.instantiator = instantiator;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T apply(BeanProvider beanProvider) {
+        var instance = (T) VALUE.getAcquire(this);
+        return instance != null ? instance : instantiate(beanProvider);
+    }
+
+    private synchronized T instantiate(BeanProvider beanProvider) {
+        var instance = value;
+        if (instance == null) {
+            instance = StartupProfiler.instantiate(instantiator, beanProvider);
+            if (instantiator instanceof BeanDefinition<?> definition) {
+                beanProvider.lifecycle().created(definition, instance);
+            }
+            VALUE.setRelease(this, instance);
+        }
+        return instance;
+    }
+}
+
+final class PrototypeProvider<T> implements ScopeProvider<T> {
+    private final Instantiator<T> instantiator;
+
+    PrototypeProvider(Instantiator<T> instantiator) {
+        this.instantiator = instantiator;
+    }
+
+    @Override
+    public T apply(BeanProvider beanProvider) {
+        return StartupProfiler.instantiate(instantiator, beanProvider);
+    }
+}
+
+final class ThreadScopeProvider<T> implements ScopeProvider<T> {
+    private final Instantiator<T> instantiator;
+    // one instance per thread rather than per carrier thread: a thread local is the only portable way on Java 17.
+    // Instances live as long as their thread and are not released on close, so thread scoped beans are meant
+    // for long-lived platform threads such as request workers; virtual threads would create one per task
+    private final ThreadLocal<T> value = new ThreadLocal<>();
+
+    ThreadScopeProvider(Instantiator<T> instantiator) {
+        this.instantiator = instantiator;
+    }
+
+    @Override
+    public T apply(BeanProvider beanProvider) {
+        var instance = value.get();
+        if (instance == null) {
+            instance = StartupProfiler.instantiate(instantiator, beanProvider);
+            value.set(instance);
+        }
+        return instance;
+    }
+}
+
+final class PooledProvider<T> implements ScopeProvider<T> {
+    private final Instantiator<T> instantiator;
+    private final AtomicReferenceArray<T> idle;
+    private final Semaphore available;
+    private final Set<T> borrowed = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    PooledProvider(Instantiator<T> instantiator, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size has to be positive, was: %s".formatted(size));
+        }
+        this.instantiator = instantiator;
+        this.idle = new AtomicReferenceArray<>(size);
+        this.available = new Semaphore(size);
+    }
 
-    SingletonProvider(Function<BeanProvider, T> delegate) {
-        this.delegate = delegate;
+    @Override
+    public T apply(BeanProvider beanProvider) {
+        // at most size instances are borrowed at once, further borrowers wait until one is released
+        try {
+            available.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled instance", e);
+        }
+        return take(beanProvider);
+    }
+
+    @Override
+    public T apply(BeanProvider beanProvider, Duration timeout) {
+        try {
+            if (!available.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("No pooled instance was released within %s".formatted(timeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled instance", e);
+        }
+        return take(beanProvider);
     }
 
-    public synchronized T apply(BeanProvider beanProvider) {
-        if (value == null) {
-            value = delegate.apply(beanProvider);
+    @Override
+    public void release(T instance) {
+        if (!borrowed.remove(instance)) {
+            throw new IllegalArgumentException("Released instance was not borrowed from this pool");
         }
-        return value;
+        var start = probe();
+        for (int i = 0; i < idle.length(); i++) {
+            var slot = (start + i) % idle.length();
+            if (idle.get(slot) == null && idle.compareAndSet(slot, null, instance)) {
+                break;
+            }
+        }
+        // a scan racing with borrowers can miss a free slot, the instance is then dropped but its permit is still returned
+        available.release();
+    }
+
+    private T take(BeanProvider beanProvider) {
+        try {
+            var instance = idleInstance();
+            if (instance == null) {
+                instance = StartupProfiler.instantiate(instantiator, beanProvider);
+            }
+            borrowed.add(instance);
+            return instance;
+        } catch (RuntimeException | Error e) {
+            available.release();
+            throw e;
+        }
+    }
+
+    private T idleInstance() {
+        var start = probe();
+        for (int i = 0; i < idle.length(); i++) {
+            var slot = (start + i) % idle.length();
+            var instance = idle.get(slot);
+            if (instance != null && idle.compareAndSet(slot, instance, null)) {
+                return instance;
+            }
+        }
+        return null;
+    }
+
+    private int probe() {
+        return (int) (Thread.currentThread().getId() % idle.length());
     }
 }
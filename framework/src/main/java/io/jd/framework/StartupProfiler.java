@@ -0,0 +1,75 @@
+package io.jd.framework;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public final class StartupProfiler {
+    public static final String ENABLED_PROPERTY = "io.jd.framework.profile";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final StartupRecorder RECORDER = new StartupRecorder();
+
+    private StartupProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static Frame enter() {
+        return ENABLED ? RECORDER.enter() : null;
+    }
+
+    public static <T> T exit(Frame frame, T bean) {
+        if (frame != null) {
+            RECORDER.exit(frame, bean);
+        }
+        return bean;
+    }
+
+    public static void dependencies(Class<?> beanType, List<Class<?>> dependencyTypes) {
+        if (ENABLED) {
+            RECORDER.dependencies(beanType, dependencyTypes);
+        }
+    }
+
+    public static StartupReport report() {
+        return RECORDER.report();
+    }
+
+    public static void writeReport(Path path) throws IOException {
+        Files.writeString(path, report().toJson());
+    }
+
+    static <T> T instantiate(Instantiator<T> instantiator, BeanProvider beanProvider) {
+        if (!ENABLED) {
+            return instantiator.instantiate(beanProvider);
+        }
+        var frame = RECORDER.enter();
+        T bean;
+        try {
+            bean = instantiator.instantiate(beanProvider);
+        } catch (RuntimeException | Error e) {
+            RECORDER.abandon(frame);
+            throw e;
+        }
+        RECORDER.exit(frame, bean);
+        if (instantiator instanceof BeanDefinition<?> definition) {
+            RECORDER.dependencies(bean.getClass(), definition.dependencies());
+        }
+        return bean;
+    }
+
+    public static final class Frame {
+        final Frame parent;
+        final long start;
+        long dependencyNanos;
+
+        Frame(Frame parent, long start) {
+            this.parent = parent;
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.jd.framework;
+
+import io.jd.framework.StartupProfiler.Frame;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class StartupRecorder {
+    private final long origin = System.nanoTime();
+    private final ThreadLocal<Frame> current = new ThreadLocal<>();
+    private final AtomicInteger order = new AtomicInteger();
+    private final Queue<BeanCreation> creations = new ConcurrentLinkedQueue<>();
+    private final Map<Class<?>, List<Class<?>>> dependencies = new ConcurrentHashMap<>();
+
+    Frame enter() {
+        var frame = new Frame(current.get(), System.nanoTime());
+        current.set(frame);
+        return frame;
+    }
+
+    void exit(Frame frame, Object bean) {
+        var totalNanos = System.nanoTime() - frame.start;
+        abandon(frame);
+        if (frame.parent != null) {
+            frame.parent.dependencyNanos += totalNanos;
+        }
+        creations.add(new BeanCreation(
+                bean.getClass(),
+                Thread.currentThread().getName(),
+                order.getAndIncrement(),
+                frame.start - origin,
+                totalNanos,
+                totalNanos - frame.dependencyNanos
+        ));
+    }
+
+    void abandon(Frame frame) {
+        if (frame.parent == null) {
+            current.remove();
+        } else {
+            current.set(frame.parent);
+        }
+    }
+
+    void dependencies(Class<?> beanType, List<Class<?>> dependencyTypes) {
+        dependencies.put(beanType, dependencyTypes);
+    }
+
+    StartupReport report() {
+        var recorded = creations.stream().sorted(Comparator.comparingInt(BeanCreation::order)).toList();
+        return new StartupReport(recorded, criticalPath(recorded));
+    }
+
+    private List<BeanCreation> criticalPath(List<BeanCreation> recorded) {
+        var firstCreations = new LinkedHashMap<Class<?>, BeanCreation>();
+        recorded.forEach(creation -> firstCreations.putIfAbsent(creation.type(), creation));
+        var paths = new HashMap<BeanCreation, List<BeanCreation>>();
+        return firstCreations.values().stream()
+                .map(creation -> criticalPath(creation, firstCreations, paths, new HashSet<>()))
+                .max(Comparator.comparingLong(StartupRecorder::nanos))
+                .orElse(List.of());
+    }
+
+    private List<BeanCreation> criticalPath(BeanCreation creation,
+                                            Map<Class<?>, BeanCreation> firstCreations,
+                                            Map<BeanCreation, List<BeanCreation>> paths,
+                                            Set<BeanCreation> visiting) {
+        var known = paths.get(creation);
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(creation)) {
+            return List.of();
+        }
+        var longestDependencyPath = dependencies.getOrDefault(creation.type(), List.of()).stream()
+                .flatMap(dependencyType -> firstCreations.values().stream().filter(candidate -> dependencyType.isAssignableFrom(candidate.type())))
+                .map(dependency -> criticalPath(dependency, firstCreations, paths, visiting))
+                .max(Comparator.comparingLong(StartupRecorder::nanos))
+                .orElse(List.of());
+        visiting.remove(creation);
+        var path = new ArrayList<>(longestDependencyPath);
+        path.add(creation);
+        paths.put(creation, path);
+        return path;
+    }
+
+    private static long nanos(List<BeanCreation> path) {
+        return path.stream().mapToLong(BeanCreation::ownNanos).sum();
+    }
+}
@@ -0,0 +1,44 @@
+package io.jd.framework;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+
+public record StartupReport(List<BeanCreation> creations, List<BeanCreation> criticalPath) {
+
+    public long criticalPathNanos() {
+        return criticalPath.stream().mapToLong(BeanCreation::ownNanos).sum();
+    }
+
+    public String toJson() {
+        return """
+                {
+                  "creations": [%s],
+                  "criticalPath": {
+                    "nanos": %d,
+                    "beans": [%s]
+                  }
+                }
+                """.formatted(
+                creations.stream().map(StartupReport::toJson).collect(joining(",\n    ", "\n    ", "\n  ")),
+                criticalPathNanos(),
+                criticalPath.stream().map(creation -> quote(creation.type().getName())).collect(joining(", "))
+        );
+    }
+
+    private static String toJson(BeanCreation creation) {
+        return "{\"type\": %s, \"thread\": %s, \"order\": %d, \"startNanos\": %d, \"totalNanos\": %d, \"ownNanos\": %d, \"dependencyNanos\": %d}".formatted(
+                quote(creation.type().getName()),
+                quote(creation.thread()),
+                creation.order(),
+                creation.startNanos(),
+                creation.totalNanos(),
+                creation.ownNanos(),
+                creation.dependencyNanos()
+        );
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
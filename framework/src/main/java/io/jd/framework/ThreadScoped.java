@@ -0,0 +1,12 @@
+package io.jd.framework;
+
+import jakarta.inject.Scope;
+
+import java.lang.annotation.*;
+
+@Scope
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ThreadScoped {
+}
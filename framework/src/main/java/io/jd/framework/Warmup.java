@@ -0,0 +1,15 @@
+package io.jd.framework;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface Warmup {
+
+    int iterations() default 1000;
+
+    long millis() default 0;
+
+    String body() default "";
+}
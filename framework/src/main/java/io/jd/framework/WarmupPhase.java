@@ -0,0 +1,71 @@
+package io.jd.framework;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+public final class WarmupPhase {
+    public static final String ENABLED_PROPERTY = "io.jd.framework.warmup";
+
+    private final List<WarmupRoutine> routines;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public WarmupPhase(List<WarmupRoutine> routines) {
+        this.routines = routines;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    }
+
+    public static WarmupPhase of(BeanProvider beanProvider) {
+        // only beans created so far are warmed up, with a lazy provider the caller decides which ones exist
+        return new WarmupPhase(beanProvider.lifecycle().warmups());
+    }
+
+    public WarmupPhase parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Warmup parallelism has to be positive, was: %s".formatted(parallelism));
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public List<Result> run() {
+        if (routines.isEmpty()) {
+            return List.of();
+        }
+        var pool = new ForkJoinPool(Math.min(parallelism, routines.size()));
+        try {
+            var runs = routines.stream()
+                    .map(routine -> CompletableFuture.supplyAsync(() -> run(routine), pool))
+                    .toList();
+            return runs.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("Warmup failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Result run(WarmupRoutine routine) {
+        var start = System.nanoTime();
+        var deadline = start + routine.millis() * 1_000_000;
+        var iterations = 0;
+        try {
+            while (routine.isTimed() ? System.nanoTime() - deadline < 0 : iterations < routine.iterations()) {
+                routine.action().run();
+                iterations++;
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Warmup routine %s failed after %d iterations".formatted(routine.name(), iterations), e);
+        }
+        return new Result(routine.name(), iterations, System.nanoTime() - start);
+    }
+
+    public record Result(String routine, int iterations, long nanos) {
+    }
+}
@@ -0,0 +1,19 @@
+package io.jd.framework;
+
+public record WarmupRoutine(String name, int iterations, long millis, Action action) {
+
+    public WarmupRoutine {
+        if (iterations < 1 && millis < 1) {
+            throw new IllegalArgumentException("Warmup routine %s has to run for some iterations or time".formatted(name));
+        }
+    }
+
+    public boolean isTimed() {
+        return millis > 0;
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,101 @@
+package io.jd.framework;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+public final class WindowCoalescer<G> {
+    private final int maxSize;
+    private final long windowNanos;
+    private final Supplier<G> opener;
+    private final ToIntFunction<G> size;
+    private final Consumer<G> dispatcher;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition closed = lock.newCondition();
+    private final AtomicLongArray groupSizes;
+    private G open;
+
+    private WindowCoalescer(int maxSize, long windowNanos, Supplier<G> opener, ToIntFunction<G> size, Consumer<G> dispatcher) {
+        this.maxSize = maxSize;
+        this.windowNanos = windowNanos;
+        this.opener = opener;
+        this.size = size;
+        this.dispatcher = dispatcher;
+        this.groupSizes = new AtomicLongArray(maxSize + 1);
+    }
+
+    public static <G> WindowCoalescer<G> of(int maxSize, long windowMicros, Supplier<G> opener, ToIntFunction<G> size, Consumer<G> dispatcher) {
+        if (maxSize < 1 || windowMicros < 0) {
+            throw new IllegalArgumentException("Coalescing needs a positive size and a non-negative window, were: %s and %s".formatted(maxSize, windowMicros));
+        }
+        return new WindowCoalescer<>(maxSize, TimeUnit.MICROSECONDS.toNanos(windowMicros), opener, size, dispatcher);
+    }
+
+    public <R> R join(Function<G, R> member) {
+        // members join the open group under the lock, the caller closing it dispatches the group on its own thread
+        G group;
+        R membership;
+        var dispatch = false;
+        lock.lock();
+        try {
+            var leader = open == null;
+            if (leader) {
+                open = opener.get();
+            }
+            group = open;
+            membership = member.apply(group);
+            if (size.applyAsInt(group) >= maxSize) {
+                dispatch = close(group);
+                closed.signalAll();
+            } else if (leader) {
+                // the first caller holds the window open, a caller filling the group dispatches it earlier
+                awaitWindow(group);
+                dispatch = close(group);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (dispatch) {
+            groupSizes.incrementAndGet(size.applyAsInt(group));
+            dispatcher.accept(group);
+        }
+        return membership;
+    }
+
+    public SortedMap<Integer, Long> groupSizes() {
+        var sizes = new TreeMap<Integer, Long>();
+        for (int groupSize = 1; groupSize < groupSizes.length(); groupSize++) {
+            var count = groupSizes.get(groupSize);
+            if (count > 0) {
+                sizes.put(groupSize, count);
+            }
+        }
+        return sizes;
+    }
+
+    private void awaitWindow(G group) {
+        var remaining = windowNanos;
+        try {
+            while (open == group && remaining > 0) {
+                remaining = closed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean close(G group) {
+        if (open != group) {
+            return false;
+        }
+        open = null;
+        return true;
+    }
+}
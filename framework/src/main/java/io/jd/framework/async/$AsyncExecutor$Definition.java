@@ -0,0 +1,35 @@
+package io.jd.framework.async;
+
+import io.jd.framework.BeanDefinition;
+import io.jd.framework.BeanProvider;
+import io.jd.framework.Instantiator;
+import io.jd.framework.ScopeProvider;
+
+// the framework is not compiled with its own processor, so the default executor is defined in the shape of a generated definition
+public class $AsyncExecutor$Definition implements BeanDefinition<AsyncExecutor>, Instantiator<AsyncExecutor> {
+    private final ScopeProvider<AsyncExecutor> provider = ScopeProvider.singletonScope(this);
+
+    @Override
+    public AsyncExecutor create(BeanProvider beanProvider) {
+        return provider.apply(beanProvider);
+    }
+
+    @Override
+    public AsyncExecutor instantiate(BeanProvider beanProvider) {
+        return newInstance();
+    }
+
+    public static AsyncExecutor newInstance() {
+        return AsyncExecutor.fromProperties();
+    }
+
+    @Override
+    public Class<AsyncExecutor> type() {
+        return AsyncExecutor.class;
+    }
+
+    @Override
+    public void destroy(AsyncExecutor instance) {
+        instance.close();
+    }
+}
@@ -0,0 +1,9 @@
+package io.jd.framework.async;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface Async {
+}
@@ -0,0 +1,143 @@
+package io.jd.framework.async;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public final class AsyncExecutor implements Executor, AutoCloseable {
+    public static final String EXECUTOR_PROPERTY = "io.jd.framework.async.executor";
+    public static final String THREADS_PROPERTY = "io.jd.framework.async.threads";
+    public static final String QUEUE_PROPERTY = "io.jd.framework.async.queue";
+    public static final String VIRTUAL = "virtual";
+    public static final String PLATFORM = "platform";
+    private static final int DEFAULT_THREADS = 64;
+    private static final int DEFAULT_QUEUE = 10_000;
+
+    private final ExecutorService executor;
+    private final boolean virtual;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    private AsyncExecutor(ExecutorService executor, boolean virtual) {
+        this.executor = executor;
+        this.virtual = virtual;
+    }
+
+    public static AsyncExecutor fromProperties() {
+        var mode = System.getProperty(EXECUTOR_PROPERTY, VIRTUAL);
+        if (!VIRTUAL.equals(mode) && !PLATFORM.equals(mode)) {
+            throw new IllegalArgumentException("Unknown async executor %s, expected %s or %s".formatted(mode, VIRTUAL, PLATFORM));
+        }
+        var threads = Integer.getInteger(THREADS_PROPERTY, DEFAULT_THREADS);
+        var queue = Integer.getInteger(QUEUE_PROPERTY, DEFAULT_QUEUE);
+        return VIRTUAL.equals(mode)
+                ? virtual().orElseGet(() -> platform(threads, queue))
+                : platform(threads, queue);
+    }
+
+    public static Optional<AsyncExecutor> virtual() {
+        // the framework targets Java 17, virtual threads are used only when the running JDK provides them
+        try {
+            var factory = MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return Optional.of(new AsyncExecutor((ExecutorService) factory.invoke(), true));
+        } catch (NoSuchMethodException | IllegalAccessException | UnsupportedOperationException e) {
+            return Optional.empty();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    public static AsyncExecutor platform(int threads, int queueCapacity) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Async threads and queue capacity have to be positive, were: %s and %s".formatted(threads, queueCapacity));
+        }
+        // a full queue runs the call on the caller's thread, which slows down submitters instead of failing them
+        var pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new AsyncThreadFactory(), AsyncExecutor::runOnCaller);
+        pool.allowCoreThreadTimeOut(true);
+        return new AsyncExecutor(pool, false);
+    }
+
+    @Override
+    public void execute(Runnable call) {
+        submitted.increment();
+        queued.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    call.run();
+                } catch (Throwable failure) {
+                    // nobody waits for a void call, its failure goes where an uncaught one on a pool thread would
+                    var thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, failure);
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            submitted.decrement();
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<? extends CompletionStage<T>> call) {
+        var result = new CompletableFuture<T>();
+        execute(() -> {
+            try {
+                call.get().whenComplete((value, failure) -> {
+                    if (failure == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(failure);
+                    }
+                });
+            } catch (Throwable failure) {
+                result.completeExceptionally(failure);
+            }
+        });
+        return result;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public AsyncStatistics statistics() {
+        return new AsyncStatistics(virtual, submitted.sum(), completed.sum(), queued.get(), active.get());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static void runOnCaller(Runnable call, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            throw new RejectedExecutionException("Async executor is closed");
+        }
+        call.run();
+    }
+
+    private static final class AsyncThreadFactory implements ThreadFactory {
+        private final AtomicLong counter = new AtomicLong();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.jd.framework.async;
+
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.ParameterSpec;
+import io.jd.framework.processor.MethodInterceptor;
+import io.jd.framework.processor.ProcessorPlugin;
+import io.jd.framework.processor.TypeDependencyResolver;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+public class AsyncPlugin implements ProcessorPlugin, MethodInterceptor {
+    private static final String ASYNC_EXECUTOR = "asyncExecutor";
+
+    private Messager messager;
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public void init(ProcessingEnvironment processingEnv) {
+        this.messager = processingEnv.getMessager();
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public Class<? extends Annotation> reactsTo() {
+        return Async.class;
+    }
+
+    @Override
+    public Collection<JavaFile> process(Set<? extends Element> annotated, TypeDependencyResolver typeDependencyResolver) {
+        ElementFilter.methodsIn(annotated).forEach(this::validate);
+        return List.of();
+    }
+
+    private void validate(ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            messager.printMessage(ERROR, "private method annotated as async", method);
+        } else if (method.getModifiers().contains(Modifier.STATIC)) {
+            messager.printMessage(ERROR, "static method annotated as async", method);
+        } else if (method.getModifiers().contains(Modifier.FINAL)) {
+            messager.printMessage(ERROR, "final method annotated as async", method);
+        } else if (method.getEnclosingElement().getModifiers().contains(Modifier.FINAL)) {
+            messager.printMessage(ERROR, "final class annotated as async", method.getEnclosingElement());
+        } else if (method.getReturnType().getKind() != TypeKind.VOID && !returnsStage(method)) {
+            messager.printMessage(ERROR, "async method has to return void, CompletableFuture or CompletionStage", method);
+        } else if (!method.getThrownTypes().stream().allMatch(this::isUnchecked)) {
+            // the call runs inside a lambda, which cannot rethrow checked exceptions to the caller
+            messager.printMessage(ERROR, "async method cannot declare checked exceptions", method);
+        }
+    }
+
+    private boolean isUnchecked(TypeMirror thrownType) {
+        return types.isAssignable(thrownType, elements.getTypeElement(RuntimeException.class.getCanonicalName()).asType())
+                || types.isAssignable(thrownType, elements.getTypeElement(Error.class.getCanonicalName()).asType());
+    }
+
+    private boolean returnsStage(ExecutableElement method) {
+        var returnType = types.erasure(method.getReturnType());
+        return types.isSameType(returnType, erasure(CompletableFuture.class)) || types.isSameType(returnType, erasure(CompletionStage.class));
+    }
+
+    private TypeMirror erasure(Class<?> type) {
+        return types.erasure(elements.getTypeElement(type.getCanonicalName()).asType());
+    }
+
+    @Override
+    public boolean intercepts(ExecutableElement method) {
+        return method.getAnnotation(Async.class) != null;
+    }
+
+    @Override
+    public List<ParameterSpec> injected() {
+        // the executor is a bean, so the provider creating the intercepted bean also shuts the executor down
+        return List.of(ParameterSpec.builder(AsyncExecutor.class, ASYNC_EXECUTOR).build());
+    }
+
+    @Override
+    public CodeBlock intercept(ExecutableElement method, CodeBlock proceed) {
+        // the call leaves the caller's thread here, so transactions and timing of inner layers run where the method does
+        return method.getReturnType().getKind() == TypeKind.VOID
+                ? CodeBlock.builder().addStatement("$N.execute(() -> $L)", ASYNC_EXECUTOR, proceed).build()
+                : CodeBlock.builder().addStatement("return $N.submit(() -> $L)", ASYNC_EXECUTOR, proceed).build();
+    }
+}
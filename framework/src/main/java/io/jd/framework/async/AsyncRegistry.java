@@ -0,0 +1,13 @@
+package io.jd.framework.async;
+
+import io.jd.framework.BeanDefinition;
+import io.jd.framework.BeanRegistry;
+
+import java.util.List;
+
+public final class AsyncRegistry implements BeanRegistry {
+    @Override
+    public List<BeanDefinition<?>> definitions() {
+        return List.of(new $AsyncExecutor$Definition());
+    }
+}
@@ -0,0 +1,4 @@
+package io.jd.framework.async;
+
+public record AsyncStatistics(boolean virtual, long submitted, long completed, int queued, int active) {
+}
@@ -0,0 +1,14 @@
+package io.jd.framework.batch;
+
+import java.util.Map;
+
+public record BatchStatistics(long calls, long batches, long keys, Map<Integer, Long> batchSizes) {
+
+    public long roundTripsSaved() {
+        return calls - batches;
+    }
+
+    public double meanBatchSize() {
+        return batches == 0 ? 0 : (double) keys / batches;
+    }
+}
@@ -0,0 +1,15 @@
+package io.jd.framework.batch;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface Batched {
+
+    String value();
+
+    int maxBatchSize() default 100;
+
+    long windowMicros() default 50;
+}
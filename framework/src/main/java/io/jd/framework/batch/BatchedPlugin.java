@@ -0,0 +1,179 @@
+package io.jd.framework.batch;
+
+import com.squareup.javapoet.*;
+import io.jd.framework.processor.MethodInterceptor;
+import io.jd.framework.processor.ProcessorPlugin;
+import io.jd.framework.processor.TypeDependencyResolver;
+import jakarta.transaction.Transactional;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+public class BatchedPlugin implements ProcessorPlugin, MethodInterceptor {
+    private Messager messager;
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public void init(ProcessingEnvironment processingEnv) {
+        this.messager = processingEnv.getMessager();
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public Class<? extends Annotation> reactsTo() {
+        return Batched.class;
+    }
+
+    @Override
+    public Collection<JavaFile> process(Set<? extends Element> annotated, TypeDependencyResolver typeDependencyResolver) {
+        var batchedMethods = ElementFilter.methodsIn(annotated);
+        batchedMethods.forEach(this::validate);
+        batchedMethods.stream()
+                .map(method -> (TypeElement) method.getEnclosingElement())
+                .distinct()
+                .forEach(this::validateNames);
+        return List.of();
+    }
+
+    private void validate(ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            messager.printMessage(ERROR, "private method annotated as batched", method);
+        } else if (method.getModifiers().contains(Modifier.STATIC)) {
+            messager.printMessage(ERROR, "static method annotated as batched", method);
+        } else if (method.getModifiers().contains(Modifier.FINAL)) {
+            messager.printMessage(ERROR, "final method annotated as batched", method);
+        } else if (method.getEnclosingElement().getModifiers().contains(Modifier.FINAL)) {
+            messager.printMessage(ERROR, "final class annotated as batched", method.getEnclosingElement());
+        } else if (method.getParameters().size() != 1 || method.getReturnType().getKind() == TypeKind.VOID) {
+            messager.printMessage(ERROR, "batched method has to take a single key and return its value", method);
+        } else if (method.getReturnType().getKind().isPrimitive()) {
+            // keys left out by the bulk method load as null, which a primitive result cannot hold
+            messager.printMessage(ERROR, "batched method has to return a reference type", method);
+        } else if (method.getAnnotation(Transactional.class) != null) {
+            messager.printMessage(ERROR, "batched method cannot be transactional, its bulk method can", method);
+        } else if (bulkMethod(method).isEmpty()) {
+            messager.printMessage(ERROR, "bulk method %s accepting List<%s> and returning Map<%s, %s> not found".formatted(
+                    method.getAnnotation(Batched.class).value(), keyType(method), keyType(method), valueType(method)), method);
+        }
+    }
+
+    private void validateNames(TypeElement type) {
+        var names = new HashSet<String>();
+        batchedMethods(type).stream()
+                .filter(method -> !names.add(method.getSimpleName().toString()))
+                .forEach(method -> messager.printMessage(ERROR, "batched method %s cannot be overloaded".formatted(method.getSimpleName()), method));
+    }
+
+    private Optional<ExecutableElement> bulkMethod(ExecutableElement method) {
+        // the bulk method is called on the bean itself, so interceptors of its own, like transactions, apply to it
+        var keys = types.getDeclaredType(elements.getTypeElement(List.class.getCanonicalName()), keyType(method));
+        var values = types.getDeclaredType(elements.getTypeElement(Map.class.getCanonicalName()), keyType(method), valueType(method));
+        return ElementFilter.methodsIn(method.getEnclosingElement().getEnclosedElements()).stream()
+                .filter(candidate -> candidate.getSimpleName().contentEquals(method.getAnnotation(Batched.class).value()))
+                .filter(candidate -> !candidate.getModifiers().contains(Modifier.PRIVATE) && !candidate.getModifiers().contains(Modifier.STATIC))
+                .filter(candidate -> candidate.getParameters().size() == 1 && types.isAssignable(keys, candidate.getParameters().get(0).asType()))
+                .filter(candidate -> types.isAssignable(candidate.getReturnType(), values))
+                .filter(candidate -> candidate.getThrownTypes().stream().allMatch(this::isUnchecked))
+                .findFirst();
+    }
+
+    private boolean isUnchecked(TypeMirror thrownType) {
+        return types.isAssignable(thrownType, elements.getTypeElement(RuntimeException.class.getCanonicalName()).asType())
+                || types.isAssignable(thrownType, elements.getTypeElement(Error.class.getCanonicalName()).asType());
+    }
+
+    private TypeMirror keyType(ExecutableElement method) {
+        return boxed(method.getParameters().get(0).asType());
+    }
+
+    private TypeMirror valueType(ExecutableElement method) {
+        return boxed(method.getReturnType());
+    }
+
+    private TypeMirror boxed(TypeMirror type) {
+        return type.getKind().isPrimitive() ? types.boxedClass((PrimitiveType) type).asType() : type;
+    }
+
+    @Override
+    public boolean intercepts(ExecutableElement method) {
+        return method.getAnnotation(Batched.class) != null;
+    }
+
+    @Override
+    public List<FieldSpec> fields(TypeElement interceptedType) {
+        return batchedMethods(interceptedType).stream()
+                .map(method -> {
+                    var batched = method.getAnnotation(Batched.class);
+                    var batcherType = ParameterizedTypeName.get(ClassName.get(Batcher.class), TypeName.get(keyType(method)), TypeName.get(valueType(method)));
+                    return FieldSpec.builder(batcherType, batcherField(method), PRIVATE, FINAL)
+                            .initializer("$T.of($S, $L, $LL, this::$L)", Batcher.class, batcherName(method), batched.maxBatchSize(), batched.windowMicros(), batched.value())
+                            .build();
+                })
+                .toList();
+    }
+
+    @Override
+    public List<TypeName> superinterfaces(TypeElement interceptedType) {
+        return List.of(ClassName.get(Batching.class));
+    }
+
+    @Override
+    public List<MethodSpec> methods(TypeElement interceptedType) {
+        var entries = batchedMethods(interceptedType).stream()
+                .map(method -> CodeBlock.of("$T.entry($S, $L)", Map.class, batcherName(method), batcherField(method)))
+                .collect(CodeBlock.joining(", "));
+        var batcherType = ParameterizedTypeName.get(ClassName.get(Batcher.class), WildcardTypeName.subtypeOf(Object.class), WildcardTypeName.subtypeOf(Object.class));
+        return List.of(MethodSpec.methodBuilder("batchers")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return $T.ofEntries($L)", Map.class, entries)
+                .returns(ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), batcherType))
+                .build());
+    }
+
+    @Override
+    public CodeBlock intercept(ExecutableElement method, CodeBlock proceed) {
+        // the single key body is replaced, the key reaches the bulk method together with keys of concurrent callers
+        return CodeBlock.builder()
+                .addStatement("return $L.load($L)", batcherField(method), method.getParameters().get(0).getSimpleName())
+                .build();
+    }
+
+    private static List<ExecutableElement> batchedMethods(TypeElement type) {
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .filter(method -> method.getAnnotation(Batched.class) != null)
+                .toList();
+    }
+
+    private static String batcherName(ExecutableElement method) {
+        return "%s.%s".formatted(method.getEnclosingElement().getSimpleName(), method.getSimpleName());
+    }
+
+    private static String batcherField(ExecutableElement method) {
+        return "batcher$" + method.getSimpleName();
+    }
+}
@@ -0,0 +1,81 @@
+package io.jd.framework.batch;
+
+import io.jd.framework.WindowCoalescer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public final class Batcher<K, V> {
+    private final String name;
+    private final Function<List<K>, Map<K, V>> bulk;
+    private final LongAdder calls = new LongAdder();
+    private final WindowCoalescer<Batch<K, V>> coalescer;
+
+    private Batcher(String name, int maxBatchSize, long windowMicros, Function<List<K>, Map<K, V>> bulk) {
+        this.name = name;
+        this.bulk = bulk;
+        this.coalescer = WindowCoalescer.of(maxBatchSize, windowMicros, Batch::new, batch -> batch.results.size(), this::dispatch);
+    }
+
+    public static <K, V> Batcher<K, V> of(String name, int maxBatchSize, long windowMicros, Function<List<K>, Map<K, V>> bulk) {
+        if (maxBatchSize < 1 || windowMicros < 0) {
+            throw new IllegalArgumentException("Batch %s needs a positive size and a non-negative window, were: %s and %s".formatted(name, maxBatchSize, windowMicros));
+        }
+        return new Batcher<>(name, maxBatchSize, windowMicros, bulk);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public V load(K key) {
+        Objects.requireNonNull(key, () -> "Key of batch %s cannot be null".formatted(name));
+        calls.increment();
+        // callers asking for a key already in the batch share its result
+        var result = coalescer.join(batch -> batch.results.computeIfAbsent(key, ignored -> new CompletableFuture<>()));
+        return join(result);
+    }
+
+    public BatchStatistics statistics() {
+        var sizes = coalescer.groupSizes();
+        var batches = 0L;
+        var keys = 0L;
+        for (var size : sizes.entrySet()) {
+            batches += size.getValue();
+            keys += size.getValue() * size.getKey();
+        }
+        return new BatchStatistics(calls.sum(), batches, keys, sizes);
+    }
+
+    private void dispatch(Batch<K, V> batch) {
+        try {
+            var values = bulk.apply(List.copyOf(batch.results.keySet()));
+            batch.results.forEach((key, result) -> result.complete(values.get(key)));
+        } catch (Throwable failure) {
+            batch.results.values().forEach(result -> result.completeExceptionally(failure));
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Batch<K, V> {
+        private final Map<K, CompletableFuture<V>> results = new LinkedHashMap<>();
+    }
+}
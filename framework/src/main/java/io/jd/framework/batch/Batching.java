@@ -0,0 +1,8 @@
+package io.jd.framework.batch;
+
+import java.util.Map;
+
+public interface Batching {
+
+    Map<String, Batcher<?, ?>> batchers();
+}
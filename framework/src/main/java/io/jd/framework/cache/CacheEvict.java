@@ -0,0 +1,13 @@
+package io.jd.framework.cache;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface CacheEvict {
+
+    String value();
+
+    boolean allEntries() default false;
+}
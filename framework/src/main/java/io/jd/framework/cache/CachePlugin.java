@@ -0,0 +1,225 @@
+package io.jd.framework.cache;
+
+import com.squareup.javapoet.*;
+import io.jd.framework.processor.MethodInterceptor;
+import io.jd.framework.processor.ProcessorPlugin;
+import io.jd.framework.processor.TypeDependencyResolver;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+public class CachePlugin implements ProcessorPlugin, MethodInterceptor {
+    private Messager messager;
+    private Types types;
+
+    @Override
+    public void init(ProcessingEnvironment processingEnv) {
+        this.messager = processingEnv.getMessager();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public Class<? extends Annotation> reactsTo() {
+        return Cacheable.class;
+    }
+
+    @Override
+    public Set<Class<? extends Annotation>> triggers() {
+        return Set.of(Cacheable.class, CacheEvict.class);
+    }
+
+    @Override
+    public Collection<JavaFile> process(Set<? extends Element> annotated, TypeDependencyResolver typeDependencyResolver) {
+        var methods = ElementFilter.methodsIn(annotated);
+        var cacheableMethods = methods.stream().filter(method -> method.getAnnotation(Cacheable.class) != null).toList();
+        cacheableMethods.forEach(method -> validate(method, "cacheable"));
+        cacheableMethods.stream()
+                .filter(method -> method.getReturnType().getKind() == TypeKind.VOID)
+                .forEach(method -> messager.printMessage(ERROR, "cacheable method has to return a value", method));
+        methods.stream()
+                .map(method -> (TypeElement) method.getEnclosingElement())
+                .distinct()
+                .forEach(this::validateCaches);
+        return List.of();
+    }
+
+    private void validate(ExecutableElement method, String kind) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            messager.printMessage(ERROR, "private method annotated as %s".formatted(kind), method);
+        } else if (method.getModifiers().contains(Modifier.STATIC)) {
+            messager.printMessage(ERROR, "static method annotated as %s".formatted(kind), method);
+        } else if (method.getModifiers().contains(Modifier.FINAL)) {
+            messager.printMessage(ERROR, "final method annotated as %s".formatted(kind), method);
+        } else if (method.getEnclosingElement().getModifiers().contains(Modifier.FINAL)) {
+            messager.printMessage(ERROR, "final class annotated as %s".formatted(kind), method.getEnclosingElement());
+        }
+    }
+
+    private void validateCaches(TypeElement type) {
+        var caches = new LinkedHashMap<String, ExecutableElement>();
+        for (ExecutableElement method : cacheableMethods(type)) {
+            var cacheable = method.getAnnotation(Cacheable.class);
+            var declaring = caches.putIfAbsent(cacheable.value(), method);
+            if (declaring == null) {
+                continue;
+            }
+            var declared = declaring.getAnnotation(Cacheable.class);
+            if (declared.maximumSize() != cacheable.maximumSize() || declared.expireAfterWriteMillis() != cacheable.expireAfterWriteMillis()) {
+                messager.printMessage(ERROR, "cache %s is declared with different settings".formatted(cacheable.value()), method);
+            } else if (!sameSignature(declaring, method)) {
+                // entries are keyed by arguments only, so methods sharing a cache have to agree on what a key and a value are
+                messager.printMessage(ERROR, "methods sharing cache %s have to take the same parameters and return the same type".formatted(cacheable.value()), method);
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            var cacheEvict = method.getAnnotation(CacheEvict.class);
+            if (cacheEvict != null) {
+                validate(method, "cache evicting");
+                if (!caches.containsKey(cacheEvict.value())) {
+                    messager.printMessage(ERROR, "no cacheable method uses cache %s".formatted(cacheEvict.value()), method);
+                } else if (!cacheEvict.allEntries() && !startsWithKey(method, cacheEvict.value(), type)) {
+                    messager.printMessage(ERROR, "cache evicting method has to start with the key parameters of cache %s".formatted(cacheEvict.value()), method);
+                }
+            }
+        }
+    }
+
+    private boolean sameSignature(ExecutableElement method, ExecutableElement other) {
+        return method.getParameters().size() == other.getParameters().size()
+                && IntStream.range(0, method.getParameters().size()).allMatch(index -> sameErasure(method.getParameters().get(index).asType(), other.getParameters().get(index).asType()))
+                && sameErasure(method.getReturnType(), other.getReturnType());
+    }
+
+    private boolean sameErasure(TypeMirror type, TypeMirror other) {
+        return types.isSameType(types.erasure(type), types.erasure(other));
+    }
+
+    private boolean startsWithKey(ExecutableElement evictingMethod, String cacheName, TypeElement type) {
+        var parameters = evictingMethod.getParameters();
+        return cacheableMethods(type).stream()
+                .filter(method -> method.getAnnotation(Cacheable.class).value().equals(cacheName))
+                .allMatch(method -> method.getParameters().size() <= parameters.size()
+                        && IntStream.range(0, method.getParameters().size()).allMatch(index -> sameErasure(method.getParameters().get(index).asType(), parameters.get(index).asType())));
+    }
+
+    @Override
+    public boolean intercepts(ExecutableElement method) {
+        return method.getAnnotation(Cacheable.class) != null || method.getAnnotation(CacheEvict.class) != null;
+    }
+
+    @Override
+    public List<FieldSpec> fields(TypeElement interceptedType) {
+        return caches(interceptedType).values().stream()
+                .map(cacheable -> FieldSpec.builder(MethodCache.class, cacheField(cacheable.value()), PRIVATE, FINAL)
+                        .initializer("$T.of($S, $LL, $LL)", MethodCache.class, cacheable.value(), cacheable.maximumSize(), cacheable.expireAfterWriteMillis())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<TypeName> superinterfaces(TypeElement interceptedType) {
+        return List.of(ClassName.get(Cached.class));
+    }
+
+    @Override
+    public List<MethodSpec> methods(TypeElement interceptedType) {
+        var entries = caches(interceptedType).keySet().stream()
+                .map(name -> CodeBlock.of("$T.entry($S, $L)", Map.class, name, cacheField(name)))
+                .collect(CodeBlock.joining(", "));
+        return List.of(MethodSpec.methodBuilder("caches")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return $T.ofEntries($L)", Map.class, entries)
+                .returns(ParameterizedTypeName.get(Map.class, String.class, MethodCache.class))
+                .build());
+    }
+
+    @Override
+    public CodeBlock intercept(ExecutableElement method, CodeBlock proceed) {
+        var cacheable = method.getAnnotation(Cacheable.class);
+        if (cacheable != null) {
+            return CodeBlock.builder()
+                    .addStatement("var $$key = $L", key(method.getParameters()))
+                    .addStatement("$T $$cached = $L.get($$key)", TypeName.get(method.getReturnType()).box(), cacheField(cacheable.value()))
+                    .beginControlFlow("if ($$cached != null)")
+                    .addStatement("return $$cached")
+                    .endControlFlow()
+                    .addStatement("$T $$value = $L", TypeName.get(method.getReturnType()), proceed)
+                    .addStatement("$L.put($$key, $$value)", cacheField(cacheable.value()))
+                    .addStatement("return $$value")
+                    .build();
+        }
+        var cacheEvict = method.getAnnotation(CacheEvict.class);
+        var eviction = cacheEvict.allEntries()
+                ? CodeBlock.of("$L.invalidateAll()", cacheField(cacheEvict.value()))
+                : CodeBlock.of("$L.invalidate($L)", cacheField(cacheEvict.value()), key(method.getParameters().subList(0, keyArity(method, cacheEvict.value()))));
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            return CodeBlock.builder()
+                    .addStatement(proceed)
+                    .addStatement(eviction)
+                    .build();
+        }
+        return CodeBlock.builder()
+                .addStatement("$T $$value = $L", TypeName.get(method.getReturnType()), proceed)
+                .addStatement(eviction)
+                .addStatement("return $$value")
+                .build();
+    }
+
+    private static int keyArity(ExecutableElement evictingMethod, String cacheName) {
+        // evicting methods pass the key first, e.g. an identifier followed by the new state
+        return cacheableMethods((TypeElement) evictingMethod.getEnclosingElement()).stream()
+                .filter(method -> method.getAnnotation(Cacheable.class).value().equals(cacheName))
+                .findFirst()
+                .map(method -> method.getParameters().size())
+                .orElse(evictingMethod.getParameters().size());
+    }
+
+    private static CodeBlock key(List<? extends VariableElement> parameters) {
+        // a single argument is the key itself, so records like identifiers are looked up without allocating;
+        // this is safe because methods sharing a cache are validated to take and return the same types
+        if (parameters.size() == 1) {
+            return CodeBlock.of("$L", parameters.get(0).getSimpleName());
+        }
+        var arguments = parameters.stream().map(VariableElement::getSimpleName).collect(joining(", "));
+        return CodeBlock.of("$T.key($L)", MethodCache.class, arguments);
+    }
+
+    private static Map<String, Cacheable> caches(TypeElement type) {
+        var caches = new LinkedHashMap<String, Cacheable>();
+        cacheableMethods(type).forEach(method -> caches.putIfAbsent(method.getAnnotation(Cacheable.class).value(), method.getAnnotation(Cacheable.class)));
+        return caches;
+    }
+
+    private static List<ExecutableElement> cacheableMethods(TypeElement type) {
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .filter(method -> method.getAnnotation(Cacheable.class) != null)
+                .toList();
+    }
+
+    private static String cacheField(String cacheName) {
+        return "cache$" + cacheName.replaceAll("[^A-Za-z0-9_]", "_");
+    }
+}
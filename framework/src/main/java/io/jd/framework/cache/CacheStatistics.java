@@ -0,0 +1,9 @@
+package io.jd.framework.cache;
+
+public record CacheStatistics(long hits, long misses, long evictions, long size) {
+
+    public double hitRate() {
+        var requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,15 @@
+package io.jd.framework.cache;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface Cacheable {
+
+    String value();
+
+    long maximumSize() default 10_000;
+
+    long expireAfterWriteMillis() default 0;
+}
@@ -0,0 +1,8 @@
+package io.jd.framework.cache;
+
+import java.util.Map;
+
+public interface Cached {
+
+    Map<String, MethodCache> caches();
+}
@@ -0,0 +1,73 @@
+package io.jd.framework.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+public final class MethodCache {
+    private static final Object NO_ARGUMENTS = new Object();
+
+    private final String name;
+    private final Cache<Object, Object> cache;
+
+    private MethodCache(String name, Cache<Object, Object> cache) {
+        this.name = name;
+        this.cache = cache;
+    }
+
+    public static MethodCache of(String name, long maximumSize, long expireAfterWriteMillis) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size of cache %s has to be positive, was: %s".formatted(name, maximumSize));
+        }
+        // Caffeine admits new entries by their W-TinyLFU frequency, so one-off keys do not push out the hot ones
+        var builder = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats();
+        if (expireAfterWriteMillis > 0) {
+            builder.expireAfterWrite(Duration.ofMillis(expireAfterWriteMillis));
+        }
+        return new MethodCache(name, builder.build());
+    }
+
+    public static Object key() {
+        return NO_ARGUMENTS;
+    }
+
+    public static Object key(Object... arguments) {
+        return Arrays.asList(arguments);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V get(Object key) {
+        return key == null ? null : (V) cache.getIfPresent(key);
+    }
+
+    public void put(Object key, Object value) {
+        // neither null arguments nor null results are cached, such calls always reach the method
+        if (key != null && value != null) {
+            cache.put(key, value);
+        }
+    }
+
+    public void invalidate(Object key) {
+        if (key != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatistics statistics() {
+        cache.cleanUp();
+        var stats = cache.stats();
+        return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+}
@@ -0,0 +1,78 @@
+package io.jd.framework.lazy;
+
+import com.squareup.javapoet.JavaFile;
+import io.jd.framework.Lazy;
+import io.jd.framework.Pooled;
+import io.jd.framework.ProcessingEnvUtils;
+import io.jd.framework.processor.ProcessorPlugin;
+import io.jd.framework.processor.TypeDependencyResolver;
+import jakarta.inject.Scope;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+public class LazyPlugin implements ProcessorPlugin {
+    private final List<Class<? extends Annotation>> interceptingAnnotations;
+    private ProcessingEnvironment processingEnv;
+    private Messager messager;
+
+    public LazyPlugin(List<Class<? extends Annotation>> interceptingAnnotations) {
+        // proxies delegate to the target bean rather than to its intercepted subclass, so interceptors would be bypassed
+        this.interceptingAnnotations = interceptingAnnotations;
+    }
+
+    @Override
+    public void init(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Class<? extends Annotation> reactsTo() {
+        return Lazy.class;
+    }
+
+    @Override
+    public Collection<JavaFile> process(Set<? extends Element> annotated, TypeDependencyResolver typeDependencyResolver) {
+        return ElementFilter.typesIn(annotated).stream()
+                .filter(this::isValid)
+                .map(this::writeProxy)
+                .toList();
+    }
+
+    private boolean isValid(TypeElement lazyType) {
+        if (lazyType.getAnnotationMirrors().stream().noneMatch(mirror -> mirror.getAnnotationType().asElement().getAnnotation(Scope.class) != null)) {
+            return raise("lazy type is not a bean", lazyType);
+        } else if (lazyType.getAnnotation(Pooled.class) != null) {
+            return raise("pooled bean cannot be lazy", lazyType);
+        } else if (lazyType.getInterfaces().isEmpty()) {
+            return raise("lazy bean has to implement an interface to be proxied", lazyType);
+        }
+        var methods = ElementFilter.methodsIn(lazyType.getEnclosedElements());
+        for (Class<? extends Annotation> annotation : interceptingAnnotations) {
+            if (methods.stream().anyMatch(method -> method.getAnnotation(annotation) != null)) {
+                return raise("lazy bean cannot declare methods annotated with @%s".formatted(annotation.getSimpleName()), lazyType);
+            }
+        }
+        return true;
+    }
+
+    private boolean raise(String errorMessage, Element element) {
+        messager.printMessage(ERROR, errorMessage, element);
+        return false;
+    }
+
+    private JavaFile writeProxy(TypeElement lazyType) {
+        var packageElement = ProcessingEnvUtils.getPackageElement(processingEnv, lazyType);
+        return new LazyProxyWriter(lazyType, packageElement, processingEnv.getTypeUtils()).createProxy();
+    }
+}
@@ -0,0 +1,166 @@
+package io.jd.framework.lazy;
+
+import com.squareup.javapoet.*;
+import io.jd.framework.LazyProxy;
+import jakarta.inject.Provider;
+import jakarta.inject.Scope;
+import jakarta.inject.Singleton;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import java.util.*;
+
+import static java.util.stream.Collectors.joining;
+import static javax.lang.model.element.Modifier.*;
+
+class LazyProxyWriter {
+    private static final String TARGET = "target";
+    private static final String TARGET_PROVIDER = "targetProvider";
+    private static final String TARGET_METHOD = "target$";
+
+    private final TypeElement lazyElement;
+    private final PackageElement packageElement;
+    private final Types types;
+    private final ClassName targetName;
+
+    LazyProxyWriter(TypeElement lazyElement, PackageElement packageElement, Types types) {
+        this.lazyElement = lazyElement;
+        this.packageElement = packageElement;
+        this.types = types;
+        this.targetName = ClassName.get(lazyElement);
+    }
+
+    public JavaFile createProxy() {
+        var interfaces = interfaces(lazyElement.asType(), new LinkedHashMap<>());
+        TypeSpec typeSpec = TypeSpec.classBuilder("%s$Lazy".formatted(lazyElement.getSimpleName().toString()))
+                .addOriginatingElement(lazyElement)
+                .addModifiers(FINAL)
+                .addAnnotations(scopeAnnotations())
+                .addSuperinterfaces(interfaces.values().stream().map(TypeName::get).toList())
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(LazyProxy.class), targetName))
+                .addField(ParameterizedTypeName.get(ClassName.get(Provider.class), targetName), TARGET_PROVIDER, PRIVATE, FINAL)
+                .addField(targetName, TARGET, PRIVATE, VOLATILE)
+                .addMethod(constructor())
+                .addMethod(isTargetCreatedMethod())
+                .addMethod(targetMethod())
+                .addMethods(delegatingMethods(interfaces.values()))
+                .build();
+        return JavaFile.builder(packageElement.getQualifiedName().toString(), typeSpec).build();
+    }
+
+    private Map<String, DeclaredType> interfaces(TypeMirror type, Map<String, DeclaredType> interfaces) {
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            var element = types.asElement(supertype);
+            if (element.getKind() == ElementKind.INTERFACE) {
+                interfaces.putIfAbsent(types.erasure(supertype).toString(), (DeclaredType) supertype);
+            }
+            interfaces(supertype, interfaces);
+        }
+        return interfaces;
+    }
+
+    private List<AnnotationSpec> scopeAnnotations() {
+        var scopes = lazyElement.getAnnotationMirrors().stream()
+                .filter(mirror -> mirror.getAnnotationType().asElement().getAnnotation(Scope.class) != null)
+                .map(AnnotationSpec::get)
+                .toList();
+        return scopes.isEmpty() ? List.of(AnnotationSpec.builder(Singleton.class).build()) : scopes;
+    }
+
+    private MethodSpec constructor() {
+        return MethodSpec.constructorBuilder()
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Provider.class), targetName), TARGET_PROVIDER)
+                .addStatement("this.$L = $L", TARGET_PROVIDER, TARGET_PROVIDER)
+                .build();
+    }
+
+    private MethodSpec isTargetCreatedMethod() {
+        return MethodSpec.methodBuilder("isTargetCreated")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return $L != null", TARGET)
+                .returns(boolean.class)
+                .build();
+    }
+
+    private MethodSpec targetMethod() {
+        return MethodSpec.methodBuilder(TARGET_METHOD)
+                .addModifiers(PRIVATE)
+                .addStatement("var current = $L", TARGET)
+                .beginControlFlow("if (current == null)")
+                .beginControlFlow("synchronized (this)")
+                .addStatement("current = $L", TARGET)
+                .beginControlFlow("if (current == null)")
+                .addStatement("current = $L.get()", TARGET_PROVIDER)
+                .addStatement("$L = current", TARGET)
+                .endControlFlow()
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return current")
+                .returns(targetName)
+                .build();
+    }
+
+    private List<MethodSpec> delegatingMethods(Collection<DeclaredType> interfaces) {
+        var signatures = new HashSet<String>();
+        return interfaces.stream()
+                .flatMap(proxiedInterface -> ElementFilter.methodsIn(proxiedInterface.asElement().getEnclosedElements()).stream()
+                        .filter(method -> !method.getModifiers().contains(STATIC) && !method.getModifiers().contains(PRIVATE))
+                        .map(method -> overriding(method, proxiedInterface)))
+                .filter(method -> signatures.add(signature(method)))
+                .map(this::delegatingMethod)
+                .toList();
+    }
+
+    private MethodSpec overriding(ExecutableElement method, DeclaredType proxiedInterface) {
+        var builder = MethodSpec.overriding(method, proxiedInterface, types);
+        // JavaPoet keeps bounds of method type variables as declared, e.g. <R extends List<T>>
+        var substitutions = new HashMap<TypeName, TypeName>();
+        var typeParameters = ((TypeElement) proxiedInterface.asElement()).getTypeParameters();
+        var typeArguments = proxiedInterface.getTypeArguments();
+        for (int index = 0; index < typeParameters.size() && index < typeArguments.size(); index++) {
+            substitutions.put(TypeVariableName.get(typeParameters.get(index)), TypeName.get(typeArguments.get(index)));
+        }
+        var typeVariables = builder.typeVariables.stream()
+                .map(typeVariable -> TypeVariableName.get(typeVariable.name, typeVariable.bounds.stream().map(bound -> substitute(bound, substitutions)).toArray(TypeName[]::new)))
+                .toList();
+        builder.typeVariables.clear();
+        return builder.addTypeVariables(typeVariables).build();
+    }
+
+    private static TypeName substitute(TypeName type, Map<TypeName, TypeName> substitutions) {
+        if (type instanceof TypeVariableName) {
+            return substitutions.getOrDefault(type, type);
+        } else if (type instanceof ParameterizedTypeName parameterized) {
+            var arguments = parameterized.typeArguments.stream().map(argument -> substitute(argument, substitutions)).toArray(TypeName[]::new);
+            return ParameterizedTypeName.get(parameterized.rawType, arguments);
+        } else if (type instanceof ArrayTypeName array) {
+            return ArrayTypeName.of(substitute(array.componentType, substitutions));
+        } else if (type instanceof WildcardTypeName wildcard) {
+            return wildcard.lowerBounds.isEmpty()
+                    ? WildcardTypeName.subtypeOf(substitute(wildcard.upperBounds.get(0), substitutions))
+                    : WildcardTypeName.supertypeOf(substitute(wildcard.lowerBounds.get(0), substitutions));
+        }
+        return type;
+    }
+
+    private static String signature(MethodSpec method) {
+        return method.parameters.stream().map(parameter -> parameter.type.toString()).collect(joining(",", method.name + "(", ")"));
+    }
+
+    private MethodSpec delegatingMethod(MethodSpec method) {
+        var arguments = method.parameters.stream().map(parameter -> parameter.name).collect(joining(", "));
+        var builder = method.toBuilder();
+        builder.modifiers.remove(Modifier.DEFAULT);
+        return method.returnType.equals(TypeName.VOID)
+                ? builder.addStatement("$L().$L($L)", TARGET_METHOD, method.name, arguments).build()
+                : builder.addStatement("return $L().$L($L)", TARGET_METHOD, method.name, arguments).build();
+    }
+}
@@ -0,0 +1,76 @@
+package io.jd.framework.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 6;
+    static final long HIGHEST_TRACKABLE_NANOS = (1L << 36) - 1;
+    static final int BUCKET_COUNT = index(HIGHEST_TRACKABLE_NANOS) + 1;
+    private static final int TOTAL_SLOT = BUCKET_COUNT;
+    private static final int MAX_STRIPES = 16;
+
+    private final String name;
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    public LatencyHistogram(String name) {
+        this(name, Runtime.getRuntime().availableProcessors());
+    }
+
+    public LatencyHistogram(String name, int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Histogram %s needs at least one stripe, was: %s".formatted(name, stripes));
+        }
+        var stripeCount = Integer.highestOneBit(Math.min(stripes, MAX_STRIPES) * 2 - 1);
+        this.name = name;
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            this.stripes[stripe] = new AtomicLongArray(BUCKET_COUNT + 1);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        // consecutive thread ids land on different stripes, so concurrent callers rarely share a counter
+        var value = Math.min(Math.max(nanos, 0), HIGHEST_TRACKABLE_NANOS);
+        var stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+        stripe.getAndIncrement(index(value));
+        stripe.getAndAdd(TOTAL_SLOT, value);
+    }
+
+    public LatencySnapshot snapshot() {
+        // stripes are summed while writers keep recording, calls racing with the read may be missing from it
+        var counts = new long[BUCKET_COUNT];
+        var totalNanos = 0L;
+        for (AtomicLongArray stripe : stripes) {
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                counts[bucket] += stripe.get(bucket);
+            }
+            totalNanos += stripe.get(TOTAL_SLOT);
+        }
+        return new LatencySnapshot(name, counts, totalNanos);
+    }
+
+    int stripes() {
+        return stripes.length;
+    }
+
+    static int index(long value) {
+        // values below the sub bucket count are exact, every following power of two is split into equal halves of it
+        var bucket = 64 - Long.numberOfLeadingZeros(value | ((1L << SUB_BUCKET_BITS) - 1)) - SUB_BUCKET_BITS;
+        return (bucket << (SUB_BUCKET_BITS - 1)) + (int) (value >>> bucket);
+    }
+
+    static long lowestValue(int index) {
+        var bucket = Math.max(0, (index >> (SUB_BUCKET_BITS - 1)) - 1);
+        return (long) (index - (bucket << (SUB_BUCKET_BITS - 1))) << bucket;
+    }
+
+    static long width(int index) {
+        return 1L << Math.max(0, (index >> (SUB_BUCKET_BITS - 1)) - 1);
+    }
+}
@@ -0,0 +1,75 @@
+package io.jd.framework.metrics;
+
+import java.util.Arrays;
+
+public final class LatencySnapshot {
+    private final String name;
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+
+    LatencySnapshot(String name, long[] counts, long totalNanos) {
+        this.name = name;
+        this.counts = counts;
+        this.count = Arrays.stream(counts).sum();
+        this.totalNanos = totalNanos;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double meanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    public long maxNanos() {
+        for (int index = counts.length - 1; index >= 0; index--) {
+            if (counts[index] > 0) {
+                return LatencyHistogram.lowestValue(index) + LatencyHistogram.width(index) - 1;
+            }
+        }
+        return 0;
+    }
+
+    public long percentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile has to be between 0 and 100, was: %s".formatted(percentile));
+        }
+        if (count == 0) {
+            return 0;
+        }
+        var rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        var seen = 0L;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                // the middle of a bucket is within half of its width, at most 1/64 of the value, from any value recorded in it
+                return LatencyHistogram.lowestValue(index) + LatencyHistogram.width(index) / 2;
+            }
+        }
+        return maxNanos();
+    }
+
+    public long p50() {
+        return percentileNanos(50);
+    }
+
+    public long p99() {
+        return percentileNanos(99);
+    }
+
+    public long p999() {
+        return percentileNanos(99.9);
+    }
+
+    @Override
+    public String toString() {
+        return "%s: count=%d, mean=%.1fus, p50=%.1fus, p99=%.1fus, p999=%.1fus, max=%.1fus".formatted(
+                name, count, meanNanos() / 1000, p50() / 1000.0, p99() / 1000.0, p999() / 1000.0, maxNanos() / 1000.0);
+    }
+}
@@ -0,0 +1,8 @@
+package io.jd.framework.metrics;
+
+import java.util.Map;
+
+public interface Metered {
+
+    Map<String, LatencyHistogram> histograms();
+}
@@ -0,0 +1,11 @@
+package io.jd.framework.metrics;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface Timed {
+
+    String value() default "";
+}
@@ -0,0 +1,134 @@
+package io.jd.framework.metrics;
+
+import com.squareup.javapoet.*;
+import io.jd.framework.processor.MethodInterceptor;
+import io.jd.framework.processor.ProcessorPlugin;
+import io.jd.framework.processor.TypeDependencyResolver;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+public class TimedPlugin implements ProcessorPlugin, MethodInterceptor {
+    private Messager messager;
+
+    @Override
+    public void init(ProcessingEnvironment processingEnv) {
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Class<? extends Annotation> reactsTo() {
+        return Timed.class;
+    }
+
+    @Override
+    public Collection<JavaFile> process(Set<? extends Element> annotated, TypeDependencyResolver typeDependencyResolver) {
+        var timedMethods = ElementFilter.methodsIn(annotated);
+        timedMethods.forEach(this::validate);
+        timedMethods.stream()
+                .map(method -> (TypeElement) method.getEnclosingElement())
+                .distinct()
+                .forEach(this::validateNames);
+        return List.of();
+    }
+
+    private void validate(ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            messager.printMessage(ERROR, "private method annotated as timed", method);
+        } else if (method.getModifiers().contains(Modifier.STATIC)) {
+            messager.printMessage(ERROR, "static method annotated as timed", method);
+        } else if (method.getModifiers().contains(Modifier.FINAL)) {
+            messager.printMessage(ERROR, "final method annotated as timed", method);
+        } else if (method.getEnclosingElement().getModifiers().contains(Modifier.FINAL)) {
+            messager.printMessage(ERROR, "final class annotated as timed", method.getEnclosingElement());
+        }
+    }
+
+    private void validateNames(TypeElement type) {
+        var names = new HashSet<String>();
+        timedMethods(type).stream()
+                .filter(method -> !names.add(histogramName(method)))
+                .forEach(method -> messager.printMessage(ERROR, "timed method name %s is not unique, overloads have to be named".formatted(histogramName(method)), method));
+    }
+
+    @Override
+    public boolean intercepts(ExecutableElement method) {
+        return method.getAnnotation(Timed.class) != null;
+    }
+
+    @Override
+    public List<FieldSpec> fields(TypeElement interceptedType) {
+        return timedMethods(interceptedType).stream()
+                .map(method -> FieldSpec.builder(LatencyHistogram.class, histogramField(method), PRIVATE, FINAL)
+                        .initializer("new $T($S)", LatencyHistogram.class, histogramName(method))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<TypeName> superinterfaces(TypeElement interceptedType) {
+        return List.of(ClassName.get(Metered.class));
+    }
+
+    @Override
+    public List<MethodSpec> methods(TypeElement interceptedType) {
+        var entries = timedMethods(interceptedType).stream()
+                .map(method -> CodeBlock.of("$T.entry($S, $L)", Map.class, histogramName(method), histogramField(method)))
+                .collect(CodeBlock.joining(", "));
+        return List.of(MethodSpec.methodBuilder("histograms")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return $T.ofEntries($L)", Map.class, entries)
+                .returns(ParameterizedTypeName.get(Map.class, String.class, LatencyHistogram.class))
+                .build());
+    }
+
+    @Override
+    public CodeBlock intercept(ExecutableElement method, CodeBlock proceed) {
+        var call = method.getReturnType().getKind() == TypeKind.VOID
+                ? CodeBlock.of("$L", proceed)
+                : CodeBlock.of("return $L", proceed);
+        return CodeBlock.builder()
+                .addStatement("var $$start = $T.nanoTime()", System.class)
+                .beginControlFlow("try")
+                .addStatement(call)
+                .nextControlFlow("finally")
+                .addStatement("$L.record($T.nanoTime() - $$start)", histogramField(method), System.class)
+                .endControlFlow()
+                .build();
+    }
+
+    private static List<ExecutableElement> timedMethods(TypeElement type) {
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .filter(method -> method.getAnnotation(Timed.class) != null)
+                .toList();
+    }
+
+    private static String histogramName(ExecutableElement method) {
+        var name = method.getAnnotation(Timed.class).value();
+        return name.isEmpty()
+                ? "%s.%s".formatted(method.getEnclosingElement().getSimpleName(), method.getSimpleName())
+                : name;
+    }
+
+    private static String histogramField(ExecutableElement method) {
+        return "latency$" + histogramName(method).replaceAll("[^A-Za-z0-9_]", "_");
+    }
+}
@@ -1,75 +1,206 @@
 package io.jd.framework.processor;
 
 import com.squareup.javapoet.JavaFile;
+import io.jd.framework.Pooled;
+import io.jd.framework.Prototype;
+import io.jd.framework.ProcessingEnvUtils;
+import io.jd.framework.ThreadScoped;
+import io.jd.framework.async.AsyncPlugin;
+import io.jd.framework.batch.BatchedPlugin;
+import io.jd.framework.cache.CachePlugin;
+import io.jd.framework.lazy.LazyPlugin;
+import io.jd.framework.metrics.TimedPlugin;
 import io.jd.framework.transactional.TransactionalPlugin;
 import io.jd.framework.webapp.WebPlugin;
 import jakarta.inject.Singleton;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
 import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toSet;
 import static javax.tools.Diagnostic.Kind.ERROR;
 
-@SupportedAnnotationTypes({"jakarta.inject.Singleton"})
+@SupportedAnnotationTypes({
+        "jakarta.inject.Singleton", "io.jd.framework.Prototype", "io.jd.framework.ThreadScoped", "io.jd.framework.Pooled",
+        "io.jd.framework.Lazy", "jakarta.transaction.Transactional", "io.jd.framework.webapp.RequestHandle",
+        "io.jd.framework.cache.Cacheable", "io.jd.framework.cache.CacheEvict", "io.jd.framework.metrics.Timed",
+        "io.jd.framework.async.Async", "io.jd.framework.batch.Batched"
+})
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
 public class BeanProcessor extends AbstractProcessor {
+    static final List<Class<? extends Annotation>> SCOPES = List.of(Singleton.class, Prototype.class, ThreadScoped.class, Pooled.class);
+
     private List<ProcessorPlugin> plugins = List.of();
     private TypeElement collectionElement;
+    private TypeElement providerElement;
+    private TypeElement poolElement;
+    private Supersession supersession;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
-        plugins = List.of(new TransactionalPlugin(), new WebPlugin());
+        List<ProcessorPlugin> interceptingPlugins = List.of(new TransactionalPlugin(), new BatchedPlugin(), new CachePlugin(), new TimedPlugin(), new AsyncPlugin());
+        var interceptingAnnotations = interceptingPlugins.stream().<Class<? extends Annotation>>flatMap(plugin -> plugin.triggers().stream()).toList();
+        plugins = Stream.concat(interceptingPlugins.stream(), Stream.of(new WebPlugin(), new LazyPlugin(interceptingAnnotations))).toList();
         plugins.forEach(processorPlugin -> processorPlugin.init(processingEnv));
         this.collectionElement = processingEnv.getElementUtils().getTypeElement("java.util.Collection");
+        this.providerElement = processingEnv.getElementUtils().getTypeElement("jakarta.inject.Provider");
+        this.poolElement = processingEnv.getElementUtils().getTypeElement("io.jd.framework.Pool");
+        this.supersession = Supersession.of(processingEnv);
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         try {
-            runPluginsProcessing(roundEnv);
-            processBeans(roundEnv);
+            if (!roundEnv.processingOver()) {
+                // plugins and definitions share resolved constructors, elements of a round are not reused by later ones
+                var typeDependencyResolver = new TypeDependencyResolver();
+                var javaFiles = new ArrayList<JavaFile>();
+                javaFiles.addAll(runPluginsProcessing(roundEnv, typeDependencyResolver));
+                javaFiles.addAll(processIntercepted(roundEnv, typeDependencyResolver));
+                javaFiles.addAll(processBeans(roundEnv, typeDependencyResolver));
+                writeFiles(javaFiles);
+            }
         } catch (Exception e) {
             processingEnv.getMessager().printMessage(ERROR, "Exception occurred %s".formatted(e));
         }
         return false;
     }
 
-    private void runPluginsProcessing(RoundEnvironment roundEnv) {
-        plugins.stream().map(processorPlugin -> processorPlugin.process(roundEnv.getElementsAnnotatedWith(processorPlugin.reactsTo())))
+    static boolean isBean(TypeElement type) {
+        return SCOPES.stream().anyMatch(scope -> type.getAnnotation(scope) != null);
+    }
+
+    static long scopes(TypeElement type) {
+        return SCOPES.stream().filter(scope -> type.getAnnotation(scope) != null).count();
+    }
+
+    private List<JavaFile> runPluginsProcessing(RoundEnvironment roundEnv, TypeDependencyResolver typeDependencyResolver) {
+        return plugins.stream()
+                .map(processorPlugin -> processorPlugin.process(roundEnv.getElementsAnnotatedWithAny(processorPlugin.triggers()), typeDependencyResolver))
                 .flatMap(Collection::stream)
-                .forEach(this::writeFile);
+                .toList();
+    }
+
+    private List<JavaFile> processIntercepted(RoundEnvironment roundEnv, TypeDependencyResolver typeDependencyResolver) {
+        // all interceptors of a type share one subclass, so for example caching can wrap a transactional method
+        var interceptors = new LinkedHashMap<TypeElement, List<MethodInterceptor>>();
+        plugins.stream()
+                .filter(MethodInterceptor.class::isInstance)
+                .forEach(plugin -> ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWithAny(plugin.triggers())).stream()
+                        .map(ExecutableElement::getEnclosingElement)
+                        .map(TypeElement.class::cast)
+                        .distinct()
+                        .forEach(type -> interceptors.computeIfAbsent(type, ignored -> new ArrayList<>()).add((MethodInterceptor) plugin)));
+        return interceptors.entrySet().stream()
+                .map(entry -> new InterceptedWriter(
+                        entry.getKey(),
+                        entry.getValue(),
+                        ProcessingEnvUtils.getPackageElement(processingEnv, entry.getKey()),
+                        typeDependencyResolver.resolve(entry.getKey(), processingEnv.getMessager())
+                ).createIntercepted())
+                .toList();
+    }
+
+    private List<JavaFile> processBeans(RoundEnvironment roundEnv, TypeDependencyResolver typeDependencyResolver) {
+        var types = ElementFilter.typesIn(roundEnv.getElementsAnnotatedWithAny(Set.copyOf(SCOPES)));
+        return types.stream()
+                .filter(this::hasSingleScope)
+                .filter(this::hasValidLifecycle)
+                .map(t -> typeDependencyResolver.resolve(t, processingEnv.getMessager()))
+                .filter(this::injectsPooledBeansThroughPool)
+                .map(this::createDefinition)
+                .toList();
     }
 
-    private void processBeans(RoundEnvironment roundEnv) {
-        var annotated = roundEnv.getElementsAnnotatedWith(Singleton.class);
-        var types = ElementFilter.typesIn(annotated);
-        var typeDependencyResolver = new TypeDependencyResolver();
-        types.stream().map(t -> typeDependencyResolver.resolve(t, processingEnv.getMessager()))
-                .forEach(this::writeDefinition);
+    private boolean hasSingleScope(TypeElement type) {
+        if (scopes(type) > 1) {
+            processingEnv.getMessager().printMessage(ERROR, "Bean cannot declare more than one scope", type);
+            return false;
+        }
+        return true;
     }
 
-    private void writeDefinition(Dependency dependency) {
-        JavaFile javaFile = new DefinitionWriter(
+    private boolean injectsPooledBeansThroughPool(Dependency dependency) {
+        // pooled instances are only handed out by pools, which make sure they are released
+        var valid = true;
+        for (TypeMirror injected : dependency.dependencies()) {
+            var target = injected;
+            while (target instanceof DeclaredType declared && declared.getTypeArguments().size() == 1 && !isPool(declared)) {
+                target = declared.getTypeArguments().get(0);
+            }
+            if (target instanceof DeclaredType declared && !isPool(declared) && declared.asElement().getAnnotation(Pooled.class) != null) {
+                processingEnv.getMessager().printMessage(ERROR, "Pooled bean %s has to be injected as Pool<%s>".formatted(declared.asElement(), declared.asElement()), dependency.type());
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private boolean isPool(DeclaredType type) {
+        return type.asElement().equals(poolElement);
+    }
+
+    private boolean hasValidLifecycle(TypeElement type) {
+        return LifecycleMethods.of(type, processingEnv.getElementUtils()).validate(processingEnv.getMessager());
+    }
+
+    private JavaFile createDefinition(Dependency dependency) {
+        return new DefinitionWriter(
                 dependency.type(),
                 dependency.dependencies(),
                 processingEnv.getTypeUtils(),
-                this.collectionElement
+                this.collectionElement,
+                this.providerElement,
+                this.poolElement,
+                this.supersession,
+                LifecycleMethods.of(dependency.type(), processingEnv.getElementUtils())
         ).createDefinition();
-        writeFile(javaFile);
     }
 
-    private void writeFile(JavaFile javaFile) {
+    private void writeFiles(List<JavaFile> javaFiles) {
+        // the javac model and the Filer stay confined to the processing thread, only finished specs are rendered in parallel
+        var generatedFiles = javaFiles.parallelStream().map(GeneratedFile::render).toList();
+        // classes of unchanged beans are handed to processors again by incremental builds, their outputs are already compiled
+        // and Gradle deletes the outputs of changed beans before compiling them again
+        var packageTypes = new HashMap<String, Set<String>>();
+        for (GeneratedFile generatedFile : generatedFiles) {
+            if (!packageTypes.computeIfAbsent(generatedFile.packageName(), this::typesOf).contains(generatedFile.simpleName())) {
+                writeFile(generatedFile);
+            }
+        }
+    }
+
+    private Set<String> typesOf(String packageName) {
+        // a single listing of the package is much cheaper than looking up each generated type, most of which do not exist yet
+        var packageElement = processingEnv.getElementUtils().getPackageElement(packageName);
+        if (packageElement == null) {
+            return Set.of();
+        }
+        return ElementFilter.typesIn(packageElement.getEnclosedElements()).stream()
+                .map(type -> type.getSimpleName().toString())
+                .collect(toSet());
+    }
+
+    private void writeFile(GeneratedFile generatedFile) {
         try {
-            javaFile.writeTo(processingEnv.getFiler());
+            generatedFile.writeTo(processingEnv.getFiler());
         } catch (IOException e) {
-            processingEnv.getMessager().printMessage(ERROR, "Failed to write definition %s".formatted(javaFile));
+            processingEnv.getMessager().printMessage(ERROR, "Failed to write definition %s".formatted(generatedFile.name()));
         }
     }
 }
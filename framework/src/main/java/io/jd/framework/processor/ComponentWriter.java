@@ -0,0 +1,505 @@
+package io.jd.framework.processor;
+
+import com.squareup.javapoet.*;
+import io.jd.framework.BeanLifecycle;
+import io.jd.framework.BeanProvider;
+import io.jd.framework.Pool;
+import io.jd.framework.Pooled;
+import io.jd.framework.StartupProfiler;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+import static javax.lang.model.element.Modifier.*;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+class ComponentWriter {
+    private static final String NO_BEAN = "No bean of given type: '%s'";
+    private static final String MORE_THAN_ONE_BEAN = "More than one bean of given type: '%s'";
+    private static final TypeVariableName T = TypeVariableName.get("T");
+    private static final TypeName BEAN_TYPE = ParameterizedTypeName.get(ClassName.get(Class.class), T);
+
+    private final TypeElement componentElement;
+    private final String packageName;
+    private final Types types;
+    private final Elements elements;
+    private final Messager messager;
+    private final TypeElement collectionElement;
+    private final TypeElement providerElement;
+    private final TypeElement poolElement;
+    private final List<ComponentBean> beans;
+
+    ComponentWriter(TypeElement componentElement,
+                    List<Dependency> dependencies,
+                    Types types,
+                    Elements elements,
+                    Messager messager,
+                    TypeElement collectionElement,
+                    TypeElement providerElement,
+                    TypeElement poolElement,
+                    Supersession supersession) {
+        this.componentElement = componentElement;
+        this.packageName = elements.getPackageOf(componentElement).getQualifiedName().toString();
+        this.types = types;
+        this.elements = elements;
+        this.messager = messager;
+        this.collectionElement = collectionElement;
+        this.providerElement = providerElement;
+        this.poolElement = poolElement;
+        this.beans = componentBeans(dependencies, supersession);
+    }
+
+    ClassName componentName() {
+        return ClassName.get(packageName, "$%s$Component".formatted(componentElement.getSimpleName()));
+    }
+
+    JavaFile createComponent() {
+        var injections = new HashMap<ComponentBean, List<Injection>>();
+        beans.forEach(bean -> injections.put(bean, bean.dependency().dependencies().stream().map(type -> injection(bean, type)).toList()));
+        var componentBuilder = TypeSpec.classBuilder(componentName())
+                .addModifiers(PUBLIC, FINAL)
+                .addSuperinterface(BeanProvider.class)
+                .addFields(beans.stream().map(this::fieldSpec).toList())
+                .addField(FieldSpec.builder(BeanLifecycle.class, "lifecycle", PRIVATE, FINAL).initializer("new $T()", BeanLifecycle.class).build())
+                .addMethod(constructor(creationOrder(injections), injections))
+                .addMethod(lifecycleMethodSpec())
+                .addMethod(provideMethodSpec())
+                .addMethod(provideAllMethodSpec())
+                .addMethod(canProvideMethodSpec())
+                .addMethod(providerOfMethodSpec())
+                .addMethod(providerOfAllMethodSpec())
+                .addMethod(poolOfMethodSpec());
+        originatingElements().forEach(componentBuilder::addOriginatingElement);
+        return JavaFile.builder(packageName, componentBuilder.build()).build();
+    }
+
+    ClassName registryName() {
+        return ClassName.get(packageName, "$%s$Registry".formatted(componentElement.getSimpleName()));
+    }
+
+    JavaFile createRegistry() {
+        var definitions = beans.stream().map(ComponentBean::definitionName).toList();
+        return new RegistryWriter(registryName(), definitions, originatingElements()).createRegistry();
+    }
+
+    private List<TypeElement> originatingElements() {
+        // the component aggregates beans of whole packages, so a change to any of them has to regenerate it
+        return Stream.concat(Stream.of(componentElement), beans.stream().map(ComponentBean::type)).toList();
+    }
+
+    private List<ComponentBean> componentBeans(List<Dependency> dependencies, Supersession supersession) {
+        var superseded = new HashSet<TypeElement>();
+        var lazyTargets = new HashSet<TypeElement>();
+        dependencies.stream().map(Dependency::type).forEach(type -> supersession.supersededType(type)
+                .ifPresent(target -> (supersession.isLazyProxy(type) ? lazyTargets : superseded).add(target)));
+        var active = dependencies.stream()
+                .filter(dependency -> !superseded.contains(dependency.type()))
+                .toList();
+        var deferred = deferredBeans(active, lazyTargets);
+        var fieldNames = new HashSet<String>();
+        return active.stream()
+                .sorted(Comparator.comparing(dependency -> dependency.type().getQualifiedName().toString()))
+                .map(dependency -> new ComponentBean(
+                        dependency,
+                        fieldName(dependency.type(), fieldNames),
+                        dependency.type().getAnnotation(Singleton.class) != null && !deferred.contains(dependency.type()),
+                        isAccessible(dependency.type()),
+                        lazyTargets.contains(dependency.type())
+                ))
+                .toList();
+    }
+
+    private Set<TypeElement> deferredBeans(List<Dependency> dependencies, Set<TypeElement> lazyTargets) {
+        // targets of lazy proxies and beans needed only by them are created on first use, not by the constructor
+        var deferred = new HashSet<>(lazyTargets);
+        var changed = !deferred.isEmpty();
+        while (changed) {
+            changed = false;
+            for (Dependency dependency : dependencies) {
+                var dependents = dependencies.stream()
+                        .filter(dependent -> dependent.dependencies().stream().anyMatch(type -> injects(type, dependency.type(), lazyTargets.contains(dependency.type()))))
+                        .toList();
+                if (!deferred.contains(dependency.type())
+                        && !dependents.isEmpty()
+                        && dependents.stream().allMatch(dependent -> deferred.contains(dependent.type()))) {
+                    deferred.add(dependency.type());
+                    changed = true;
+                }
+            }
+        }
+        return deferred;
+    }
+
+    private boolean injects(TypeMirror injected, TypeElement bean, boolean lazyTarget) {
+        var target = injected;
+        while (!((DeclaredType) target).getTypeArguments().isEmpty()) {
+            target = ((DeclaredType) target).getTypeArguments().get(0);
+        }
+        return matches(bean, lazyTarget, types.erasure(target));
+    }
+
+    private boolean matches(TypeElement bean, boolean lazyTarget, TypeMirror erasure) {
+        var beanErasure = types.erasure(bean.asType());
+        return lazyTarget ? types.isSameType(beanErasure, erasure) : types.isAssignable(beanErasure, erasure);
+    }
+
+    private static String fieldName(TypeElement type, Set<String> fieldNames) {
+        var simpleName = type.getSimpleName().toString().replace("$", "");
+        var name = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+        var unique = name;
+        for (int index = 1; !fieldNames.add(unique); index++) {
+            unique = name + index;
+        }
+        return unique;
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        var samePackage = elements.getPackageOf(type).getQualifiedName().contentEquals(packageName);
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            var modifiers = element.getModifiers();
+            if (modifiers.contains(PRIVATE) || (!modifiers.contains(PUBLIC) && !samePackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Injection injection(ComponentBean bean, TypeMirror type) {
+        var typeArguments = ((DeclaredType) type).getTypeArguments();
+        if (typeArguments.isEmpty()) {
+            return new Injection(Kind.BEAN, type, single(bean, type, provided(type, bean)));
+        } else if (typeArguments.size() == 1 && isCollection(type)) {
+            return new Injection(Kind.COLLECTION, typeArguments.get(0), provided(typeArguments.get(0), bean));
+        } else if (typeArguments.size() == 1 && isSameErasure(type, providerElement)) {
+            var provided = typeArguments.get(0);
+            var providedArguments = ((DeclaredType) provided).getTypeArguments();
+            if (providedArguments.isEmpty()) {
+                return new Injection(Kind.PROVIDER, provided, List.of());
+            } else if (providedArguments.size() == 1 && isCollection(provided)) {
+                return new Injection(Kind.PROVIDER_OF_COLLECTION, providedArguments.get(0), List.of());
+            }
+        } else if (typeArguments.size() == 1 && isSameErasure(type, poolElement)) {
+            return new Injection(Kind.POOL, typeArguments.get(0), single(bean, typeArguments.get(0), candidates(typeArguments.get(0))));
+        }
+        return fail("Cannot provide %s to %s".formatted(type, bean.type()));
+    }
+
+    private List<ComponentBean> single(ComponentBean bean, TypeMirror type, List<ComponentBean> candidates) {
+        if (candidates.isEmpty()) {
+            return fail("No bean of type %s required by %s".formatted(type, bean.type()));
+        } else if (candidates.size() > 1) {
+            return fail("More than one bean of type %s required by %s".formatted(type, bean.type()));
+        }
+        return candidates;
+    }
+
+    private List<ComponentBean> provided(TypeMirror type, ComponentBean bean) {
+        // pooled instances are only handed out by pools, which make sure they are released
+        var candidates = candidates(type);
+        var pooled = candidates.stream().filter(ComponentBean::pooled).findFirst();
+        if (pooled.isPresent() && types.isSameType(types.erasure(pooled.get().type().asType()), types.erasure(type))) {
+            return fail("Pooled bean %s required by %s has to be injected as Pool<%s>".formatted(type, bean.type(), type));
+        }
+        return candidates.stream().filter(candidate -> !candidate.pooled()).toList();
+    }
+
+    private List<ComponentBean> candidates(TypeMirror type) {
+        var erasure = types.erasure(type);
+        return beans.stream()
+                .filter(bean -> matches(bean.type(), bean.lazyTarget(), erasure))
+                .toList();
+    }
+
+    private boolean isCollection(TypeMirror type) {
+        return types.isAssignable(types.erasure(type), collectionElement.asType());
+    }
+
+    private boolean isSameErasure(TypeMirror type, TypeElement element) {
+        return types.isSameType(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private List<ComponentBean> creationOrder(Map<ComponentBean, List<Injection>> injections) {
+        var order = new ArrayList<ComponentBean>(beans.size());
+        var visited = new HashSet<ComponentBean>();
+        var path = new LinkedHashSet<ComponentBean>();
+        beans.forEach(bean -> visit(bean, injections, visited, path, order));
+        return order;
+    }
+
+    private void visit(ComponentBean bean,
+                       Map<ComponentBean, List<Injection>> injections,
+                       Set<ComponentBean> visited,
+                       LinkedHashSet<ComponentBean> path,
+                       List<ComponentBean> order) {
+        if (visited.contains(bean)) {
+            return;
+        }
+        if (!path.add(bean)) {
+            var cycle = new ArrayList<>(path);
+            fail("Dependency cycle detected: %s".formatted(cycle.subList(cycle.indexOf(bean), cycle.size()).stream()
+                    .map(element -> element.type().getQualifiedName())
+                    .collect(joining(" -> ", "", " -> " + bean.type().getQualifiedName()))));
+        }
+        injections.get(bean).stream()
+                .filter(injection -> injection.kind() == Kind.BEAN || injection.kind() == Kind.COLLECTION)
+                .flatMap(injection -> injection.candidates().stream())
+                .forEach(dependency -> visit(dependency, injections, visited, path, order));
+        path.remove(bean);
+        visited.add(bean);
+        order.add(bean);
+    }
+
+    private FieldSpec fieldSpec(ComponentBean bean) {
+        if (!bean.eager()) {
+            return FieldSpec.builder(bean.definitionName(), bean.definitionField(), PRIVATE, FINAL)
+                    .initializer("new $T()", bean.definitionName())
+                    .build();
+        }
+        var fieldType = bean.accessible() ? ClassName.get(bean.type()) : ClassName.OBJECT;
+        return FieldSpec.builder(fieldType, bean.fieldName(), PRIVATE, FINAL).build();
+    }
+
+    private MethodSpec constructor(List<ComponentBean> order, Map<ComponentBean, List<Injection>> injections) {
+        var code = CodeBlock.builder();
+        var eagerBeans = order.stream().filter(ComponentBean::eager).toList();
+        eagerBeans.forEach(bean -> {
+            code.addStatement("var frame$$$L = $T.enter()", bean.fieldName(), StartupProfiler.class)
+                    .addStatement("this.$L = $T.exit(frame$$$L, $L)", bean.fieldName(), StartupProfiler.class, bean.fieldName(), creation(bean, injections.get(bean)));
+            if (LifecycleMethods.of(bean.type(), elements).isManaged()) {
+                code.addStatement("lifecycle.created(new $T(), $L)", bean.definitionName(), bean.fieldName());
+            }
+        });
+        var dependencies = CodeBlock.builder();
+        eagerBeans.forEach(bean -> {
+            var eagerDependencies = injections.get(bean).stream()
+                    .filter(injection -> injection.kind() == Kind.BEAN || injection.kind() == Kind.COLLECTION)
+                    .flatMap(injection -> injection.candidates().stream())
+                    .filter(ComponentBean::eager)
+                    .distinct()
+                    .map(dependency -> CodeBlock.of("$L.getClass()", dependency.fieldName()))
+                    .toList();
+            if (!eagerDependencies.isEmpty()) {
+                dependencies.addStatement("$T.dependencies($L.getClass(), $T.of($L))", StartupProfiler.class, bean.fieldName(), List.class, CodeBlock.join(eagerDependencies, ", "));
+            }
+        });
+        if (!dependencies.isEmpty()) {
+            code.beginControlFlow("if ($T.isEnabled())", StartupProfiler.class)
+                    .add(dependencies.build())
+                    .endControlFlow();
+        }
+        return MethodSpec.constructorBuilder()
+                .addModifiers(PUBLIC)
+                .addCode(code.build())
+                .build();
+    }
+
+    private CodeBlock creation(ComponentBean bean, List<Injection> injections) {
+        if (!bean.accessible() || !injections.stream().allMatch(this::isDirect)) {
+            return CodeBlock.of("new $T().instantiate(this)", bean.definitionName());
+        }
+        var arguments = injections.stream().map(this::argument).collect(CodeBlock.joining(", "));
+        return CodeBlock.of("$T.newInstance($L)", bean.definitionName(), arguments);
+    }
+
+    private boolean isDirect(Injection injection) {
+        return switch (injection.kind()) {
+            case BEAN, COLLECTION -> injection.candidates().stream().allMatch(ComponentBean::accessible);
+            case PROVIDER, PROVIDER_OF_COLLECTION -> isAccessible((TypeElement) types.asElement(injection.type()));
+            case POOL -> !injection.candidates().get(0).eager() || injection.candidates().get(0).accessible();
+        };
+    }
+
+    private CodeBlock argument(Injection injection) {
+        var typeName = TypeName.get(types.erasure(injection.type()));
+        return switch (injection.kind()) {
+            case BEAN -> injection.candidates().get(0).reference();
+            case COLLECTION -> CodeBlock.of("$T.of($L)", List.class, injection.candidates().stream().map(ComponentBean::reference).collect(CodeBlock.joining(", ")));
+            case PROVIDER -> CodeBlock.of("providerOf($T.class)", typeName);
+            case PROVIDER_OF_COLLECTION -> CodeBlock.of("providerOfAll($T.class)", typeName);
+            case POOL -> pool(injection.candidates().get(0));
+        };
+    }
+
+    private static CodeBlock pool(ComponentBean bean) {
+        return bean.eager()
+                ? CodeBlock.of("poolOf($T.class)", ClassName.get(bean.type()))
+                : CodeBlock.of("$T.of($L, this)", Pool.class, bean.definitionField());
+    }
+
+    private MethodSpec lifecycleMethodSpec() {
+        return MethodSpec.methodBuilder("lifecycle")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return lifecycle")
+                .returns(BeanLifecycle.class)
+                .build();
+    }
+
+    private MethodSpec provideMethodSpec() {
+        var cases = new TreeMap<String, List<String>>();
+        var ambiguous = new ArrayList<String>();
+        beansByTypeName(false).forEach((typeName, candidates) -> {
+            if (candidates.size() > 1) {
+                ambiguous.add(typeName);
+            } else {
+                cases.computeIfAbsent(candidates.get(0).reference().toString(), reference -> new ArrayList<>()).add(typeName);
+            }
+        });
+        var code = CodeBlock.builder().add("$T bean = switch (beanType.getName()) {\n$>", Object.class);
+        cases.forEach((reference, typeNames) -> code.add("case $L -> $L;\n", labels(typeNames), reference));
+        if (!ambiguous.isEmpty()) {
+            code.add("case $L -> throw new $T($S.formatted(beanType.getCanonicalName()));\n", labels(ambiguous), IllegalStateException.class, MORE_THAN_ONE_BEAN);
+        }
+        code.add("default -> throw new $T($S.formatted(beanType.getCanonicalName()));\n", IllegalStateException.class, NO_BEAN)
+                .add("$<};\n")
+                .addStatement("return beanType.cast(bean)");
+        return lookupMethod("provide", T, code.build());
+    }
+
+    private MethodSpec provideAllMethodSpec() {
+        var cases = new TreeMap<String, List<String>>();
+        beansByTypeName(false).forEach((typeName, candidates) -> {
+            var beansList = candidates.stream().map(ComponentBean::reference).collect(CodeBlock.joining(", "));
+            cases.computeIfAbsent(beansList.toString(), reference -> new ArrayList<>()).add(typeName);
+        });
+        var code = CodeBlock.builder().add("$T<?> beans = switch (beanType.getName()) {\n$>", Collection.class);
+        cases.forEach((references, typeNames) -> code.add("case $L -> $T.of($L);\n", labels(typeNames), List.class, references));
+        code.add("default -> $T.of();\n", List.class)
+                .add("$<};\n")
+                .addStatement("return ($T) beans", ParameterizedTypeName.get(ClassName.get(Collection.class), T));
+        return lookupMethod("provideAll", ParameterizedTypeName.get(ClassName.get(Collection.class), T), code.build()).toBuilder()
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                .build();
+    }
+
+    private MethodSpec canProvideMethodSpec() {
+        // answered from the bean types known at compile time, so asking does not create beans
+        var unique = new ArrayList<String>();
+        beansByTypeName(false).forEach((typeName, candidates) -> {
+            if (candidates.size() == 1) {
+                unique.add(typeName);
+            }
+        });
+        var code = CodeBlock.builder();
+        if (unique.isEmpty()) {
+            code.addStatement("return false");
+        } else {
+            code.add("return switch (beanType.getName()) {\n$>")
+                    .add("case $L -> true;\n", labels(unique))
+                    .add("default -> false;\n")
+                    .add("$<};\n");
+        }
+        return MethodSpec.methodBuilder("canProvide")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)), "beanType")
+                .addCode(code.build())
+                .returns(boolean.class)
+                .build();
+    }
+
+    private MethodSpec providerOfMethodSpec() {
+        return lookupMethod("providerOf", ParameterizedTypeName.get(ClassName.get(Provider.class), T), CodeBlock.of("return () -> provide(beanType);\n"));
+    }
+
+    private MethodSpec providerOfAllMethodSpec() {
+        var returnType = ParameterizedTypeName.get(ClassName.get(Provider.class), ParameterizedTypeName.get(ClassName.get(Collection.class), T));
+        return lookupMethod("providerOfAll", returnType, CodeBlock.of("return () -> provideAll(beanType);\n"));
+    }
+
+    private MethodSpec poolOfMethodSpec() {
+        var cases = new TreeMap<String, List<String>>();
+        beansByTypeName(true).forEach((typeName, candidates) -> {
+            if (candidates.size() == 1 && !candidates.get(0).eager()) {
+                cases.computeIfAbsent(candidates.get(0).definitionField(), field -> new ArrayList<>()).add(typeName);
+            }
+        });
+        var poolType = ParameterizedTypeName.get(ClassName.get(Pool.class), T);
+        if (cases.isEmpty()) {
+            return lookupMethod("poolOf", poolType, CodeBlock.of("return $T.super.poolOf(beanType);\n", BeanProvider.class));
+        }
+        var code = CodeBlock.builder().add("$T<?> pool = switch (beanType.getName()) {\n$>", Pool.class);
+        cases.forEach((field, typeNames) -> code.add("case $L -> $T.of($L, this);\n", labels(typeNames), Pool.class, field));
+        code.add("default -> $T.super.poolOf(beanType);\n", BeanProvider.class)
+                .add("$<};\n")
+                .addStatement("return ($T) pool", poolType);
+        return lookupMethod("poolOf", poolType, code.build()).toBuilder()
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                .build();
+    }
+
+    private static MethodSpec lookupMethod(String name, TypeName returnType, CodeBlock code) {
+        return MethodSpec.methodBuilder(name)
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addTypeVariable(T)
+                .addParameter(BEAN_TYPE, "beanType")
+                .addCode(code)
+                .returns(returnType)
+                .build();
+    }
+
+    private Map<String, List<ComponentBean>> beansByTypeName(boolean withPooled) {
+        var beansByTypeName = new TreeMap<String, List<ComponentBean>>();
+        beans.stream().filter(bean -> withPooled || !bean.pooled()).forEach(bean -> (bean.lazyTarget() ? Set.of(elements.getBinaryName(bean.type()).toString()) : typeNames(bean.type().asType(), new LinkedHashSet<>()))
+                .forEach(typeName -> beansByTypeName.computeIfAbsent(typeName, name -> new ArrayList<>()).add(bean)));
+        return beansByTypeName;
+    }
+
+    private Set<String> typeNames(TypeMirror type, Set<String> typeNames) {
+        var element = (TypeElement) types.asElement(type);
+        if (typeNames.add(elements.getBinaryName(element).toString())) {
+            types.directSupertypes(type).forEach(supertype -> typeNames(supertype, typeNames));
+        }
+        return typeNames;
+    }
+
+    private static CodeBlock labels(List<String> typeNames) {
+        return typeNames.stream().map(typeName -> CodeBlock.of("$S", typeName)).collect(CodeBlock.joining(", "));
+    }
+
+    private <R> R fail(String message) {
+        messager.printMessage(ERROR, message, componentElement);
+        throw new IllegalStateException("Compilation faced error.");
+    }
+
+    private enum Kind {
+        BEAN, COLLECTION, PROVIDER, PROVIDER_OF_COLLECTION, POOL
+    }
+
+    private record Injection(Kind kind, TypeMirror type, List<ComponentBean> candidates) {
+    }
+
+    private record ComponentBean(Dependency dependency, String fieldName, boolean eager, boolean accessible, boolean lazyTarget) {
+        TypeElement type() {
+            return dependency.type();
+        }
+
+        ClassName definitionName() {
+            var className = ClassName.get(type());
+            return ClassName.get(className.packageName(), "$%s$Definition".formatted(className.simpleName()));
+        }
+
+        String definitionField() {
+            return fieldName + "Definition";
+        }
+
+        boolean pooled() {
+            return type().getAnnotation(Pooled.class) != null;
+        }
+
+        CodeBlock reference() {
+            return eager ? CodeBlock.of("$L", fieldName) : CodeBlock.of("$L.create(this)", definitionField());
+        }
+    }
+}
@@ -3,17 +3,31 @@ package io.jd.framework.processor;
 import com.squareup.javapoet.*;
 import io.jd.framework.BeanDefinition;
 import io.jd.framework.BeanProvider;
+import io.jd.framework.Instantiator;
+import io.jd.framework.Pooled;
+import io.jd.framework.Prototype;
 import io.jd.framework.ScopeProvider;
+import io.jd.framework.ThreadScoped;
+import io.jd.framework.Warmup;
+import io.jd.framework.WarmupRoutine;
+import jakarta.inject.Singleton;
 
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
 
 class DefinitionWriter {
     private final TypeElement definedClass;
@@ -21,25 +35,72 @@ class DefinitionWriter {
     private final ClassName definedClassName;
     private final Types types;
     private final TypeElement collectionElement;
+    private final TypeElement providerElement;
+    private final TypeElement poolElement;
+    private final Supersession supersession;
+    private final LifecycleMethods lifecycleMethods;
 
-    DefinitionWriter(TypeElement definedClass, List<TypeMirror> constructorParameterTypes, Types types, TypeElement collectionElement) {
+    DefinitionWriter(TypeElement definedClass,
+                     List<TypeMirror> constructorParameterTypes,
+                     Types types,
+                     TypeElement collectionElement,
+                     TypeElement providerElement,
+                     TypeElement poolElement,
+                     Supersession supersession,
+                     LifecycleMethods lifecycleMethods) {
         this.definedClass = definedClass;
         this.constructorParameterTypes = constructorParameterTypes;
         this.definedClassName = ClassName.get(definedClass);
         this.types = types;
         this.collectionElement = collectionElement;
+        this.providerElement = providerElement;
+        this.poolElement = poolElement;
+        this.supersession = supersession;
+        this.lifecycleMethods = lifecycleMethods;
+    }
+
+    static ClassName definitionName(TypeElement type) {
+        var className = ClassName.get(type);
+        return ClassName.get(className.packageName(), "$%s$Definition".formatted(className.simpleName()));
     }
 
     public JavaFile createDefinition() {
         ParameterizedTypeName parameterizedBeanDefinition = ParameterizedTypeName.get(ClassName.get(BeanDefinition.class), definedClassName);
-        var definitionSpec = TypeSpec.classBuilder("$%s$Definition".formatted(definedClassName.simpleName()))
+        ParameterizedTypeName parameterizedInstantiator = ParameterizedTypeName.get(ClassName.get(Instantiator.class), definedClassName);
+        var definitionBuilder = TypeSpec.classBuilder(definitionName(definedClass))
+                .addOriginatingElement(definedClass)
                 .addModifiers(PUBLIC)
                 .addSuperinterface(parameterizedBeanDefinition)
+                .addSuperinterface(parameterizedInstantiator)
                 .addMethod(createMethodSpec())
+                .addMethod(instantiateMethodSpec())
+                .addMethod(newInstanceMethodSpec())
                 .addMethod(typeMethodSpec())
-                .addField(scopeProvider())
-                .build();
-        return JavaFile.builder(definedClassName.packageName(), definitionSpec).build();
+                .addMethod(dependenciesMethodSpec())
+                .addField(scopeProvider());
+        supersession.supersededType(definedClass).ifPresent(superseded -> definitionBuilder.addMethod(supersedesMethodSpec(superseded)));
+        if (!dependencyTypes(true).isEmpty()) {
+            definitionBuilder.addMethod(deferredDependenciesMethodSpec());
+        }
+        if (definedClass.getAnnotation(Singleton.class) == null) {
+            definitionBuilder.addMethod(isSingletonMethodSpec());
+        }
+        if (definedClass.getAnnotation(Pooled.class) != null) {
+            definitionBuilder.addMethod(isPooledMethodSpec());
+            definitionBuilder.addMethod(borrowMethodSpec());
+            definitionBuilder.addMethod(timedBorrowMethodSpec());
+            definitionBuilder.addMethod(releaseMethodSpec());
+        }
+        if (!lifecycleMethods.postConstruct().isEmpty()) {
+            definitionBuilder.addMethod(postConstructMethodSpec());
+        }
+        if (!lifecycleMethods.preDestroy().isEmpty()) {
+            definitionBuilder.addMethod(destroyMethodSpec());
+        }
+        if (!lifecycleMethods.warmups().isEmpty()) {
+            definitionBuilder.addMethod(warmupsMethodSpec());
+        }
+        return JavaFile.builder(definedClassName.packageName(), definitionBuilder.build()).build();
     }
 
     private MethodSpec typeMethodSpec() {
@@ -52,8 +113,60 @@ class DefinitionWriter {
                 .build();
     }
 
+    private MethodSpec dependenciesMethodSpec() {
+        return classListMethodSpec("dependencies", dependencyTypes(false));
+    }
+
+    private MethodSpec deferredDependenciesMethodSpec() {
+        // beans behind providers and pools may be created after this one, the lifecycle still destroys this one first
+        return classListMethodSpec("deferredDependencies", dependencyTypes(true));
+    }
+
+    private List<TypeName> dependencyTypes(boolean deferred) {
+        return constructorParameterTypes.stream()
+                .map(this::processConstructorType)
+                .filter(providerCallAndItsType -> providerCallAndItsType.deferred() == deferred)
+                .map(ProviderCallAndItsType::typeName)
+                .distinct()
+                .toList();
+    }
+
+    private static MethodSpec classListMethodSpec(String name, List<TypeName> types) {
+        var classTypeOfAnything = ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class));
+        var template = types.stream().map(typeName -> "$T.class").collect(joining(", "));
+        return MethodSpec.methodBuilder(name)
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return $T.of(" + template + ")", Stream.concat(Stream.of(List.class), types.stream()).toArray())
+                .returns(ParameterizedTypeName.get(ClassName.get(List.class), classTypeOfAnything))
+                .build();
+    }
+
     private MethodSpec createMethodSpec() {
-        return MethodSpec.methodBuilder("create")
+        var builder = MethodSpec.methodBuilder("create")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ParameterSpec.builder(BeanProvider.class, "beanProvider").build())
+                .returns(definedClassName);
+        if (definedClass.getAnnotation(Pooled.class) != null) {
+            // a pooled instance provided directly would never be released and would hold its slot forever
+            return builder.addStatement("throw new $T($S)", IllegalStateException.class, "Pooled bean '%s' has to be borrowed from its Pool".formatted(definedClass.getQualifiedName()))
+                    .build();
+        }
+        return builder.addStatement("return provider.apply(beanProvider)").build();
+    }
+
+    private MethodSpec isPooledMethodSpec() {
+        return MethodSpec.methodBuilder("isPooled")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return true")
+                .returns(boolean.class)
+                .build();
+    }
+
+    private MethodSpec borrowMethodSpec() {
+        return MethodSpec.methodBuilder("borrow")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .addParameter(ParameterSpec.builder(BeanProvider.class, "beanProvider").build())
@@ -62,14 +175,132 @@ class DefinitionWriter {
                 .build();
     }
 
+    private MethodSpec timedBorrowMethodSpec() {
+        return MethodSpec.methodBuilder("borrow")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ParameterSpec.builder(BeanProvider.class, "beanProvider").build())
+                .addParameter(ParameterSpec.builder(Duration.class, "timeout").build())
+                .addStatement("return provider.apply(beanProvider, timeout)")
+                .returns(definedClassName)
+                .build();
+    }
+
+    private MethodSpec instantiateMethodSpec() {
+        return MethodSpec.methodBuilder("instantiate")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ParameterSpec.builder(BeanProvider.class, "beanProvider").build())
+                .addStatement("return $L", constructed(constructorCall()))
+                .returns(definedClassName)
+                .build();
+    }
+
+    private MethodSpec newInstanceMethodSpec() {
+        var parameters = IntStream.range(0, constructorParameterTypes.size())
+                .mapToObj(index -> ParameterSpec.builder(TypeName.get(constructorParameterTypes.get(index)), "$" + index).build())
+                .toList();
+        var arguments = parameters.stream().map(parameter -> parameter.name).collect(joining(", "));
+        return MethodSpec.methodBuilder("newInstance")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameters(parameters)
+                .addStatement("return $L", constructed(CodeBlock.of("new $T($L)", definedClassName, arguments)))
+                .returns(definedClassName)
+                .build();
+    }
+
+    private MethodSpec supersedesMethodSpec(TypeElement superseded) {
+        var supersededType = ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class));
+        return MethodSpec.methodBuilder("supersedes")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return $T.of($T.class)", Optional.class, ClassName.get(superseded))
+                .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), supersededType))
+                .build();
+    }
+
+    private MethodSpec isSingletonMethodSpec() {
+        return MethodSpec.methodBuilder("isSingleton")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return false")
+                .returns(boolean.class)
+                .build();
+    }
+
+    private MethodSpec releaseMethodSpec() {
+        return MethodSpec.methodBuilder("release")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ParameterSpec.builder(definedClassName, "instance").build())
+                .addStatement("provider.release(instance)")
+                .build();
+    }
+
+    private CodeBlock constructed(CodeBlock constructorCall) {
+        return lifecycleMethods.postConstruct().isEmpty() ? constructorCall : CodeBlock.of("postConstruct($L)", constructorCall);
+    }
+
+    private MethodSpec postConstructMethodSpec() {
+        var code = CodeBlock.builder();
+        lifecycleMethods.postConstruct().forEach(method -> code.addStatement("instance.$L()", method.getSimpleName()));
+        return MethodSpec.methodBuilder("postConstruct")
+                .addModifiers(PRIVATE, STATIC)
+                .addParameter(ParameterSpec.builder(definedClassName, "instance").build())
+                .addCode(code.build())
+                .addStatement("return instance")
+                .returns(definedClassName)
+                .build();
+    }
+
+    private MethodSpec destroyMethodSpec() {
+        var code = CodeBlock.builder();
+        lifecycleMethods.preDestroy().forEach(method -> code.addStatement("instance.$L()", method.getSimpleName()));
+        return MethodSpec.methodBuilder("destroy")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ParameterSpec.builder(definedClassName, "instance").build())
+                .addCode(code.build())
+                .build();
+    }
+
+    private MethodSpec warmupsMethodSpec() {
+        var routines = lifecycleMethods.warmups().stream().map(this::warmupRoutine).collect(CodeBlock.joining(",\n"));
+        return MethodSpec.methodBuilder("warmups")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ParameterSpec.builder(definedClassName, "instance").build())
+                .addStatement("return $T.of(\n$>$L$<)", List.class, routines)
+                .returns(ParameterizedTypeName.get(List.class, WarmupRoutine.class))
+                .build();
+    }
+
+    private CodeBlock warmupRoutine(ExecutableElement method) {
+        var warmup = method.getAnnotation(Warmup.class);
+        var name = "%s#%s".formatted(((TypeElement) method.getEnclosingElement()).getQualifiedName(), method.getSimpleName());
+        return CodeBlock.of("new $T($S, $L, $LL, instance::$L)", WarmupRoutine.class, name, warmup.iterations(), warmup.millis(), method.getSimpleName());
+    }
+
     private FieldSpec scopeProvider() {
         ParameterizedTypeName scopeProviderType = ParameterizedTypeName.get(ClassName.get(ScopeProvider.class), definedClassName);
         return FieldSpec.builder(scopeProviderType, "provider", Modifier.FINAL, Modifier.PRIVATE)
-                .initializer(singletonScopeInitializer())
+                .initializer(scopeInitializer())
                 .build();
     }
 
-    private CodeBlock singletonScopeInitializer() {
+    private CodeBlock scopeInitializer() {
+        var pooled = definedClass.getAnnotation(Pooled.class);
+        if (pooled != null) {
+            return CodeBlock.of("$T.pooledScope(this, $L)", ScopeProvider.class, pooled.size());
+        } else if (definedClass.getAnnotation(Prototype.class) != null) {
+            return CodeBlock.of("$T.prototypeScope(this)", ScopeProvider.class);
+        } else if (definedClass.getAnnotation(ThreadScoped.class) != null) {
+            return CodeBlock.of("$T.threadScope(this)", ScopeProvider.class);
+        }
+        return CodeBlock.of("$T.singletonScope(this)", ScopeProvider.class);
+    }
+
+    private CodeBlock constructorCall() {
         var providerCallAndItsTypes = constructorParameterTypes.stream()
                 .map(this::processConstructorType)
                 .toList();
@@ -81,12 +312,9 @@ class DefinitionWriter {
                 .toArray();
 
         return CodeBlock.builder()
-                .add("ScopeProvider.singletonScope(")
-                .add("beanProvider -> ")
                 .add("new ")
                 .add("$T", definedClassName)
                 .add("(" + constructorParameters + ")", types)
-                .add(")")
                 .build();
     }
 
@@ -95,17 +323,47 @@ class DefinitionWriter {
 
         List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
         if (typeArguments.size() == 0) {
-            return new ProviderCallAndItsType("beanProvider.provide($T.class)", TypeName.get(type));
-        } else if (typeArguments.size() == 1 && types.isAssignable(types.erasure(type), collectionElement.asType())) {
-            return new ProviderCallAndItsType("beanProvider.provideAll($T.class)", TypeName.get(typeArguments.get(0)));
+            return new ProviderCallAndItsType("beanProvider.provide($T.class)", TypeName.get(type), false);
+        } else if (typeArguments.size() == 1 && isCollection(type)) {
+            return new ProviderCallAndItsType("beanProvider.provideAll($T.class)", TypeName.get(typeArguments.get(0)), false);
+        } else if (typeArguments.size() == 1 && isProvider(type)) {
+            return processProvidedType(typeArguments.get(0));
+        } else if (typeArguments.size() == 1 && isPool(type)) {
+            return new ProviderCallAndItsType("beanProvider.poolOf($T.class)", TypeName.get(typeArguments.get(0)), true);
+        } else {
+            throw new RuntimeException("Cannot provide %s".formatted(type));
+        }
+    }
+
+    private ProviderCallAndItsType processProvidedType(TypeMirror type) {
+        DeclaredType declaredType = (DeclaredType) type;
+
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        if (typeArguments.size() == 0) {
+            return new ProviderCallAndItsType("beanProvider.providerOf($T.class)", TypeName.get(type), true);
+        } else if (typeArguments.size() == 1 && isCollection(type)) {
+            return new ProviderCallAndItsType("beanProvider.providerOfAll($T.class)", TypeName.get(typeArguments.get(0)), true);
         } else {
             throw new RuntimeException("Cannot provide %s".formatted(type));
         }
     }
 
+    private boolean isCollection(TypeMirror type) {
+        return types.isAssignable(types.erasure(type), collectionElement.asType());
+    }
+
+    private boolean isProvider(TypeMirror type) {
+        return types.isSameType(types.erasure(type), types.erasure(providerElement.asType()));
+    }
+
+    private boolean isPool(TypeMirror type) {
+        return types.isSameType(types.erasure(type), types.erasure(poolElement.asType()));
+    }
+
     private record ProviderCallAndItsType(
             String callTemplate,
-            TypeName typeName
+            TypeName typeName,
+            boolean deferred
     ) {
     }
 }
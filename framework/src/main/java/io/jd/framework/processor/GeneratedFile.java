@@ -0,0 +1,28 @@
+package io.jd.framework.processor;
+
+import com.squareup.javapoet.JavaFile;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+record GeneratedFile(String packageName, String simpleName, String source, List<Element> originatingElements) {
+
+    static GeneratedFile render(JavaFile javaFile) {
+        // rendering only reads JavaPoet specs, so files of a round can be rendered concurrently
+        return new GeneratedFile(javaFile.packageName, javaFile.typeSpec.name, javaFile.toString(), javaFile.typeSpec.originatingElements);
+    }
+
+    String name() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    void writeTo(Filer filer) throws IOException {
+        var sourceFile = filer.createSourceFile(name(), originatingElements.toArray(Element[]::new));
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(source);
+        }
+    }
+}
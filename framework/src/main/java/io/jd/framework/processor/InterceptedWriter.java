@@ -0,0 +1,125 @@
+package io.jd.framework.processor;
+
+import com.squareup.javapoet.*;
+import io.jd.framework.Intercepted;
+import jakarta.inject.Scope;
+import jakarta.inject.Singleton;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+class InterceptedWriter {
+    private final TypeElement interceptedElement;
+    private final List<MethodInterceptor> interceptors;
+    private final PackageElement packageElement;
+    private final Dependency dependency;
+
+    InterceptedWriter(TypeElement interceptedElement, List<MethodInterceptor> interceptors, PackageElement packageElement, Dependency dependency) {
+        this.interceptedElement = interceptedElement;
+        this.interceptors = interceptors;
+        this.packageElement = packageElement;
+        this.dependency = dependency;
+    }
+
+    JavaFile createIntercepted() {
+        var typeBuilder = TypeSpec.classBuilder("%s$Intercepted".formatted(interceptedElement.getSimpleName().toString()))
+                .addOriginatingElement(interceptedElement)
+                .addAnnotations(scopeAnnotations())
+                .superclass(interceptedElement.asType())
+                .addSuperinterface(TypeName.get(Intercepted.class))
+                .addFields(injected().stream().map(parameter -> FieldSpec.builder(parameter.type, parameter.name, PRIVATE, FINAL).build()).toList())
+                .addMethod(constructor())
+                .addMethod(interceptedTypeMethod());
+        interceptors.forEach(interceptor -> typeBuilder
+                .addSuperinterfaces(interceptor.superinterfaces(interceptedElement))
+                .addFields(interceptor.fields(interceptedElement))
+                .addMethods(interceptor.methods(interceptedElement)));
+        ElementFilter.methodsIn(interceptedElement.getEnclosedElements()).forEach(method -> typeBuilder.addMethods(interceptedMethods(method)));
+        return JavaFile.builder(packageElement.getQualifiedName().toString(), typeBuilder.build()).build();
+    }
+
+    private List<AnnotationSpec> scopeAnnotations() {
+        var scopes = interceptedElement.getAnnotationMirrors().stream()
+                .filter(mirror -> mirror.getAnnotationType().asElement().getAnnotation(Scope.class) != null)
+                .map(AnnotationSpec::get)
+                .toList();
+        return scopes.isEmpty() ? List.of(AnnotationSpec.builder(Singleton.class).build()) : scopes;
+    }
+
+    private List<ParameterSpec> injected() {
+        var injected = new LinkedHashMap<String, ParameterSpec>();
+        interceptors.stream().flatMap(interceptor -> interceptor.injected().stream()).forEach(parameter -> injected.putIfAbsent(parameter.name, parameter));
+        return List.copyOf(injected.values());
+    }
+
+    private MethodSpec constructor() {
+        var constructorParameters = IntStream.range(0, dependency.dependencies().size())
+                .mapToObj(index -> ParameterSpec.builder(TypeName.get(dependency.dependencies().get(index)), "$" + index).build())
+                .toList();
+        var superCallParams = constructorParameters.stream().map(parameter -> parameter.name).collect(joining(", "));
+        var code = CodeBlock.builder().addStatement("super($L)", superCallParams);
+        injected().forEach(parameter -> code.addStatement("this.$N = $N", parameter, parameter));
+        return MethodSpec.constructorBuilder()
+                .addParameters(injected())
+                .addParameters(constructorParameters)
+                .addCode(code.build())
+                .build();
+    }
+
+    private MethodSpec interceptedTypeMethod() {
+        return MethodSpec.methodBuilder("interceptedType")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return $T.class", TypeName.get(interceptedElement.asType()))
+                .returns(ClassName.get(Class.class))
+                .build();
+    }
+
+    private List<MethodSpec> interceptedMethods(ExecutableElement method) {
+        // interceptors earlier on the list end up closer to the original method, each wraps the call made by the previous one
+        var layers = interceptors.stream().filter(interceptor -> interceptor.intercepts(method)).toList();
+        var methods = new ArrayList<MethodSpec>();
+        var proceed = call("super.%s".formatted(method.getSimpleName()), method);
+        for (int layer = 0; layer < layers.size(); layer++) {
+            var body = layers.get(layer).intercept(method, proceed);
+            if (layer == layers.size() - 1) {
+                methods.add(signature(method, method.getSimpleName().toString())
+                        .addModifiers(method.getModifiers())
+                        .addAnnotation(Override.class)
+                        .addCode(body)
+                        .build());
+            } else {
+                var layerName = "%s$%d".formatted(method.getSimpleName(), layer);
+                methods.add(signature(method, layerName).addModifiers(PRIVATE).addCode(body).build());
+                proceed = call(layerName, method);
+            }
+        }
+        return methods;
+    }
+
+    private static CodeBlock call(String methodName, ExecutableElement method) {
+        var arguments = method.getParameters().stream().map(VariableElement::getSimpleName).collect(joining(", "));
+        return CodeBlock.of("$L($L)", methodName, arguments);
+    }
+
+    private static MethodSpec.Builder signature(ExecutableElement method, String name) {
+        return MethodSpec.methodBuilder(name)
+                .addTypeVariables(method.getTypeParameters().stream().map(TypeVariableName::get).toList())
+                .addParameters(method.getParameters().stream().map(ParameterSpec::get).toList())
+                .addExceptions(method.getThrownTypes().stream().map(TypeName::get).toList())
+                .varargs(method.isVarArgs())
+                .returns(TypeName.get(method.getReturnType()));
+    }
+}
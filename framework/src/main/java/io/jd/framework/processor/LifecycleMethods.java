@@ -0,0 +1,88 @@
+package io.jd.framework.processor;
+
+import io.jd.framework.Warmup;
+import io.jd.framework.webapp.RequestHandle;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+record LifecycleMethods(List<ExecutableElement> postConstruct, List<ExecutableElement> preDestroy, List<ExecutableElement> warmups) {
+
+    static LifecycleMethods of(TypeElement type, Elements elements) {
+        var methods = hierarchyMethods(type, elements);
+        // routes are warmed up through their handlers, which take the request from the annotation
+        var warmups = annotated(methods, Warmup.class).stream().filter(method -> method.getAnnotation(RequestHandle.class) == null).toList();
+        return new LifecycleMethods(annotated(methods, PostConstruct.class), annotated(methods, PreDestroy.class), warmups);
+    }
+
+    boolean isManaged() {
+        return !preDestroy.isEmpty() || !warmups.isEmpty();
+    }
+
+    boolean validate(Messager messager) {
+        var valid = true;
+        for (ExecutableElement method : all()) {
+            if (method.getModifiers().contains(Modifier.PRIVATE)) {
+                valid = raise(messager, "private method cannot be a lifecycle method", method);
+            } else if (method.getModifiers().contains(Modifier.STATIC)) {
+                valid = raise(messager, "static method cannot be a lifecycle method", method);
+            } else if (!method.getParameters().isEmpty()) {
+                valid = raise(messager, "lifecycle method cannot take parameters", method);
+            } else if (method.getAnnotation(Warmup.class) == null && !method.getThrownTypes().isEmpty()) {
+                valid = raise(messager, "construction and destruction callbacks cannot declare exceptions", method);
+            }
+        }
+        return valid;
+    }
+
+    private List<ExecutableElement> all() {
+        var all = new ArrayList<>(postConstruct);
+        all.addAll(preDestroy);
+        all.addAll(warmups);
+        return all.stream().distinct().toList();
+    }
+
+    private static boolean raise(Messager messager, String errorMessage, ExecutableElement method) {
+        messager.printMessage(ERROR, errorMessage, method);
+        return false;
+    }
+
+    private static List<ExecutableElement> hierarchyMethods(TypeElement type, Elements elements) {
+        // callbacks of superclasses run first, an overridden method counts only with the annotations of its override
+        var hierarchy = new ArrayDeque<TypeElement>();
+        for (var current = type; current != null; current = superclass(current)) {
+            hierarchy.push(current);
+        }
+        var methods = new ArrayList<ExecutableElement>();
+        for (TypeElement declaring : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(declaring.getEnclosedElements())) {
+                methods.removeIf(inherited -> elements.overrides(method, inherited, type));
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private static TypeElement superclass(TypeElement type) {
+        var superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private static List<ExecutableElement> annotated(List<ExecutableElement> methods, Class<? extends Annotation> annotation) {
+        return methods.stream().filter(method -> method.getAnnotation(annotation) != null).toList();
+    }
+}
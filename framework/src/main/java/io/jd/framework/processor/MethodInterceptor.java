@@ -0,0 +1,35 @@
+package io.jd.framework.processor;
+
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import java.util.List;
+
+public interface MethodInterceptor {
+    // plugins implementing it write no subclass of their own, the bean processor writes one intercepted subclass
+    // per type with the interception of every plugin, so their process methods only validate the annotated methods
+    boolean intercepts(ExecutableElement method);
+
+    CodeBlock intercept(ExecutableElement method, CodeBlock proceed);
+
+    default List<ParameterSpec> injected() {
+        return List.of();
+    }
+
+    default List<FieldSpec> fields(TypeElement interceptedType) {
+        return List.of();
+    }
+
+    default List<TypeName> superinterfaces(TypeElement interceptedType) {
+        return List.of();
+    }
+
+    default List<MethodSpec> methods(TypeElement interceptedType) {
+        return List.of();
+    }
+}
@@ -0,0 +1,80 @@
+package io.jd.framework.processor;
+
+import com.squareup.javapoet.ClassName;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+
+class NativeImageMetadataWriter {
+    private static final String METADATA_ROOT = "META-INF/native-image/io.jd.framework/";
+
+    private final List<String> registries;
+    private final List<String> reflectiveTypes;
+
+    NativeImageMetadataWriter(List<ClassName> registries, List<String> reflectiveTypes) {
+        this.registries = registries.stream().map(ClassName::reflectionName).sorted().toList();
+        this.reflectiveTypes = reflectiveTypes.stream().sorted().toList();
+    }
+
+    boolean isEmpty() {
+        return registries.isEmpty() && reflectiveTypes.isEmpty();
+    }
+
+    String directory() {
+        // every compilation gets its own directory, so metadata of several jars does not collide on the classpath
+        var names = Stream.concat(registries.stream(), reflectiveTypes.stream()).toList();
+        return METADATA_ROOT + Integer.toHexString(names.hashCode());
+    }
+
+    void writeTo(Filer filer, List<? extends Element> originatingElements) throws IOException {
+        var originating = originatingElements.toArray(Element[]::new);
+        write(filer, "reflect-config.json", reflectConfig(), originating);
+        if (!registries.isEmpty()) {
+            write(filer, "resource-config.json", resourceConfig(), originating);
+        }
+    }
+
+    String reflectConfig() {
+        var registryEntries = registries.stream().map("""
+                {
+                  "name": "%s",
+                  "methods": [{"name": "<init>", "parameterTypes": []}]
+                }"""::formatted);
+        var reflectiveEntries = reflectiveTypes.stream().map("""
+                {
+                  "name": "%s",
+                  "allDeclaredConstructors": true,
+                  "allDeclaredMethods": true,
+                  "allDeclaredFields": true
+                }"""::formatted);
+        return Stream.concat(registryEntries, reflectiveEntries)
+                .map(entry -> entry.indent(2).stripTrailing())
+                .collect(joining(",\n", "[\n", "\n]\n"));
+    }
+
+    String resourceConfig() {
+        return """
+                {
+                  "resources": {
+                    "includes": [
+                      {"pattern": "\\\\Q%s\\\\E"}
+                    ]
+                  }
+                }
+                """.formatted(RegistryProcessor.REGISTRY_INDEX);
+    }
+
+    private void write(Filer filer, String fileName, String content, Element[] originatingElements) throws IOException {
+        var resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", directory() + "/" + fileName, originatingElements);
+        try (Writer writer = resource.openWriter()) {
+            writer.write(content);
+        }
+    }
+}
@@ -11,7 +11,12 @@ import java.util.Set;
 public interface ProcessorPlugin {
     void init(ProcessingEnvironment processingEnv);
 
-    Collection<JavaFile> process(Set<? extends Element> annotated);
+    Collection<JavaFile> process(Set<? extends Element> annotated, TypeDependencyResolver typeDependencyResolver);
 
     Class<? extends Annotation> reactsTo();
+
+    default Set<Class<? extends Annotation>> triggers() {
+        // elements annotated with any of these are passed to process, and their types are intercepted by method interceptors
+        return Set.of(reactsTo());
+    }
 }
@@ -0,0 +1,101 @@
+package io.jd.framework.processor;
+
+import jakarta.inject.Scope;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static javax.tools.Diagnostic.Kind.WARNING;
+
+class Reachability {
+    private final List<String> rootNames;
+    private final Set<String> missingRoots = new HashSet<>();
+    private final Elements elements;
+    private final Types types;
+    private final Messager messager;
+    private final Supersession supersession;
+
+    Reachability(String rootNames, Elements elements, Types types, Messager messager, Supersession supersession) {
+        this.elements = elements;
+        this.types = types;
+        this.messager = messager;
+        this.supersession = supersession;
+        this.rootNames = rootNames == null ? List.of() : Stream.of(rootNames.split(","))
+                .map(String::strip)
+                .filter(rootName -> !rootName.isEmpty())
+                .toList();
+    }
+
+    private Optional<TypeElement> rootElement(String rootName) {
+        var root = elements.getTypeElement(rootName);
+        if (root == null && missingRoots.add(rootName)) {
+            messager.printMessage(WARNING, "Root type %s not found, it cannot mark beans as reachable".formatted(rootName));
+        }
+        return Optional.ofNullable(root);
+    }
+
+    boolean isEnabled() {
+        return !rootNames.isEmpty();
+    }
+
+    Set<String> reachable(Collection<Dependency> beans) {
+        if (!isEnabled()) {
+            return beans.stream().map(bean -> bean.type().getQualifiedName().toString()).collect(Collectors.toSet());
+        }
+        var superseded = beans.stream()
+                .map(bean -> supersession.supersededType(bean.type()))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+        var reachable = new HashSet<String>();
+        var pending = new ArrayDeque<Dependency>();
+        var roots = rootNames.stream().map(this::rootElement).flatMap(Optional::stream).toList();
+        for (TypeElement root : roots) {
+            candidates(root.asType(), beans, superseded).stream()
+                    .filter(candidate -> reachable.add(candidate.type().getQualifiedName().toString()))
+                    .forEach(pending::add);
+            if (beans.stream().noneMatch(bean -> bean.type().equals(root)) && isBeanClass(root)) {
+                // roots compiled elsewhere are not registered here, but their dependencies are
+                pending.add(new TypeDependencyResolver().resolve(root, messager));
+            }
+        }
+        while (!pending.isEmpty()) {
+            pending.poll().dependencies().stream()
+                    .flatMap(type -> candidates(type, beans, superseded).stream())
+                    .filter(candidate -> reachable.add(candidate.type().getQualifiedName().toString()))
+                    .forEach(pending::add);
+        }
+        return reachable;
+    }
+
+    private List<Dependency> candidates(TypeMirror type, Collection<Dependency> beans, Set<TypeElement> superseded) {
+        var injected = type;
+        while (injected instanceof DeclaredType declaredType && !declaredType.getTypeArguments().isEmpty()) {
+            injected = declaredType.getTypeArguments().get(0);
+        }
+        var erasure = types.erasure(injected);
+        var active = beans.stream()
+                .filter(bean -> !superseded.contains(bean.type()))
+                .filter(bean -> types.isAssignable(types.erasure(bean.type().asType()), erasure))
+                .toList();
+        if (!active.isEmpty()) {
+            return active;
+        }
+        return beans.stream()
+                .filter(bean -> types.isSameType(types.erasure(bean.type().asType()), erasure))
+                .toList();
+    }
+
+    private static boolean isBeanClass(TypeElement type) {
+        return type.getKind().isClass()
+                && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && type.getAnnotationMirrors().stream().anyMatch(mirror -> mirror.getAnnotationType().asElement().getAnnotation(Scope.class) != null);
+    }
+}
@@ -0,0 +1,251 @@
+package io.jd.framework.processor;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import io.jd.framework.ApplicationComponent;
+import io.jd.framework.BeanRegistry;
+import io.jd.framework.Reflective;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.Diagnostic.Kind.NOTE;
+
+@SupportedAnnotationTypes({
+        "jakarta.inject.Singleton", "io.jd.framework.Prototype", "io.jd.framework.ThreadScoped", "io.jd.framework.Pooled",
+        "io.jd.framework.ApplicationComponent", "io.jd.framework.Reflective"
+})
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+@SupportedOptions(RegistryProcessor.ROOTS_OPTION)
+public class RegistryProcessor extends AbstractProcessor {
+    static final String REGISTRY_INDEX = "META-INF/services/" + BeanRegistry.class.getCanonicalName();
+    static final String ROOTS_OPTION = "io.jd.framework.roots";
+    // beans defined by the framework itself, with definitions written in the shape the bean processor generates
+    private static final List<String> FRAMEWORK_BEANS = List.of("io.jd.framework.async.AsyncExecutor");
+
+    private final Map<String, ClassName> unregisteredDefinitions = new LinkedHashMap<>();
+    private final Set<String> definedBeans = new LinkedHashSet<>();
+    private final List<ClassName> registries = new ArrayList<>();
+    private final Set<String> registeredBeans = new LinkedHashSet<>();
+    private final List<String> unwrittenComponents = new ArrayList<>();
+    private final Set<String> reflectiveTypes = new LinkedHashSet<>();
+    private TypeElement collectionElement;
+    private TypeElement providerElement;
+    private TypeElement poolElement;
+    private Supersession supersession;
+    private Reachability reachability;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.collectionElement = processingEnv.getElementUtils().getTypeElement("java.util.Collection");
+        this.providerElement = processingEnv.getElementUtils().getTypeElement("jakarta.inject.Provider");
+        this.poolElement = processingEnv.getElementUtils().getTypeElement("io.jd.framework.Pool");
+        this.supersession = Supersession.of(processingEnv);
+        this.reachability = new Reachability(
+                processingEnv.getOptions().get(ROOTS_OPTION),
+                processingEnv.getElementUtils(),
+                processingEnv.getTypeUtils(),
+                processingEnv.getMessager(),
+                supersession
+        );
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        try {
+            if (roundEnv.processingOver()) {
+                writeRegistries();
+                writeRegistryIndex();
+                writeNativeImageMetadata();
+                reportPrunedDefinitions();
+            } else {
+                collectComponents(roundEnv);
+                collectReflectiveTypes(roundEnv);
+                collectBeans(roundEnv);
+            }
+        } catch (Exception e) {
+            processingEnv.getMessager().printMessage(ERROR, "Exception occurred %s".formatted(e));
+        }
+        return false;
+    }
+
+    private void collectBeans(RoundEnvironment roundEnv) {
+        var types = ElementFilter.typesIn(roundEnv.getElementsAnnotatedWithAny(Set.copyOf(BeanProcessor.SCOPES)));
+        if (types.isEmpty()) {
+            // definitions generated in previous rounds are complete, so they can be registered without a last round warning
+            writeRegistries();
+            writeComponents();
+            return;
+        }
+        // BeanProcessor reports beans with several scopes and writes no definitions for them
+        types.stream()
+                .filter(type -> BeanProcessor.scopes(type) == 1)
+                .forEach(type -> {
+                    definedBeans.add(type.getQualifiedName().toString());
+                    unregisteredDefinitions.put(type.getQualifiedName().toString(), DefinitionWriter.definitionName(type));
+                });
+    }
+
+    private void writeRegistries() {
+        // unreachable definitions stay unregistered, beans generated in later rounds may still reach them
+        var reachable = reachability.isEnabled() ? reachability.reachable(resolveDefinedBeans()) : Set.copyOf(unregisteredDefinitions.keySet());
+        var registrable = new TreeMap<String, Map<String, ClassName>>();
+        unregisteredDefinitions.entrySet().removeIf(definition -> {
+            if (!reachable.contains(definition.getKey())) {
+                return false;
+            }
+            registrable.computeIfAbsent(definition.getValue().packageName(), packageName -> new LinkedHashMap<>())
+                    .put(definition.getKey(), definition.getValue());
+            return true;
+        });
+        registrable.forEach((packageName, definitions) -> {
+            var registryWriter = new RegistryWriter(packageName, List.copyOf(definitions.values()), typeElements(definitions.keySet()));
+            writeFile(registryWriter.createRegistry());
+            registries.add(registryWriter.registryName());
+            registeredBeans.addAll(definitions.keySet());
+        });
+    }
+
+    private List<Dependency> resolveDefinedBeans() {
+        // elements of previous rounds are not reused, so beans are resolved again for the current one
+        var typeDependencyResolver = new TypeDependencyResolver();
+        return definedBeans.stream()
+                .map(processingEnv.getElementUtils()::getTypeElement)
+                .map(type -> typeDependencyResolver.resolve(type, processingEnv.getMessager()))
+                .toList();
+    }
+
+    private void reportPrunedDefinitions() {
+        if (unregisteredDefinitions.isEmpty()) {
+            return;
+        }
+        var pruned = unregisteredDefinitions.values().stream().map(ClassName::reflectionName).sorted().collect(joining(", "));
+        processingEnv.getMessager().printMessage(NOTE, "Definitions unreachable from roots left out of the index: %s".formatted(pruned));
+        unregisteredDefinitions.clear();
+    }
+
+    private void collectComponents(RoundEnvironment roundEnv) {
+        ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(ApplicationComponent.class)).stream()
+                .map(type -> type.getQualifiedName().toString())
+                .forEach(unwrittenComponents::add);
+    }
+
+    private void collectReflectiveTypes(RoundEnvironment roundEnv) {
+        ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Reflective.class)).stream()
+                .map(type -> type.getQualifiedName().toString())
+                .forEach(reflectiveTypes::add);
+    }
+
+    private void writeComponents() {
+        var elements = processingEnv.getElementUtils();
+        unwrittenComponents.stream().map(elements::getTypeElement).forEach(component -> {
+            var componentWriter = new ComponentWriter(
+                    component,
+                    componentBeans(component),
+                    processingEnv.getTypeUtils(),
+                    elements,
+                    processingEnv.getMessager(),
+                    this.collectionElement,
+                    this.providerElement,
+                    this.poolElement,
+                    this.supersession
+            );
+            writeFile(componentWriter.createComponent());
+            writeFile(componentWriter.createRegistry());
+        });
+        unwrittenComponents.clear();
+    }
+
+    private List<Dependency> componentBeans(TypeElement component) {
+        var elements = processingEnv.getElementUtils();
+        var packages = component.getAnnotation(ApplicationComponent.class).packages();
+        var packageNames = packages.length == 0 ? List.of(elements.getPackageOf(component).getQualifiedName().toString()) : List.of(packages);
+        var typeDependencyResolver = new TypeDependencyResolver();
+        var beans = new ArrayList<Dependency>();
+        for (String packageName : packageNames) {
+            var packageElement = elements.getPackageElement(packageName);
+            if (packageElement == null) {
+                processingEnv.getMessager().printMessage(ERROR, "Package %s of the component not found".formatted(packageName), component);
+                continue;
+            }
+            ElementFilter.typesIn(packageElement.getEnclosedElements()).stream()
+                    .filter(BeanProcessor::isBean)
+                    .map(type -> typeDependencyResolver.resolve(type, processingEnv.getMessager()))
+                    .forEach(beans::add);
+        }
+        beans.addAll(frameworkBeans(beans));
+        var reachable = reachability.reachable(beans);
+        return beans.stream().filter(bean -> reachable.contains(bean.type().getQualifiedName().toString())).toList();
+    }
+
+    private List<Dependency> frameworkBeans(List<Dependency> beans) {
+        // a framework bean joins the component only when its beans inject it and do not define one of their own
+        var types = processingEnv.getTypeUtils();
+        return FRAMEWORK_BEANS.stream()
+                .map(processingEnv.getElementUtils()::getTypeElement)
+                .filter(Objects::nonNull)
+                .filter(frameworkBean -> beans.stream().noneMatch(bean -> types.isAssignable(types.erasure(bean.type().asType()), frameworkBean.asType())))
+                .filter(frameworkBean -> beans.stream().flatMap(bean -> bean.dependencies().stream()).anyMatch(injected -> types.isSameType(types.erasure(injected), frameworkBean.asType())))
+                .map(frameworkBean -> new Dependency(frameworkBean, List.of()))
+                .toList();
+    }
+
+    private void writeRegistryIndex() {
+        if (registries.isEmpty()) {
+            return;
+        }
+        try {
+            // the index aggregates all registered beans, incremental builds regenerate it whenever one of them changes
+            var originatingElements = typeElements(registeredBeans).toArray(Element[]::new);
+            var resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY_INDEX, originatingElements);
+            try (Writer writer = resource.openWriter()) {
+                for (ClassName registry : registries) {
+                    writer.write(registry.reflectionName() + System.lineSeparator());
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(ERROR, "Failed to write registry index %s".formatted(REGISTRY_INDEX));
+        }
+    }
+
+    private void writeNativeImageMetadata() {
+        var reflective = typeElements(reflectiveTypes);
+        var binaryNames = reflective.stream().map(type -> processingEnv.getElementUtils().getBinaryName(type).toString()).toList();
+        var metadataWriter = new NativeImageMetadataWriter(registries, binaryNames);
+        if (metadataWriter.isEmpty()) {
+            return;
+        }
+        try {
+            var originatingElements = Stream.concat(typeElements(registeredBeans).stream(), reflective.stream()).toList();
+            metadataWriter.writeTo(processingEnv.getFiler(), originatingElements);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(ERROR, "Failed to write native image metadata %s".formatted(metadataWriter.directory()));
+        }
+    }
+
+    private List<TypeElement> typeElements(Collection<String> qualifiedNames) {
+        return qualifiedNames.stream()
+                .map(processingEnv.getElementUtils()::getTypeElement)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void writeFile(JavaFile javaFile) {
+        try {
+            javaFile.writeTo(processingEnv.getFiler());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(ERROR, "Failed to write registry %s".formatted(javaFile));
+        }
+    }
+}
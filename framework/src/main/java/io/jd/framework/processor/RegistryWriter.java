@@ -0,0 +1,76 @@
+package io.jd.framework.processor;
+
+import com.squareup.javapoet.*;
+import io.jd.framework.BeanDefinition;
+import io.jd.framework.BeanRegistry;
+
+import javax.lang.model.element.Element;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static javax.lang.model.element.Modifier.*;
+
+class RegistryWriter {
+    private static final int DEFINITIONS_PER_METHOD = 500;
+    private static final TypeName DEFINITION_LIST = ParameterizedTypeName.get(
+            ClassName.get(List.class),
+            ParameterizedTypeName.get(ClassName.get(BeanDefinition.class), WildcardTypeName.subtypeOf(Object.class))
+    );
+
+    private final ClassName registryName;
+    private final List<ClassName> definitions;
+    private final List<? extends Element> originatingElements;
+
+    RegistryWriter(String packageName, List<ClassName> definitions, List<? extends Element> originatingElements) {
+        this.definitions = definitions.stream().sorted().toList();
+        var definitionNames = this.definitions.stream().map(ClassName::canonicalName).toList();
+        this.registryName = ClassName.get(packageName, "$BeanRegistry$%s".formatted(Integer.toHexString(definitionNames.hashCode())));
+        this.originatingElements = originatingElements;
+    }
+
+    RegistryWriter(ClassName registryName, List<ClassName> definitions, List<? extends Element> originatingElements) {
+        this.registryName = registryName;
+        this.definitions = definitions.stream().sorted().toList();
+        this.originatingElements = originatingElements;
+    }
+
+    ClassName registryName() {
+        return registryName;
+    }
+
+    JavaFile createRegistry() {
+        var chunks = IntStream.iterate(0, start -> start < definitions.size(), start -> start + DEFINITIONS_PER_METHOD)
+                .mapToObj(start -> definitions.subList(start, Math.min(start + DEFINITIONS_PER_METHOD, definitions.size())))
+                .toList();
+        var registryBuilder = TypeSpec.classBuilder(registryName())
+                .addModifiers(PUBLIC, FINAL)
+                .addSuperinterface(BeanRegistry.class)
+                .addMethod(definitionsMethodSpec(chunks.size()))
+                .addMethods(IntStream.range(0, chunks.size()).mapToObj(index -> addDefinitionsMethodSpec(index, chunks.get(index))).toList());
+        originatingElements.forEach(registryBuilder::addOriginatingElement);
+        return JavaFile.builder(registryName.packageName(), registryBuilder.build()).build();
+    }
+
+    private MethodSpec definitionsMethodSpec(int chunks) {
+        var code = CodeBlock.builder()
+                .addStatement("var definitions = new $T<$T<?>>($L)", ArrayList.class, BeanDefinition.class, definitions.size());
+        IntStream.range(0, chunks).forEach(index -> code.addStatement("addDefinitions$L(definitions)", index));
+        return MethodSpec.methodBuilder("definitions")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addCode(code.addStatement("return definitions").build())
+                .returns(DEFINITION_LIST)
+                .build();
+    }
+
+    private MethodSpec addDefinitionsMethodSpec(int index, List<ClassName> chunk) {
+        var code = CodeBlock.builder();
+        chunk.forEach(definition -> code.addStatement("definitions.add(new $T())", definition));
+        return MethodSpec.methodBuilder("addDefinitions" + index)
+                .addModifiers(PRIVATE, STATIC)
+                .addParameter(DEFINITION_LIST, "definitions")
+                .addCode(code.build())
+                .build();
+    }
+}
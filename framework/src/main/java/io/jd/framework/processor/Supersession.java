@@ -0,0 +1,40 @@
+package io.jd.framework.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.Optional;
+
+record Supersession(Types types, TypeElement interceptedElement, TypeElement lazyProxyElement) {
+
+    static Supersession of(ProcessingEnvironment processingEnv) {
+        return new Supersession(
+                processingEnv.getTypeUtils(),
+                processingEnv.getElementUtils().getTypeElement("io.jd.framework.Intercepted"),
+                processingEnv.getElementUtils().getTypeElement("io.jd.framework.LazyProxy")
+        );
+    }
+
+    Optional<TypeElement> supersededType(TypeElement type) {
+        if (isLazyProxy(type)) {
+            return type.getInterfaces().stream()
+                    .filter(this::isLazyProxyType)
+                    .map(lazyProxy -> ((DeclaredType) lazyProxy).getTypeArguments().get(0))
+                    .map(target -> (TypeElement) types.asElement(target))
+                    .findFirst();
+        } else if (types.isAssignable(type.asType(), interceptedElement.asType())) {
+            return Optional.of((TypeElement) types.asElement(type.getSuperclass()));
+        }
+        return Optional.empty();
+    }
+
+    boolean isLazyProxy(TypeElement type) {
+        return type.getInterfaces().stream().anyMatch(this::isLazyProxyType);
+    }
+
+    private boolean isLazyProxyType(TypeMirror type) {
+        return types.isSameType(types.erasure(type), types.erasure(lazyProxyElement.asType()));
+    }
+}
@@ -6,17 +6,25 @@ import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.util.ElementFilter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static javax.tools.Diagnostic.Kind.ERROR;
 
 public class TypeDependencyResolver {
+    private final Map<TypeElement, Dependency> resolved = new HashMap<>();
 
     public Dependency resolve(TypeElement element, Messager messager) {
-        return isConcreteClass(element)
-                ? resolveConcreteClass(element, messager)
-                : failOnInvalidElement(element, messager);
+        var dependency = resolved.get(element);
+        if (dependency == null) {
+            dependency = isConcreteClass(element)
+                    ? resolveConcreteClass(element, messager)
+                    : failOnInvalidElement(element, messager);
+            resolved.put(element, dependency);
+        }
+        return dependency;
     }
 
     private Dependency resolveConcreteClass(TypeElement element, Messager messager) {
@@ -0,0 +1,14 @@
+package io.jd.framework.transactional;
+
+import jakarta.transaction.HeuristicMixedException;
+import jakarta.transaction.HeuristicRollbackException;
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.TransactionManager;
+
+public interface FlushingTransactionManager extends TransactionManager {
+
+    void commitWithoutFlush() throws RollbackException, HeuristicMixedException, HeuristicRollbackException, SystemException;
+
+    void flush() throws SystemException;
+}
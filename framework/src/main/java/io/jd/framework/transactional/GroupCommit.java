@@ -0,0 +1,13 @@
+package io.jd.framework.transactional;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface GroupCommit {
+
+    int maxGroupSize() default 64;
+
+    long windowMicros() default 200;
+}
@@ -0,0 +1,8 @@
+package io.jd.framework.transactional;
+
+public class GroupCommitFailedException extends RuntimeException {
+
+    public GroupCommitFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package io.jd.framework.transactional;
+
+import java.util.Map;
+
+public record GroupCommitStatistics(long commits, long flushes, Map<Integer, Long> groupSizes) {
+
+    public double meanGroupSize() {
+        return flushes == 0 ? 0 : (double) commits / flushes;
+    }
+}
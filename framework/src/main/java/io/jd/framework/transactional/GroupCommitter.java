@@ -0,0 +1,82 @@
+package io.jd.framework.transactional;
+
+import io.jd.framework.WindowCoalescer;
+import jakarta.transaction.HeuristicMixedException;
+import jakarta.transaction.HeuristicRollbackException;
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.TransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class GroupCommitter {
+    private final String name;
+    private final LongAdder commits = new LongAdder();
+    private final WindowCoalescer<Group> coalescer;
+
+    private GroupCommitter(String name, int maxGroupSize, long windowMicros) {
+        this.name = name;
+        this.coalescer = WindowCoalescer.of(maxGroupSize, windowMicros, Group::new, group -> group.size, this::flush);
+    }
+
+    public static GroupCommitter of(String name, int maxGroupSize, long windowMicros) {
+        if (maxGroupSize < 1 || windowMicros < 0) {
+            throw new IllegalArgumentException("Group commit %s needs a positive size and a non-negative window, were: %s and %s".formatted(name, maxGroupSize, windowMicros));
+        }
+        return new GroupCommitter(name, maxGroupSize, windowMicros);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void commit(TransactionManager transactionManager) throws RollbackException, HeuristicMixedException, HeuristicRollbackException, SystemException {
+        if (!(transactionManager instanceof FlushingTransactionManager flushingManager)) {
+            // a manager that cannot separate the flush makes every commit durable on its own
+            transactionManager.commit();
+            return;
+        }
+        flushingManager.commitWithoutFlush();
+        commits.increment();
+        var group = coalescer.join(open -> open.join(flushingManager));
+        awaitFlush(group);
+    }
+
+    public GroupCommitStatistics statistics() {
+        var sizes = coalescer.groupSizes();
+        var flushes = sizes.values().stream().mapToLong(Long::longValue).sum();
+        return new GroupCommitStatistics(commits.sum(), flushes, sizes);
+    }
+
+    private void flush(Group group) {
+        // every member committed before joining, so the one flush makes all of them durable
+        try {
+            group.flushingManager.flush();
+            group.flushed.complete(null);
+        } catch (Throwable failure) {
+            group.flushed.completeExceptionally(failure);
+        }
+    }
+
+    private void awaitFlush(Group group) {
+        try {
+            group.flushed.join();
+        } catch (CompletionException e) {
+            throw new GroupCommitFailedException("Group commit %s failed to flush %d transactions".formatted(name, group.size), e.getCause());
+        }
+    }
+
+    private static final class Group {
+        private final CompletableFuture<Void> flushed = new CompletableFuture<>();
+        private FlushingTransactionManager flushingManager;
+        private int size;
+
+        private Group join(FlushingTransactionManager flushingManager) {
+            this.flushingManager = flushingManager;
+            size++;
+            return this;
+        }
+    }
+}
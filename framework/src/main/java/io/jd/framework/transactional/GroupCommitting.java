@@ -0,0 +1,8 @@
+package io.jd.framework.transactional;
+
+import java.util.Map;
+
+public interface GroupCommitting {
+
+    Map<String, GroupCommitter> groupCommitters();
+}
@@ -16,6 +16,10 @@ class TransactionalMessenger {
         this.messager = messager;
     }
 
+    void raise(String errorMessage, Element element) {
+        messager.printMessage(ERROR, errorMessage, element);
+    }
+
     void raiseFor(Set<ExecutableElement> executableElements, Modifier modifier, String errorMessage) {
         raiseFor(executableElements, modifier, errorMessage, Function.identity());
     }
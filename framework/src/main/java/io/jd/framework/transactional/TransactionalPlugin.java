@@ -1,8 +1,10 @@
 package io.jd.framework.transactional;
 
-import com.squareup.javapoet.JavaFile;
-import io.jd.framework.ProcessingEnvUtils;
+import com.squareup.javapoet.*;
+import io.jd.framework.processor.MethodInterceptor;
 import io.jd.framework.processor.ProcessorPlugin;
+import io.jd.framework.processor.TypeDependencyResolver;
+import jakarta.transaction.TransactionManager;
 import jakarta.transaction.Transactional;
 
 import javax.annotation.processing.ProcessingEnvironment;
@@ -10,22 +12,26 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.util.ElementFilter;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static java.util.stream.Collectors.groupingBy;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+public class TransactionalPlugin implements ProcessorPlugin, MethodInterceptor {
+    private static final String TRANSACTION_MANAGER = "transactionManager";
 
-public class TransactionalPlugin implements ProcessorPlugin {
     private TransactionalMessenger transactionalMessenger;
-    private ProcessingEnvironment processingEnv;
 
     @Override
     public void init(ProcessingEnvironment processingEnv) {
-        this.processingEnv = processingEnv;
         transactionalMessenger = new TransactionalMessenger(processingEnv.getMessager());
     }
 
@@ -35,16 +41,79 @@ public class TransactionalPlugin implements ProcessorPlugin {
     }
 
     @Override
-    public Collection<JavaFile> process(Set<? extends Element> annotated) {
-        Set<ExecutableElement> transactionalMethods = ElementFilter.methodsIn(annotated);
-        validateMethods(transactionalMethods);
-        Map<TypeElement, List<ExecutableElement>> typeToTransactionalMethods = transactionalMethods.stream().collect(groupingBy(element -> (TypeElement) element.getEnclosingElement()));
-        return typeToTransactionalMethods.entrySet()
-                .stream()
-                .map(this::writeTransactional)
+    public Collection<JavaFile> process(Set<? extends Element> annotated, TypeDependencyResolver typeDependencyResolver) {
+        validateMethods(ElementFilter.methodsIn(annotated));
+        ElementFilter.methodsIn(annotated).stream()
+                .map(method -> (TypeElement) method.getEnclosingElement())
+                .distinct()
+                .forEach(this::validateGroupCommitNames);
+        return List.of();
+    }
+
+    @Override
+    public boolean intercepts(ExecutableElement method) {
+        return method.getAnnotation(Transactional.class) != null;
+    }
+
+    @Override
+    public List<ParameterSpec> injected() {
+        return List.of(ParameterSpec.builder(TransactionManager.class, TRANSACTION_MANAGER).build());
+    }
+
+    @Override
+    public List<FieldSpec> fields(TypeElement interceptedType) {
+        return groupCommitMethods(interceptedType).stream()
+                .map(method -> {
+                    var groupCommit = method.getAnnotation(GroupCommit.class);
+                    return FieldSpec.builder(GroupCommitter.class, groupCommitterField(method), PRIVATE, FINAL)
+                            .initializer("$T.of($S, $L, $LL)", GroupCommitter.class, groupCommitterName(method), groupCommit.maxGroupSize(), groupCommit.windowMicros())
+                            .build();
+                })
                 .toList();
     }
 
+    @Override
+    public List<TypeName> superinterfaces(TypeElement interceptedType) {
+        return groupCommitMethods(interceptedType).isEmpty() ? List.of() : List.of(ClassName.get(GroupCommitting.class));
+    }
+
+    @Override
+    public List<MethodSpec> methods(TypeElement interceptedType) {
+        if (groupCommitMethods(interceptedType).isEmpty()) {
+            return List.of();
+        }
+        var entries = groupCommitMethods(interceptedType).stream()
+                .map(method -> CodeBlock.of("$T.entry($S, $L)", Map.class, groupCommitterName(method), groupCommitterField(method)))
+                .collect(CodeBlock.joining(", "));
+        return List.of(MethodSpec.methodBuilder("groupCommitters")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("return $T.ofEntries($L)", Map.class, entries)
+                .returns(ParameterizedTypeName.get(Map.class, String.class, GroupCommitter.class))
+                .build());
+    }
+
+    @Override
+    public CodeBlock intercept(ExecutableElement method, CodeBlock proceed) {
+        var commit = method.getAnnotation(GroupCommit.class) == null
+                ? CodeBlock.of(TRANSACTION_MANAGER + ".commit()")
+                : CodeBlock.of("$L.commit($L)", groupCommitterField(method), TRANSACTION_MANAGER);
+        var transactionalMethodCall = method.getReturnType().getKind() == TypeKind.VOID
+                ? transactionalVoidCall(proceed, commit)
+                : returningTransactionalMethodCall(method, proceed, commit);
+        var code = CodeBlock.builder()
+                .beginControlFlow("try")
+                .add(transactionalMethodCall)
+                .endControlFlow();
+        if (method.getAnnotation(GroupCommit.class) != null) {
+            // the transaction is already committed when its group fails to flush, there is nothing to roll back
+            code.beginControlFlow("catch ($T e)", GroupCommitFailedException.class)
+                    .addStatement("throw e")
+                    .endControlFlow();
+        }
+        return code.add(catchClause()).build();
+    }
+
     private void validateMethods(Set<ExecutableElement> transactionalMethods) {
         raiseForPrivate(transactionalMethods);
         raiseForStatic(transactionalMethods);
@@ -52,6 +121,13 @@ public class TransactionalPlugin implements ProcessorPlugin {
         raiseForFinalClass(transactionalMethods);
     }
 
+    private void validateGroupCommitNames(TypeElement type) {
+        var names = new HashSet<String>();
+        groupCommitMethods(type).stream()
+                .filter(method -> !names.add(method.getSimpleName().toString()))
+                .forEach(method -> transactionalMessenger.raise("group commit method %s cannot be overloaded".formatted(method.getSimpleName()), method));
+    }
+
     private void raiseForFinalClass(Set<ExecutableElement> transactionalMethods) {
         transactionalMessenger.raiseFor(transactionalMethods, Modifier.FINAL, "final class annotated as transactional", javax.lang.model.element.Element::getEnclosingElement);
     }
@@ -68,12 +144,49 @@ public class TransactionalPlugin implements ProcessorPlugin {
         transactionalMessenger.raiseFor(transactionalMethods, Modifier.PRIVATE, "private method annotated as transactional");
     }
 
-    private JavaFile writeTransactional(Map.Entry<TypeElement, List<ExecutableElement>> typeElementListEntry) {
-        var transactionalType = typeElementListEntry.getKey();
-        var transactionalMethods = typeElementListEntry.getValue();
-        var packageElement = ProcessingEnvUtils.getPackageElement(processingEnv, transactionalType);
+    private CodeBlock transactionalVoidCall(CodeBlock proceed, CodeBlock commit) {
+        return CodeBlock.builder()
+                .addStatement(TRANSACTION_MANAGER + ".begin()")
+                .addStatement(proceed)
+                .addStatement(commit)
+                .build();
+    }
+
+    private CodeBlock returningTransactionalMethodCall(ExecutableElement method, CodeBlock proceed, CodeBlock commit) {
+        var methodName = method.getSimpleName().toString();
+        return CodeBlock.builder()
+                .addStatement(TRANSACTION_MANAGER + ".begin()")
+                .addStatement("var $LReturnValue = ($L) $L", methodName, method.getReturnType().toString(), proceed)
+                .addStatement(commit)
+                .addStatement("return $LReturnValue", methodName)
+                .build();
+    }
+
+    private static List<ExecutableElement> groupCommitMethods(TypeElement type) {
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .filter(method -> method.getAnnotation(Transactional.class) != null && method.getAnnotation(GroupCommit.class) != null)
+                .toList();
+    }
+
+    private static String groupCommitterName(ExecutableElement method) {
+        return "%s.%s".formatted(method.getEnclosingElement().getSimpleName(), method.getSimpleName());
+    }
+
+    private static String groupCommitterField(ExecutableElement method) {
+        return "groupCommitter$" + method.getSimpleName();
+    }
 
-        return new TransactionalInterceptedWriter(transactionalType, transactionalMethods, packageElement)
-                .createDefinition(processingEnv.getMessager());
+    private CodeBlock catchClause() {
+        return CodeBlock.builder()
+                .beginControlFlow("catch ($T e)", Exception.class)
+                .beginControlFlow("try")
+                .addStatement(TRANSACTION_MANAGER + ".rollback()")
+                .endControlFlow()
+                .beginControlFlow("catch ($T innerException)", Exception.class)
+                .addStatement("throw new $T(innerException)", RuntimeException.class)
+                .endControlFlow()
+                .addStatement("throw new $T(e)", RuntimeException.class)
+                .endControlFlow()
+                .build();
     }
 }
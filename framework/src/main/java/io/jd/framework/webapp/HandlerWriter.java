@@ -1,6 +1,7 @@
 package io.jd.framework.webapp;
 
 import com.squareup.javapoet.*;
+import io.jd.framework.Warmup;
 import jakarta.inject.Singleton;
 
 import javax.annotation.processing.ProcessingEnvironment;
@@ -47,7 +48,8 @@ class HandlerWriter {
     }
 
     TypeSpec buildHandler(String handlerMethodName, ExecutableElement handler, TypeName typeName, RequestHandle annotation) {
-        return TypeSpec.classBuilder(handlerMethodName)
+        var handlerBuilder = TypeSpec.classBuilder(handlerMethodName)
+                .addOriginatingElement(handler.getEnclosingElement())
                 .addField(FieldSpec.builder(typeName, "controller", Modifier.FINAL, Modifier.PRIVATE).build())
                 .addMethod(constructor(typeName))
                 .addAnnotation(Singleton.class)
@@ -58,7 +60,23 @@ class HandlerWriter {
                         path(annotation.value()),
                         method(annotation.method()),
                         process(handler)
-                ))
+                ));
+        var warmup = handler.getAnnotation(Warmup.class);
+        if (warmup != null) {
+            handlerBuilder.addMethod(warmup(warmup));
+        }
+        return handlerBuilder.build();
+    }
+
+    private MethodSpec warmup(Warmup warmup) {
+        // the definition of the handler picks the routine up like one declared by any other bean
+        return MethodSpec.methodBuilder("warmup")
+                .addAnnotation(AnnotationSpec.builder(Warmup.class)
+                        .addMember("iterations", "$L", warmup.iterations())
+                        .addMember("millis", "$LL", warmup.millis())
+                        .build())
+                .addException(Exception.class)
+                .addStatement("process(() -> $S)", warmup.body())
                 .build();
     }
 
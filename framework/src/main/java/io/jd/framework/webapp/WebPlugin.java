@@ -5,6 +5,7 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import io.jd.framework.ProcessingEnvUtils;
 import io.jd.framework.processor.ProcessorPlugin;
+import io.jd.framework.processor.TypeDependencyResolver;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
@@ -36,7 +37,7 @@ public class WebPlugin implements ProcessorPlugin {
     }
 
     @Override
-    public Collection<JavaFile> process(Set<? extends Element> annotated) {
+    public Collection<JavaFile> process(Set<? extends Element> annotated, TypeDependencyResolver typeDependencyResolver) {
         return ElementFilter.methodsIn(annotated).stream()
                 .collect(groupingBy(NameData::new))
                 .entrySet()
@@ -2,8 +2,9 @@ package io.jd.framework;
 
 import com.google.testing.compile.Compiler;
 import io.jd.framework.processor.BeanProcessor;
+import io.jd.framework.processor.RegistryProcessor;
 
 public class AbstractAnnotationProcessorTest {
     protected final Compiler javac = Compiler.javac()
-            .withProcessors(new BeanProcessor());
+            .withProcessors(new BeanProcessor(), new RegistryProcessor());
 }
@@ -0,0 +1,55 @@
+package io.jd.framework;
+
+import com.google.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static io.jd.framework.TestUtil.getJavaFileObject;
+
+public class AsyncCreationTest extends AbstractAnnotationProcessorTest {
+    private static final JavaFileObject ASYNC_SERVICE = getJavaFileObject("definitions/async/AsyncService.java");
+    private static final JavaFileObject BLOCKING_ASYNC = getJavaFileObject("definitions/async/BlockingAsync.java");
+    private static final JavaFileObject CHECKED_ASYNC = getJavaFileObject("definitions/async/CheckedAsync.java");
+    private static final String INTERCEPTED_NAME = "io.jd.framework.definitions.AsyncService$Intercepted";
+
+    @Test
+    void shouldDispatchAsyncMethodsToExecutor() {
+        Compilation compilation = javac.compile(ASYNC_SERVICE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("asyncExecutor.execute(() -> super.notify(message));");
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("return asyncExecutor.submit(() -> super.find(id));");
+    }
+
+    @Test
+    void shouldRunTransactionOnExecutorThread() {
+        Compilation compilation = javac.compile(ASYNC_SERVICE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("return asyncExecutor.submit(() -> count$0());");
+    }
+
+    @Test
+    void shouldFailOnAsyncMethodReturningValueDirectly() {
+        Compilation compilation = javac.compile(BLOCKING_ASYNC);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("async method has to return void, CompletableFuture or CompletionStage");
+    }
+
+    @Test
+    void shouldFailOnAsyncMethodDeclaringCheckedException() {
+        Compilation compilation = javac.compile(CHECKED_ASYNC);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("async method cannot declare checked exceptions");
+    }
+}
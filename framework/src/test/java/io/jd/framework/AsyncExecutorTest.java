@@ -0,0 +1,95 @@
+package io.jd.framework;
+
+import io.jd.framework.async.AsyncExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncExecutorTest {
+
+    @Test
+    void shouldRunCallsOutsideOfCallerThread() throws Exception {
+        try (var executor = AsyncExecutor.platform(2, 10)) {
+            var result = executor.submit(() -> CompletableFuture.completedFuture(Thread.currentThread()));
+
+            assertNotSame(Thread.currentThread(), result.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void shouldReportQueuedAndActiveCalls() throws Exception {
+        try (var executor = AsyncExecutor.platform(1, 10)) {
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            executor.execute(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            executor.execute(() -> awaitQuietly(release));
+            started.await(5, TimeUnit.SECONDS);
+
+            var statistics = executor.statistics();
+
+            assertFalse(statistics.virtual());
+            assertEquals(2, statistics.submitted());
+            assertEquals(1, statistics.active());
+            assertEquals(1, statistics.queued());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldRunCallOnCallerThreadWhenQueueIsFull() throws Exception {
+        try (var executor = AsyncExecutor.platform(1, 1)) {
+            var release = new CountDownLatch(1);
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+
+            var result = executor.submit(() -> CompletableFuture.completedFuture(Thread.currentThread()));
+
+            assertSame(Thread.currentThread(), result.get(5, TimeUnit.SECONDS));
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenCallFails() {
+        try (var executor = AsyncExecutor.platform(1, 10)) {
+            var result = executor.<String>submit(() -> {
+                throw new IllegalStateException("failed");
+            });
+
+            var exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void shouldRejectCallsAfterClose() {
+        var executor = AsyncExecutor.platform(1, 1);
+        executor.close();
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+        assertEquals(0, executor.statistics().submitted());
+        assertEquals(0, executor.statistics().queued());
+    }
+
+    @Test
+    void shouldUseVirtualThreadsOnlyWhenRuntimeProvidesThem() {
+        var virtual = AsyncExecutor.virtual();
+
+        assertEquals(Runtime.version().feature() >= 21, virtual.isPresent());
+        virtual.ifPresent(AsyncExecutor::close);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.jd.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseBeanProviderTest {
+
+    @Test
+    void shouldResolveBeansOfGivenTypeOnlyOnce() {
+        var definition = new CountingDefinition();
+        var provider = new BaseBeanProvider(List.of(definition));
+
+        var first = provider.provideAll(Bean.class);
+        var second = provider.provideAll(Bean.class);
+
+        assertSame(first, second);
+        assertEquals(1, definition.createCalls.get());
+    }
+
+    @Test
+    void shouldKeepCachedResolutionsSeparatePerRequestedType() {
+        var definition = new CountingDefinition();
+        var provider = new BaseBeanProvider(List.of(definition));
+
+        var bean = provider.provide(Bean.class);
+        var objects = provider.provideAll(Object.class);
+
+        assertEquals(List.of(bean), objects);
+        assertEquals(2, definition.createCalls.get());
+    }
+
+    @Test
+    void shouldShareParentSingletonsWithChild() {
+        var definition = new CountingDefinition();
+        var parent = new BaseBeanProvider(List.of(definition));
+        var child = parent.child(List.of());
+
+        assertSame(parent.provide(Bean.class), child.provide(Bean.class));
+        assertSame(parent.provideAll(Bean.class), child.provideAll(Bean.class));
+    }
+
+    @Test
+    void shouldPreferChildDefinitionOverInheritedOne() {
+        var parentDefinition = new CountingDefinition();
+        var childDefinition = new CountingDefinition();
+        var parent = new BaseBeanProvider(List.of(parentDefinition));
+        var child = parent.child(List.of(childDefinition));
+
+        assertSame(childDefinition.bean, child.provide(Bean.class));
+        assertEquals(List.of(childDefinition.bean), child.provideAll(Object.class));
+        assertSame(parentDefinition.bean, parent.provide(Bean.class));
+        assertEquals(1, parentDefinition.createCalls.get());
+    }
+
+    @Test
+    void shouldResolveDependenciesOfChildBeansThroughParent() {
+        var parent = new BaseBeanProvider(List.of(new CountingDefinition()));
+        var child = parent.child(List.of(new DependentDefinition()));
+
+        assertSame(parent.provide(Bean.class), child.provide(Dependent.class).bean());
+        assertEquals(2, child.provideAll(Object.class).size());
+        assertThrows(IllegalStateException.class, () -> parent.provide(Dependent.class));
+    }
+
+    static class Bean {
+    }
+
+    record Dependent(Bean bean) {
+    }
+
+    static class DependentDefinition implements BeanDefinition<Dependent> {
+        private final ScopeProvider<Dependent> provider = ScopeProvider.singletonScope(beanProvider -> new Dependent(beanProvider.provide(Bean.class)));
+
+        @Override
+        public Dependent create(BeanProvider beanProvider) {
+            return provider.apply(beanProvider);
+        }
+
+        @Override
+        public Class<Dependent> type() {
+            return Dependent.class;
+        }
+    }
+
+    static class CountingDefinition implements BeanDefinition<Bean> {
+        private final Bean bean = new Bean();
+        private final AtomicInteger createCalls = new AtomicInteger();
+
+        @Override
+        public Bean create(BeanProvider beanProvider) {
+            createCalls.incrementAndGet();
+            return bean;
+        }
+
+        @Override
+        public Class<Bean> type() {
+            return Bean.class;
+        }
+    }
+}
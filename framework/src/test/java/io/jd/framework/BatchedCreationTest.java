@@ -0,0 +1,64 @@
+package io.jd.framework;
+
+import com.google.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static io.jd.framework.TestUtil.getJavaFileObject;
+
+public class BatchedCreationTest extends AbstractAnnotationProcessorTest {
+    private static final JavaFileObject EVENT_STORE = getJavaFileObject("definitions/batch/EventStore.java");
+    private static final JavaFileObject MISSING_BULK = getJavaFileObject("definitions/batch/MissingBulk.java");
+    private static final JavaFileObject PRIMITIVE_BATCHED = getJavaFileObject("definitions/batch/PrimitiveBatched.java");
+    private static final JavaFileObject TRANSACTIONAL_BATCHED = getJavaFileObject("definitions/batch/TransactionalBatched.java");
+    private static final String INTERCEPTED_NAME = "io.jd.framework.definitions.EventStore$Intercepted";
+
+    @Test
+    void shouldLoadKeysThroughBulkMethod() {
+        Compilation compilation = javac.compile(EVENT_STORE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("private final Batcher<Integer, String> batcher$findEvent = Batcher.of(\"EventStore.findEvent\", 50, 200L, this::findEvents);");
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("return batcher$findEvent.load(id);");
+    }
+
+    @Test
+    void shouldLookUpCacheBeforeBatching() {
+        Compilation compilation = javac.compile(EVENT_STORE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("String $value = findEvent$0(id);");
+    }
+
+    @Test
+    void shouldFailWhenBulkMethodDoesNotMatch() {
+        Compilation compilation = javac.compile(MISSING_BULK);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("bulk method findEvents accepting List<java.lang.Integer> and returning Map<java.lang.Integer, java.lang.String> not found");
+    }
+
+    @Test
+    void shouldFailOnTransactionalBatchedMethod() {
+        Compilation compilation = javac.compile(TRANSACTIONAL_BATCHED);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("batched method cannot be transactional, its bulk method can");
+    }
+
+    @Test
+    void shouldFailOnBatchedMethodReturningPrimitive() {
+        Compilation compilation = javac.compile(PRIMITIVE_BATCHED);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("batched method has to return a reference type");
+    }
+}
@@ -0,0 +1,115 @@
+package io.jd.framework;
+
+import io.jd.framework.batch.Batcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatcherTest {
+
+    private final List<List<Integer>> bulkCalls = new CopyOnWriteArrayList<>();
+    private final Function<List<Integer>, Map<Integer, String>> bulk = keys -> {
+        bulkCalls.add(keys);
+        return keys.stream().filter(key -> key >= 0).collect(toMap(key -> key, key -> "value" + key));
+    };
+
+    @Test
+    void shouldDispatchFullBatchWithoutWaitingForWindow() throws Exception {
+        var batcher = Batcher.of("full", 4, TimeUnit.SECONDS.toMicros(30), bulk);
+
+        var results = loadConcurrently(batcher, List.of(1, 2, 3, 4));
+
+        assertEquals(List.of("value1", "value2", "value3", "value4"), results);
+        assertEquals(1, bulkCalls.size());
+        assertEquals(Map.of(4, 1L), batcher.statistics().batchSizes());
+    }
+
+    @Test
+    void shouldDeduplicateKeysOfConcurrentCalls() throws Exception {
+        var batcher = Batcher.of("duplicates", 2, TimeUnit.SECONDS.toMicros(30), bulk);
+        var pool = Executors.newFixedThreadPool(4);
+        try {
+            var duplicates = new ArrayList<Future<String>>();
+            for (int call = 0; call < 3; call++) {
+                duplicates.add(pool.submit(() -> batcher.load(7)));
+            }
+            // the batch is filled by the other key only once all the duplicates joined it
+            while (batcher.statistics().calls() < 3) {
+                Thread.onSpinWait();
+            }
+            var other = pool.submit(() -> batcher.load(8));
+
+            for (Future<String> duplicate : duplicates) {
+                assertEquals("value7", duplicate.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals("value8", other.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(List.of(List.of(7, 8)), bulkCalls);
+        var statistics = batcher.statistics();
+        assertEquals(4, statistics.calls());
+        assertEquals(1, statistics.batches());
+        assertEquals(3, statistics.roundTripsSaved());
+    }
+
+    @Test
+    void shouldDispatchSingleCallOnceWindowElapses() {
+        var batcher = Batcher.of("single", 10, 1000, bulk);
+
+        assertEquals("value5", batcher.load(5));
+        assertNull(batcher.load(-1));
+
+        assertEquals(2, bulkCalls.size());
+        assertEquals(1.0, batcher.statistics().meanBatchSize());
+    }
+
+    @Test
+    void shouldFailEveryCallerOfFailedBatch() throws Exception {
+        var batcher = Batcher.<Integer, String>of("failing", 2, TimeUnit.SECONDS.toMicros(30), keys -> {
+            throw new IllegalStateException("store unavailable");
+        });
+        var pool = Executors.newFixedThreadPool(2);
+        try {
+            var first = pool.submit(() -> batcher.load(1));
+            var second = pool.submit(() -> batcher.load(2));
+
+            for (Future<String> result : List.of(first, second)) {
+                var exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertEquals("store unavailable", exception.getCause().getMessage());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectNullKey() {
+        var batcher = Batcher.of("nulls", 2, 0, bulk);
+
+        assertThrows(NullPointerException.class, () -> batcher.load(null));
+    }
+
+    private static List<String> loadConcurrently(Batcher<Integer, String> batcher, List<Integer> keys) throws Exception {
+        var pool = Executors.newFixedThreadPool(keys.size());
+        try {
+            var results = new ArrayList<Future<String>>();
+            keys.forEach(key -> results.add(pool.submit(() -> batcher.load(key))));
+            var values = new ArrayList<String>();
+            for (Future<String> result : results) {
+                values.add(result.get(5, TimeUnit.SECONDS));
+            }
+            return values;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
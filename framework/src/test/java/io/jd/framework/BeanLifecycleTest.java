@@ -0,0 +1,41 @@
+package io.jd.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BeanLifecycleTest {
+
+    @Test
+    void shouldDestroyCreatedBeansInReverseOrder() {
+        var destroyed = new ArrayList<String>();
+        var lifecycle = new BeanLifecycle();
+        lifecycle.created(new NamedDefinition(destroyed), "first");
+        lifecycle.created(new NamedDefinition(destroyed), "second");
+
+        lifecycle.close();
+        lifecycle.close();
+
+        assertEquals(List.of("second", "first"), destroyed);
+    }
+
+    private record NamedDefinition(List<String> destroyed) implements BeanDefinition<String> {
+        @Override
+        public String create(BeanProvider beanProvider) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Class<String> type() {
+            return String.class;
+        }
+
+        @Override
+        public void destroy(String instance) {
+            destroyed.add(instance);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.jd.framework;
+
+import com.google.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static io.jd.framework.TestUtil.getJavaFileObject;
+
+public class CacheCreationTest extends AbstractAnnotationProcessorTest {
+    private static final JavaFileObject CACHED_REPOSITORY = getJavaFileObject("definitions/cache/CachedRepository.java");
+    private static final JavaFileObject VOID_CACHEABLE = getJavaFileObject("definitions/cache/VoidCacheable.java");
+    private static final JavaFileObject UNKNOWN_CACHE_EVICT = getJavaFileObject("definitions/cache/UnknownCacheEvict.java");
+    private static final JavaFileObject MISMATCHED_CACHE_EVICT = getJavaFileObject("definitions/cache/MismatchedCacheEvict.java");
+    private static final JavaFileObject CONFLICTING_CACHES = getJavaFileObject("definitions/cache/ConflictingCaches.java");
+    private static final JavaFileObject EVICT_ONLY_WRITER = getJavaFileObject("definitions/cache/EvictOnlyWriter.java");
+    private static final JavaFileObject MIXED_TYPE_CACHE = getJavaFileObject("definitions/cache/MixedTypeCache.java");
+    private static final JavaFileObject PRIVATE_CACHEABLE = getJavaFileObject("definitions/cache/PrivateCacheable.java");
+    private static final String INTERCEPTED_NAME = "io.jd.framework.definitions.CachedRepository$Intercepted";
+
+    @Test
+    void shouldGenerateOneInterceptedTypeForCachingAndTransactions() {
+        Compilation compilation = javac.compile(CACHED_REPOSITORY);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile("io.jd.framework.definitions.$CachedRepository$Intercepted$Definition");
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("private final MethodCache cache$names = MethodCache.of(\"names\", 100L, 0L);");
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("var totalReturnValue = (long) super.total(first, second);");
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("var $key = MethodCache.key(first, second);\n    Long $cached = cache$totals.get($key);");
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("long $value = total$0(first, second);");
+    }
+
+    @Test
+    void shouldUseSingleArgumentAsKey() {
+        Compilation compilation = javac.compile(CACHED_REPOSITORY);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("var $key = id;");
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("cache$names.invalidate(id);");
+    }
+
+    @Test
+    void shouldFailOnVoidCacheableMethod() {
+        Compilation compilation = javac.compile(VOID_CACHEABLE);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("cacheable method has to return a value");
+    }
+
+    @Test
+    void shouldFailOnEvictionOfUnknownCache() {
+        Compilation compilation = javac.compile(UNKNOWN_CACHE_EVICT);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("no cacheable method uses cache ids");
+    }
+
+    @Test
+    void shouldFailOnEvictionNotStartingWithCacheKey() {
+        Compilation compilation = javac.compile(MISMATCHED_CACHE_EVICT);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("cache evicting method has to start with the key parameters of cache names");
+    }
+
+    @Test
+    void shouldFailOnCacheDeclaredWithDifferentSettings() {
+        Compilation compilation = javac.compile(CONFLICTING_CACHES);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("cache names is declared with different settings");
+    }
+
+    @Test
+    void shouldFailOnEvictionInTypeWithoutCacheableMethods() {
+        Compilation compilation = javac.compile(EVICT_ONLY_WRITER);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("no cacheable method uses cache names");
+    }
+
+    @Test
+    void shouldFailOnCacheSharedByMethodsOfDifferentTypes() {
+        Compilation compilation = javac.compile(MIXED_TYPE_CACHE);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("methods sharing cache byId have to take the same parameters and return the same type");
+    }
+
+    @Test
+    void shouldFailOnPrivateCacheableMethod() {
+        Compilation compilation = javac.compile(PRIVATE_CACHEABLE);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("private method annotated as cacheable");
+    }
+}
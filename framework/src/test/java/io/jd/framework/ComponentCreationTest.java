@@ -0,0 +1,53 @@
+package io.jd.framework;
+
+import com.google.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static io.jd.framework.TestUtil.getJavaFileObject;
+import static io.jd.framework.TestUtil.getJavaFileObjects;
+
+public class ComponentCreationTest extends AbstractAnnotationProcessorTest {
+    private static final JavaFileObject APP = getJavaFileObject("definitions/component/App.java");
+    private static final List<JavaFileObject> SIMPLE_DEFS = getJavaFileObjects(Stream.of("A", "B", "C", "D"), "definitions/simpleDefs/%s.java");
+    private static final List<JavaFileObject> CYCLE_DEFS = getJavaFileObjects(Stream.of("CycleA", "CycleB"), "definitions/component/%s.java");
+    private static final String COMPONENT_NAME = "io.jd.framework.definitions.$App$Component";
+    private static final String REGISTRY_NAME = "io.jd.framework.definitions.$App$Registry";
+
+    @Test
+    void shouldWireBeansThroughConstructorsInComponent() {
+        Compilation compilation = javac.compile(Stream.concat(Stream.of(APP), SIMPLE_DEFS.stream()).toList());
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(COMPONENT_NAME)
+                .contentsAsUtf8String()
+                .contains("this.a = StartupProfiler.exit(frame$a, $A$Definition.newInstance(b, c));");
+        assertThat(compilation).generatedSourceFile(COMPONENT_NAME)
+                .contentsAsUtf8String()
+                .contains("$D$Definition.newInstance(providerOf(A.class), providerOfAll(B.class))");
+    }
+
+    @Test
+    void shouldWriteRegistryOfComponentBeans() {
+        Compilation compilation = javac.compile(Stream.concat(Stream.of(APP), SIMPLE_DEFS.stream()).toList());
+
+        assertThat(compilation).succeededWithoutWarnings();
+        Stream.of("A", "B", "C", "D").forEach(className ->
+                assertThat(compilation).generatedSourceFile(REGISTRY_NAME)
+                        .contentsAsUtf8String()
+                        .contains("definitions.add(new $%s$Definition());".formatted(className))
+        );
+    }
+
+    @Test
+    void shouldFailForDependencyCycleInComponent() {
+        Compilation compilation = javac.compile(Stream.concat(Stream.of(APP), CYCLE_DEFS.stream()).toList());
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("Dependency cycle detected: io.jd.framework.definitions.CycleA -> io.jd.framework.definitions.CycleB -> io.jd.framework.definitions.CycleA");
+    }
+}
@@ -10,13 +10,19 @@ import java.util.stream.Stream;
 import static com.google.testing.compile.CompilationSubject.assertThat;
 import static io.jd.framework.TestUtil.getJavaFileObject;
 import static io.jd.framework.TestUtil.getJavaFileObjects;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DefinitionCreationTest extends AbstractAnnotationProcessorTest {
-    private static final List<String> CLASS_NAMES = Stream.of("A", "B", "C").toList();
+    private static final List<String> CLASS_NAMES = Stream.of("A", "B", "C", "D").toList();
     private static final List<JavaFileObject> FILES_TO_CREATE_DEFS = getJavaFileObjects(CLASS_NAMES.stream(), "definitions/simpleDefs/%s.java");
     private static final JavaFileObject TWO_CONSTRUCTORS = getJavaFileObject("definitions/invalidDefs/TwoConstructors.java");
     private static final JavaFileObject ABSTRACT_B = getJavaFileObject("definitions/invalidDefs/AbstractB.java");
     private static final JavaFileObject INTERFACE_C = getJavaFileObject("definitions/invalidDefs/InterfaceC.java");
+    private static final JavaFileObject TWO_SCOPES = getJavaFileObject("definitions/invalidDefs/TwoScopes.java");
+    private static final JavaFileObject POOLED_A = getJavaFileObject("definitions/scopedDefs/PooledA.java");
+    private static final JavaFileObject POOLED_A_USER = getJavaFileObject("definitions/invalidDefs/PooledAUser.java");
+    private static final JavaFileObject PAYLOAD = getJavaFileObject("definitions/reflective/Payload.java");
 
     private static final String PACKAGE_NAME = "io.jd.framework.definitions";
 
@@ -30,6 +36,104 @@ public class DefinitionCreationTest extends AbstractAnnotationProcessorTest {
         );
     }
 
+    @Test
+    void shouldRegisterCreatedDefinitionsInIndex() {
+        Compilation compilation = javac.compile(FILES_TO_CREATE_DEFS);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedFile(CLASS_OUTPUT, "META-INF/services/io.jd.framework.BeanRegistry")
+                .contentsAsUtf8String()
+                .startsWith("%s.$BeanRegistry$".formatted(PACKAGE_NAME));
+        CLASS_NAMES.forEach(className ->
+                assertThat(compilation).generatedSourceFile(registryName(compilation))
+                        .contentsAsUtf8String()
+                        .contains("new $%s$Definition()".formatted(className))
+        );
+    }
+
+    @Test
+    void shouldLeaveDefinitionsUnreachableFromRootsOutOfIndex() {
+        Compilation compilation = javac.withOptions("-Aio.jd.framework.roots=%s.A".formatted(PACKAGE_NAME)).compile(FILES_TO_CREATE_DEFS);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).hadNoteContaining("Definitions unreachable from roots left out of the index: %s.$D$Definition".formatted(PACKAGE_NAME));
+        assertThat(compilation).generatedSourceFile("%s.$D$Definition".formatted(PACKAGE_NAME));
+        var registry = assertThat(compilation).generatedSourceFile(registryName(compilation)).contentsAsUtf8String();
+        Stream.of("A", "B", "C").forEach(className -> registry.contains("new $%s$Definition()".formatted(className)));
+        registry.doesNotContain("new $D$Definition()");
+    }
+
+    @Test
+    void shouldRegisterDefinitionsReachableThroughProviders() {
+        Compilation compilation = javac.withOptions("-Aio.jd.framework.roots=%s.D".formatted(PACKAGE_NAME)).compile(FILES_TO_CREATE_DEFS);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        CLASS_NAMES.forEach(className ->
+                assertThat(compilation).generatedSourceFile(registryName(compilation))
+                        .contentsAsUtf8String()
+                        .contains("new $%s$Definition()".formatted(className))
+        );
+    }
+
+    @Test
+    void shouldWriteNativeImageMetadataForRegistriesAndReflectiveTypes() {
+        Compilation compilation = javac.compile(Stream.concat(FILES_TO_CREATE_DEFS.stream(), Stream.of(PAYLOAD)).toList());
+
+        assertThat(compilation).succeededWithoutWarnings();
+        var reflectConfig = assertThat(compilation).generatedFile(CLASS_OUTPUT, nativeImageMetadata(compilation, "reflect-config.json")).contentsAsUtf8String();
+        reflectConfig.contains("\"name\": \"%s\"".formatted(registryName(compilation)));
+        reflectConfig.contains("\"name\": \"%s.Payload\",\n    \"allDeclaredConstructors\": true".formatted(PACKAGE_NAME));
+        reflectConfig.doesNotContain("$A$Definition");
+        assertThat(compilation).generatedFile(CLASS_OUTPUT, nativeImageMetadata(compilation, "resource-config.json"))
+                .contentsAsUtf8String()
+                .contains("\\\\QMETA-INF/services/io.jd.framework.BeanRegistry\\\\E");
+    }
+
+    private static String nativeImageMetadata(Compilation compilation, String fileName) {
+        var metadata = compilation.generatedFiles().stream()
+                .map(JavaFileObject::getName)
+                .filter(name -> name.contains("META-INF/native-image/io.jd.framework/") && name.endsWith(fileName))
+                .findFirst();
+        assertTrue(metadata.isPresent());
+        return metadata.get().substring(metadata.get().indexOf("META-INF/"));
+    }
+
+    private static String registryName(Compilation compilation) {
+        var registry = compilation.generatedSourceFiles().stream()
+                .filter(file -> file.getName().contains("$BeanRegistry$"))
+                .findFirst();
+        assertTrue(registry.isPresent());
+        return registry.get().getName().replaceAll("^/SOURCE_OUTPUT/|\\.java$", "").replace('/', '.');
+    }
+
+    @Test
+    void shouldCreateDefinitionWithDeclaredScope() {
+        Compilation compilation = javac.compile(POOLED_A);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile("%s.$PooledA$Definition".formatted(PACKAGE_NAME))
+                .contentsAsUtf8String()
+                .contains("ScopeProvider.pooledScope(this, 4)");
+        assertThat(compilation).generatedSourceFile("%s.$PooledA$Definition".formatted(PACKAGE_NAME))
+                .contentsAsUtf8String()
+                .contains("has to be borrowed from its Pool");
+    }
+
+    @Test
+    void shouldFailForPooledBeanInjectedDirectly() {
+        Compilation compilation = javac.compile(POOLED_A, POOLED_A_USER);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("Pooled bean io.jd.framework.definitions.PooledA has to be injected as Pool<io.jd.framework.definitions.PooledA>");
+    }
+
+    @Test
+    void shouldFailForClassesWithTwoScopes() {
+        Compilation compilation = javac.compile(TWO_SCOPES);
+
+        assertThat(compilation).hadErrorContaining("Bean cannot declare more than one scope");
+    }
+
     @Test
     void shouldFailForInterfaces() {
         Compilation compilation = javac.compile(INTERFACE_C);
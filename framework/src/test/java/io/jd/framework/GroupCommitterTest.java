@@ -0,0 +1,157 @@
+package io.jd.framework;
+
+import io.jd.framework.transactional.FlushingTransactionManager;
+import io.jd.framework.transactional.GroupCommitFailedException;
+import io.jd.framework.transactional.GroupCommitter;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupCommitterTest {
+
+    private final FlushCountingManager manager = new FlushCountingManager();
+
+    @Test
+    void shouldFlushFullGroupOnce() throws Exception {
+        var committer = GroupCommitter.of("full", 4, TimeUnit.SECONDS.toMicros(30));
+
+        var failures = commitConcurrently(committer, 4);
+
+        assertEquals(List.of(), failures);
+        assertEquals(4, manager.commits.get());
+        assertEquals(1, manager.flushes.get());
+        assertEquals(Map.of(4, 1L), committer.statistics().groupSizes());
+        assertEquals(4.0, committer.statistics().meanGroupSize());
+    }
+
+    @Test
+    void shouldFlushSingleCommitOnceWindowElapses() throws Exception {
+        var committer = GroupCommitter.of("single", 4, 1000);
+
+        committer.commit(manager);
+
+        assertEquals(1, manager.flushes.get());
+        assertEquals(1, committer.statistics().flushes());
+    }
+
+    @Test
+    void shouldFailEveryMemberOfGroupWithSharedFlushFailure() throws Exception {
+        var committer = GroupCommitter.of("failing", 2, TimeUnit.SECONDS.toMicros(30));
+        manager.failure = new SystemException("disk full");
+
+        var failures = commitConcurrently(committer, 2);
+
+        assertEquals(2, failures.size());
+        failures.forEach(failure -> {
+            assertInstanceOf(GroupCommitFailedException.class, failure);
+            assertSame(manager.failure, failure.getCause());
+        });
+        assertEquals(1, manager.flushes.get());
+    }
+
+    @Test
+    void shouldCommitDirectlyWithManagerThatCannotDeferFlush() throws Exception {
+        var committer = GroupCommitter.of("plain", 2, TimeUnit.SECONDS.toMicros(30));
+        var plain = new NotFlushingManager();
+
+        committer.commit(plain);
+
+        assertEquals(1, plain.commits.get());
+        assertEquals(0, committer.statistics().commits());
+    }
+
+    private List<Throwable> commitConcurrently(GroupCommitter committer, int transactions) throws Exception {
+        var pool = Executors.newFixedThreadPool(transactions);
+        try {
+            var results = new ArrayList<Future<?>>();
+            for (int transaction = 0; transaction < transactions; transaction++) {
+                results.add(pool.submit(() -> {
+                    committer.commit(manager);
+                    return null;
+                }));
+            }
+            var failures = new ArrayList<Throwable>();
+            for (Future<?> result : results) {
+                try {
+                    result.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static class NotFlushingManager implements TransactionManager {
+        final AtomicInteger commits = new AtomicInteger();
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void commit() {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        public int getStatus() {
+            return 0;
+        }
+
+        @Override
+        public Transaction getTransaction() {
+            return null;
+        }
+
+        @Override
+        public void resume(Transaction transaction) {
+        }
+
+        @Override
+        public void rollback() {
+        }
+
+        @Override
+        public void setRollbackOnly() {
+        }
+
+        @Override
+        public void setTransactionTimeout(int seconds) {
+        }
+
+        @Override
+        public Transaction suspend() {
+            return null;
+        }
+    }
+
+    private static class FlushCountingManager extends NotFlushingManager implements FlushingTransactionManager {
+        final AtomicInteger flushes = new AtomicInteger();
+        volatile SystemException failure;
+
+        @Override
+        public void commitWithoutFlush() {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        public void flush() throws SystemException {
+            flushes.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package io.jd.framework;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import io.jd.framework.processor.BeanProcessor;
+import io.jd.framework.processor.RegistryProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static io.jd.framework.TestUtil.getJavaFileObject;
+import static io.jd.framework.TestUtil.getJavaFileObjects;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IncrementalProcessingTest {
+    private static final String PACKAGE_NAME = "io.jd.framework.definitions";
+    private static final List<JavaFileObject> SIMPLE_DEFS = getJavaFileObjects(Stream.of("A", "B", "C", "D"), "definitions/simpleDefs/%s.java");
+    private static final JavaFileObject APP = getJavaFileObject("definitions/component/App.java");
+    private static final JavaFileObject PAYLOAD = getJavaFileObject("definitions/reflective/Payload.java");
+    private static final JavaFileObject TRANSACTIONAL = getJavaFileObject("definitions/transactional/A.java");
+    private static final JavaFileObject CONTROLLER = getJavaFileObject("definitions/web/ExampleController.java");
+    private static final List<JavaFileObject> LAZY = getJavaFileObjects(Stream.of("Greeter", "LazyA"), "definitions/lazy/%s.java");
+
+    @Test
+    void shouldDeclareIncrementalCategoriesOfProcessors() throws IOException {
+        try (InputStream declaration = BeanProcessor.class.getResourceAsStream("/META-INF/gradle/incremental.annotation.processors")) {
+            var categories = new String(declaration.readAllBytes()).lines().toList();
+
+            assertEquals(List.of("%s,isolating".formatted(BeanProcessor.class.getName()), "%s,aggregating".formatted(RegistryProcessor.class.getName())), categories);
+        }
+    }
+
+    @Test
+    void shouldRecordAllAggregatedBeansAsOriginatingElements() {
+        var originatingElements = compile(Stream.concat(SIMPLE_DEFS.stream(), Stream.of(APP, PAYLOAD)).toList());
+
+        var beans = Stream.of("A", "B", "C", "D").map(name -> "%s.%s".formatted(PACKAGE_NAME, name)).toList();
+        assertTrue(originatingElements.get("%s.$App$Component".formatted(PACKAGE_NAME)).containsAll(beans));
+        assertTrue(originatingElements.get("%s.$App$Component".formatted(PACKAGE_NAME)).contains("%s.App".formatted(PACKAGE_NAME)));
+        assertTrue(originatingElements.get("META-INF/services/io.jd.framework.BeanRegistry").containsAll(beans));
+        originatingElements.entrySet().stream()
+                .filter(file -> file.getKey().startsWith("META-INF/native-image/"))
+                .forEach(file -> assertTrue(file.getValue().contains("%s.Payload".formatted(PACKAGE_NAME))));
+        originatingElements.forEach((file, elements) -> assertTrue(elements.size() > 0, file));
+    }
+
+    @Test
+    void shouldRecordSingleOriginatingElementOfIsolatedOutputs() {
+        var originatingElements = compile(SIMPLE_DEFS);
+
+        Stream.of("A", "B", "C", "D").forEach(name -> assertEquals(
+                Set.of("%s.%s".formatted(PACKAGE_NAME, name)),
+                originatingElements.get("%s.$%s$Definition".formatted(PACKAGE_NAME, name))
+        ));
+    }
+
+    @Test
+    void shouldRecordSingleOriginatingElementOfPluginOutputs() {
+        assertEquals(Set.of("%s.A".formatted(PACKAGE_NAME)), compile(List.of(TRANSACTIONAL)).get("%s.A$Intercepted".formatted(PACKAGE_NAME)));
+        assertEquals(Set.of("%s.LazyA".formatted(PACKAGE_NAME)), compile(LAZY).get("%s.LazyA$Lazy".formatted(PACKAGE_NAME)));
+        compile(List.of(CONTROLLER)).entrySet().stream()
+                .filter(file -> file.getKey().endsWith("$handler"))
+                .forEach(file -> assertEquals(Set.of("io.jd.framework.web.ExampleController"), file.getValue()));
+    }
+
+    @Test
+    void shouldNotRewriteOutputsAlreadyCompiledFromUnchangedBeans(@TempDir Path classes) throws IOException {
+        var previous = Compiler.javac().withProcessors(new BeanProcessor(), new RegistryProcessor()).compile(SIMPLE_DEFS);
+        for (JavaFileObject file : previous.generatedFiles()) {
+            if (file.getKind() == JavaFileObject.Kind.CLASS) {
+                var path = classes.resolve(file.toUri().getPath().replaceFirst("^.*?/CLASS_OUTPUT/", ""));
+                Files.createDirectories(path.getParent());
+                try (InputStream content = file.openInputStream()) {
+                    Files.copy(content, path);
+                }
+            }
+        }
+        var classpath = Stream.concat(Stream.of(System.getProperty("java.class.path").split(File.pathSeparator)).map(File::new), Stream.of(classes.toFile())).toList();
+
+        var originatingElements = compile(Compiler.javac().withClasspath(classpath), SIMPLE_DEFS);
+
+        Stream.of("A", "B", "C", "D").forEach(name -> assertFalse(originatingElements.containsKey("%s.$%s$Definition".formatted(PACKAGE_NAME, name))));
+        assertTrue(originatingElements.containsKey("META-INF/services/io.jd.framework.BeanRegistry"));
+    }
+
+    private static Map<String, Set<String>> compile(List<JavaFileObject> files) {
+        return compile(Compiler.javac(), files);
+    }
+
+    private static Map<String, Set<String>> compile(Compiler compiler, List<JavaFileObject> files) {
+        var originatingElements = new HashMap<String, Set<String>>();
+        Compilation compilation = compiler
+                .withProcessors(new RecordingProcessor(new BeanProcessor(), originatingElements), new RecordingProcessor(new RegistryProcessor(), originatingElements))
+                .compile(files);
+        assertThat(compilation).succeeded();
+        return originatingElements;
+    }
+
+    private static class RecordingProcessor extends AbstractProcessor {
+        private final Processor delegate;
+        private final Map<String, Set<String>> originatingElements;
+
+        RecordingProcessor(Processor delegate, Map<String, Set<String>> originatingElements) {
+            this.delegate = delegate;
+            this.originatingElements = originatingElements;
+        }
+
+        @Override
+        public synchronized void init(ProcessingEnvironment processingEnv) {
+            super.init(processingEnv);
+            delegate.init(new RecordingEnvironment(processingEnv));
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return delegate.getSupportedOptions();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return delegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return delegate.process(annotations, roundEnv);
+        }
+
+        private void record(CharSequence name, Element[] elements) {
+            var names = new HashSet<String>();
+            for (Element element : elements) {
+                names.add(((TypeElement) element).getQualifiedName().toString());
+            }
+            originatingElements.put(name.toString(), names);
+        }
+
+        private class RecordingEnvironment implements ProcessingEnvironment {
+            private final ProcessingEnvironment environment;
+
+            RecordingEnvironment(ProcessingEnvironment environment) {
+                this.environment = environment;
+            }
+
+            @Override
+            public Filer getFiler() {
+                var filer = environment.getFiler();
+                return new Filer() {
+                    @Override
+                    public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements) throws IOException {
+                        record(name, originatingElements);
+                        return filer.createSourceFile(name, originatingElements);
+                    }
+
+                    @Override
+                    public JavaFileObject createClassFile(CharSequence name, Element... originatingElements) throws IOException {
+                        record(name, originatingElements);
+                        return filer.createClassFile(name, originatingElements);
+                    }
+
+                    @Override
+                    public FileObject createResource(JavaFileManager.Location location, CharSequence moduleAndPkg, CharSequence relativeName, Element... originatingElements) throws IOException {
+                        record(relativeName, originatingElements);
+                        return filer.createResource(location, moduleAndPkg, relativeName, originatingElements);
+                    }
+
+                    @Override
+                    public FileObject getResource(JavaFileManager.Location location, CharSequence moduleAndPkg, CharSequence relativeName) throws IOException {
+                        return filer.getResource(location, moduleAndPkg, relativeName);
+                    }
+                };
+            }
+
+            @Override
+            public Map<String, String> getOptions() {
+                return environment.getOptions();
+            }
+
+            @Override
+            public Messager getMessager() {
+                return environment.getMessager();
+            }
+
+            @Override
+            public Elements getElementUtils() {
+                return environment.getElementUtils();
+            }
+
+            @Override
+            public Types getTypeUtils() {
+                return environment.getTypeUtils();
+            }
+
+            @Override
+            public SourceVersion getSourceVersion() {
+                return environment.getSourceVersion();
+            }
+
+            @Override
+            public Locale getLocale() {
+                return environment.getLocale();
+            }
+        }
+    }
+}
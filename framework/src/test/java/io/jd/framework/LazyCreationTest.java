@@ -0,0 +1,71 @@
+package io.jd.framework;
+
+import com.google.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static io.jd.framework.TestUtil.getJavaFileObject;
+
+public class LazyCreationTest extends AbstractAnnotationProcessorTest {
+    private static final JavaFileObject GREETER = getJavaFileObject("definitions/lazy/Greeter.java");
+    private static final JavaFileObject LAZY_A = getJavaFileObject("definitions/lazy/LazyA.java");
+    private static final JavaFileObject LAZY_WITHOUT_INTERFACE = getJavaFileObject("definitions/lazy/LazyWithoutInterface.java");
+    private static final JavaFileObject LAZY_POOLED = getJavaFileObject("definitions/lazy/LazyPooled.java");
+    private static final JavaFileObject LAZY_NOT_BEAN = getJavaFileObject("definitions/lazy/LazyNotBean.java");
+    private static final JavaFileObject LAZY_TIMED = getJavaFileObject("definitions/lazy/LazyTimed.java");
+    private static final String PACKAGE_NAME = "io.jd.framework.definitions";
+
+    @Test
+    void shouldGenerateProxyDelegatingInterfaceMethodsToLazilyCreatedTarget() {
+        Compilation compilation = javac.compile(GREETER, LAZY_A);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile("%s.$LazyA$Definition".formatted(PACKAGE_NAME));
+        assertThat(compilation).generatedSourceFile("%s.LazyA$Lazy".formatted(PACKAGE_NAME))
+                .contentsAsUtf8String()
+                .contains("final class LazyA$Lazy implements Greeter<String>, Comparable<LazyA>, LazyProxy<LazyA>");
+        assertThat(compilation).generatedSourceFile("%s.LazyA$Lazy".formatted(PACKAGE_NAME))
+                .contentsAsUtf8String()
+                .contains("return target$().greetAll(whom);");
+        assertThat(compilation).generatedSourceFile("%s.$LazyA$Lazy$Definition".formatted(PACKAGE_NAME))
+                .contentsAsUtf8String()
+                .contains("return Optional.of(LazyA.class);");
+        assertThat(compilation).generatedSourceFile("%s.$LazyA$Lazy$Definition".formatted(PACKAGE_NAME))
+                .contentsAsUtf8String()
+                .contains("ScopeProvider.prototypeScope(this)");
+    }
+
+    @Test
+    void shouldFailForLazyBeanWithoutInterface() {
+        Compilation compilation = javac.compile(LAZY_WITHOUT_INTERFACE);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("lazy bean has to implement an interface to be proxied");
+    }
+
+    @Test
+    void shouldFailForLazyPooledBean() {
+        Compilation compilation = javac.compile(LAZY_POOLED);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("pooled bean cannot be lazy");
+    }
+
+    @Test
+    void shouldFailForLazyTypeWhichIsNotBean() {
+        Compilation compilation = javac.compile(LAZY_NOT_BEAN);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("lazy type is not a bean");
+    }
+
+    @Test
+    void shouldFailForLazyBeanWithInterceptedMethods() {
+        Compilation compilation = javac.compile(LAZY_TIMED);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("lazy bean cannot declare methods annotated with @Timed");
+    }
+}
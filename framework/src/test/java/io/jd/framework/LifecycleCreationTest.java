@@ -0,0 +1,51 @@
+package io.jd.framework;
+
+import com.google.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static io.jd.framework.TestUtil.getJavaFileObject;
+
+public class LifecycleCreationTest extends AbstractAnnotationProcessorTest {
+    private static final JavaFileObject MANAGED = getJavaFileObject("definitions/lifecycle/Managed.java");
+    private static final JavaFileObject MANAGED_BASE = getJavaFileObject("definitions/lifecycle/ManagedBase.java");
+    private static final JavaFileObject INVALID_CALLBACK = getJavaFileObject("definitions/lifecycle/InvalidCallback.java");
+    private static final String DEFINITION_NAME = "io.jd.framework.definitions.$Managed$Definition";
+
+    @Test
+    void shouldCallPostConstructMethodsOfSuperclassesFirst() {
+        Compilation compilation = javac.compile(MANAGED, MANAGED_BASE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(DEFINITION_NAME)
+                .contentsAsUtf8String()
+                .contains("return postConstruct(new Managed());");
+        assertThat(compilation).generatedSourceFile(DEFINITION_NAME)
+                .contentsAsUtf8String()
+                .contains("instance.initBase();\n    instance.init();\n    return instance;");
+    }
+
+    @Test
+    void shouldWriteDestructionAndWarmupOfDefinition() {
+        Compilation compilation = javac.compile(MANAGED, MANAGED_BASE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(DEFINITION_NAME)
+                .contentsAsUtf8String()
+                .contains("public void destroy(Managed instance) {\n    instance.close();");
+        assertThat(compilation).generatedSourceFile(DEFINITION_NAME)
+                .contentsAsUtf8String()
+                .contains("new WarmupRoutine(\"io.jd.framework.definitions.Managed#warmup\", 1000, 50L, instance::warmup)");
+    }
+
+    @Test
+    void shouldFailForInvalidLifecycleMethods() {
+        Compilation compilation = javac.compile(INVALID_CALLBACK);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("private method cannot be a lifecycle method");
+        assertThat(compilation).hadErrorContaining("lifecycle method cannot take parameters");
+    }
+}
@@ -0,0 +1,160 @@
+package io.jd.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelInitializerTest {
+
+    @Test
+    void shouldCreateIndependentBeansConcurrently() {
+        var bothStarted = new CountDownLatch(2);
+        var threads = ConcurrentHashMap.<Thread>newKeySet();
+        var first = new TestDefinition<>(First.class, List.of(), () -> {
+            threads.add(Thread.currentThread());
+            awaitOther(bothStarted);
+            return new First();
+        });
+        var second = new TestDefinition<>(Second.class, List.of(), () -> {
+            threads.add(Thread.currentThread());
+            awaitOther(bothStarted);
+            return new Second();
+        });
+        var definitions = List.of(first, second);
+
+        new ParallelInitializer(new BaseBeanProvider(definitions), 2).initialize();
+
+        assertEquals(2, threads.size());
+        assertTrue(first.created() && second.created());
+    }
+
+    @Test
+    void shouldCreateDependenciesBeforeDependentBeans() {
+        var created = new ConcurrentHashMap<Class<?>, Long>();
+        var first = new TestDefinition<>(First.class, List.of(), () -> {
+            created.put(First.class, System.nanoTime());
+            return new First();
+        });
+        var second = new TestDefinition<>(Second.class, List.of(First.class), () -> {
+            created.put(Second.class, System.nanoTime());
+            return new Second();
+        });
+        var definitions = List.of(second, first);
+
+        new ParallelInitializer(new BaseBeanProvider(definitions), 4).initialize();
+
+        assertTrue(created.get(First.class) < created.get(Second.class));
+    }
+
+    @Test
+    void shouldFailFastOnDependencyCycle() {
+        var first = new TestDefinition<>(First.class, List.of(Second.class), First::new);
+        var second = new TestDefinition<>(Second.class, List.of(First.class), Second::new);
+        var definitions = List.of(first, second);
+
+        var exception = assertThrows(IllegalStateException.class,
+                () -> new ParallelInitializer(new BaseBeanProvider(definitions), 2).initialize());
+
+        assertTrue(exception.getMessage().startsWith("Dependency cycle detected"));
+        assertFalse(first.created() || second.created());
+    }
+
+    @Test
+    void shouldPropagateFailureOfBeanCreation() {
+        var failing = new TestDefinition<First>(First.class, List.of(), () -> {
+            throw new IllegalArgumentException("expected");
+        });
+        List<BeanDefinition<?>> definitions = List.of(failing);
+
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new ParallelInitializer(new BaseBeanProvider(definitions), 2).initialize());
+
+        assertEquals("expected", exception.getMessage());
+    }
+
+    @Test
+    void shouldNotCreateSupersededBeans() {
+        var base = new TestDefinition<>(First.class, List.of(), First::new);
+        var intercepting = new TestDefinition<>(InterceptedFirst.class, List.of(), InterceptedFirst::new) {
+            @Override
+            public Optional<Class<?>> supersedes() {
+                return Optional.of(First.class);
+            }
+        };
+        var dependent = new TestDefinition<>(Second.class, List.of(First.class), Second::new);
+        var beanProvider = new BaseBeanProvider(List.of(base, intercepting, dependent));
+
+        new ParallelInitializer(beanProvider, 2).initialize();
+
+        assertFalse(base.created());
+        assertTrue(intercepting.created() && dependent.created());
+        assertInstanceOf(InterceptedFirst.class, beanProvider.provide(First.class));
+        assertEquals(2, beanProvider.provideAll(Object.class).size());
+        assertFalse(base.created());
+    }
+
+    private static void awaitOther(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Beans were not created concurrently");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class First {
+    }
+
+    static class Second {
+    }
+
+    static class InterceptedFirst extends First {
+    }
+
+    interface Creator<T> {
+        T create();
+    }
+
+    static class TestDefinition<T> implements BeanDefinition<T> {
+        private final Class<T> type;
+        private final List<Class<?>> dependencies;
+        private final ScopeProvider<T> provider;
+        private final Set<Object> instances = ConcurrentHashMap.newKeySet();
+
+        TestDefinition(Class<T> type, List<Class<?>> dependencies, Creator<T> creator) {
+            this.type = type;
+            this.dependencies = dependencies;
+            this.provider = ScopeProvider.singletonScope(beanProvider -> {
+                var instance = creator.create();
+                instances.add(instance);
+                return instance;
+            });
+        }
+
+        boolean created() {
+            return !instances.isEmpty();
+        }
+
+        @Override
+        public T create(BeanProvider beanProvider) {
+            return provider.apply(beanProvider);
+        }
+
+        @Override
+        public Class<T> type() {
+            return type;
+        }
+
+        @Override
+        public List<Class<?>> dependencies() {
+            return dependencies;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.jd.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScopeProviderTest {
+    private static final int THREADS = 16;
+
+    @Test
+    void shouldCreateSingletonOnlyOnceUnderConcurrentFirstAccess() throws Exception {
+        var instantiations = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        ScopeProvider<Object> scope = ScopeProvider.singletonScope(beanProvider -> {
+            instantiations.incrementAndGet();
+            sleep();
+            return new Object();
+        });
+
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Object>> results = IntStream.range(0, THREADS)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return scope.apply(null);
+                    }))
+                    .toList();
+            start.countDown();
+
+            var first = results.get(0).get();
+            for (Future<Object> result : results) {
+                assertSame(first, result.get());
+            }
+            assertEquals(1, instantiations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCreateNewInstanceForEveryPrototypeRequest() {
+        ScopeProvider<Object> scope = ScopeProvider.prototypeScope(beanProvider -> new Object());
+
+        assertNotSame(scope.apply(null), scope.apply(null));
+    }
+
+    @Test
+    void shouldKeepOneInstancePerThreadInThreadScope() throws Exception {
+        ScopeProvider<Object> scope = ScopeProvider.threadScope(beanProvider -> new Object());
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var local = scope.apply(null);
+            var other = executor.submit(() -> scope.apply(null)).get();
+
+            assertSame(local, scope.apply(null));
+            assertSame(other, executor.submit(() -> scope.apply(null)).get());
+            assertNotSame(local, other);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReuseReleasedInstances() {
+        var instantiations = new AtomicInteger();
+        ScopeProvider<Object> scope = ScopeProvider.pooledScope(beanProvider -> {
+            instantiations.incrementAndGet();
+            return new Object();
+        }, 2);
+
+        var first = scope.apply(null);
+        var second = scope.apply(null);
+        scope.release(first);
+
+        assertNotSame(first, second);
+        assertSame(first, scope.apply(null));
+        assertEquals(2, instantiations.get());
+    }
+
+    @Test
+    void shouldWaitForReleaseWhenAllPooledInstancesAreBorrowed() throws Exception {
+        ScopeProvider<Object> scope = ScopeProvider.pooledScope(beanProvider -> new Object(), 1);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var borrowed = scope.apply(null);
+            var waiting = executor.submit(() -> scope.apply(null));
+
+            assertThrows(TimeoutException.class, () -> waiting.get(50, TimeUnit.MILLISECONDS));
+            scope.release(borrowed);
+
+            assertSame(borrowed, waiting.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectReleaseOfInstanceWhichIsNotBorrowed() {
+        ScopeProvider<Object> scope = ScopeProvider.pooledScope(beanProvider -> new Object(), 2);
+        var borrowed = scope.apply(null);
+        scope.release(borrowed);
+
+        assertThrows(IllegalArgumentException.class, () -> scope.release(borrowed));
+        assertThrows(IllegalArgumentException.class, () -> scope.release(new Object()));
+    }
+
+    @Test
+    void shouldFailTimedBorrowWhenNoInstanceIsReleased() {
+        ScopeProvider<Object> scope = ScopeProvider.pooledScope(beanProvider -> new Object(), 1);
+        var borrowed = scope.apply(null);
+
+        assertThrows(IllegalStateException.class, () -> scope.apply(null, Duration.ofMillis(20)));
+        scope.release(borrowed);
+        assertSame(borrowed, scope.apply(null, Duration.ofMillis(20)));
+    }
+
+    @Test
+    void shouldKeepAllPermitsUnderConcurrentBorrowsAndReleases() throws Exception {
+        var size = 4;
+        ScopeProvider<Object> scope = ScopeProvider.pooledScope(beanProvider -> new Object(), size);
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = IntStream.range(0, THREADS)
+                    .<Future<?>>mapToObj(ignored -> executor.submit(() -> {
+                        for (int i = 0; i < 10_000; i++) {
+                            scope.release(scope.apply(null, Duration.ofSeconds(5)));
+                        }
+                    }))
+                    .toList();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var borrowed = IntStream.range(0, size).mapToObj(ignored -> scope.apply(null, Duration.ofMillis(20))).toList();
+        assertEquals(size, borrowed.stream().distinct().count());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
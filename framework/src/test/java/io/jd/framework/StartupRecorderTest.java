@@ -0,0 +1,79 @@
+package io.jd.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupRecorderTest {
+    private final StartupRecorder recorder = new StartupRecorder();
+
+    @Test
+    void shouldSplitOwnTimeFromTimeSpentInDependencies() {
+        var outer = recorder.enter();
+        var inner = recorder.enter();
+        sleep(20);
+        recorder.exit(inner, new Leaf());
+        sleep(20);
+        recorder.exit(outer, new Root());
+
+        var creations = recorder.report().creations();
+
+        assertEquals(List.of(Leaf.class, Root.class), creations.stream().map(BeanCreation::type).toList());
+        var leaf = creations.get(0);
+        var root = creations.get(1);
+        assertEquals(leaf.totalNanos(), root.dependencyNanos());
+        assertTrue(root.ownNanos() >= 20_000_000);
+        assertEquals(Thread.currentThread().getName(), root.thread());
+    }
+
+    @Test
+    void shouldFindCriticalPathThroughDependencies() {
+        record(Leaf.class, 30);
+        record(Middle.class, 1);
+        record(Root.class, 1);
+        record(Sibling.class, 20);
+        recorder.dependencies(Root.class, List.of(Middle.class, Sibling.class));
+        recorder.dependencies(Middle.class, List.of(Leaf.class));
+
+        var report = recorder.report();
+
+        assertEquals(List.of(Leaf.class, Middle.class, Root.class), report.criticalPath().stream().map(BeanCreation::type).toList());
+        assertTrue(report.toJson().contains("\"beans\": [\"%s\", \"%s\", \"%s\"]".formatted(Leaf.class.getName(), Middle.class.getName(), Root.class.getName())));
+    }
+
+    private void record(Class<?> type, long millis) {
+        var frame = recorder.enter();
+        sleep(millis);
+        recorder.exit(frame, newInstance(type));
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class Leaf {
+    }
+
+    static class Middle {
+    }
+
+    static class Root {
+    }
+
+    static class Sibling {
+    }
+}
@@ -0,0 +1,58 @@
+package io.jd.framework;
+
+import com.google.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static io.jd.framework.TestUtil.getJavaFileObject;
+
+public class TimedCreationTest extends AbstractAnnotationProcessorTest {
+    private static final JavaFileObject TIMED_SERVICE = getJavaFileObject("definitions/metrics/TimedService.java");
+    private static final JavaFileObject OVERLOADED_TIMED = getJavaFileObject("definitions/metrics/OverloadedTimed.java");
+    private static final JavaFileObject STATIC_TIMED = getJavaFileObject("definitions/metrics/StaticTimed.java");
+    private static final String INTERCEPTED_NAME = "io.jd.framework.definitions.TimedService$Intercepted";
+
+    @Test
+    void shouldRecordLatencyOfTimedMethods() {
+        Compilation compilation = javac.compile(TIMED_SERVICE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("private final LatencyHistogram latency$TimedService_process = new LatencyHistogram(\"TimedService.process\");");
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("var $start = System.nanoTime();\n    try {\n      super.process(input);\n    } finally {\n      latency$TimedService_process.record(System.nanoTime() - $start);");
+    }
+
+    @Test
+    void shouldTimeAroundCachingAndTransactions() {
+        Compilation compilation = javac.compile(TIMED_SERVICE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("String lookup$1(int id) {\n    var $key = id;");
+        assertThat(compilation).generatedSourceFile(INTERCEPTED_NAME)
+                .contentsAsUtf8String()
+                .contains("return lookup$1(id);");
+    }
+
+    @Test
+    void shouldFailOnUnnamedOverloads() {
+        Compilation compilation = javac.compile(OVERLOADED_TIMED);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("timed method name OverloadedTimed.process is not unique, overloads have to be named");
+    }
+
+    @Test
+    void shouldFailOnStaticTimedMethod() {
+        Compilation compilation = javac.compile(STATIC_TIMED);
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("static method annotated as timed");
+    }
+}
@@ -14,6 +14,7 @@ public class TransactionalCreationTest extends AbstractAnnotationProcessorTest {
     private static final JavaFileObject FINAL_CLASS_TRANSACTIONAL_TEST = getJavaFileObject("definitions/transactional/FinalA.java");
     private static final JavaFileObject FINAL_METHOD_TRANSACTIONAL_TEST = getJavaFileObject("definitions/transactional/FinalMethodA.java");
     private static final JavaFileObject STATIC_TRANSACTIONAL_TEST = getJavaFileObject("definitions/transactional/StaticA.java");
+    private static final JavaFileObject GROUP_COMMIT_CASE = getJavaFileObject("definitions/transactional/GroupCommitA.java");
     private static final String PACKAGE_NAME = "io.jd.framework.definitions";
 
     @Test
@@ -26,6 +27,30 @@ public class TransactionalCreationTest extends AbstractAnnotationProcessorTest {
         assertThat(compilation).generatedSourceFile("%s.$A$Intercepted$Definition".formatted(PACKAGE_NAME));
     }
 
+    @Test
+    void shouldCommitThroughGroupCommitterWhenOptedIn() {
+        Compilation compilation = javac.compile(GROUP_COMMIT_CASE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile("%s.GroupCommitA$Intercepted".formatted(PACKAGE_NAME))
+                .contentsAsUtf8String()
+                .contains("private final GroupCommitter groupCommitter$save = GroupCommitter.of(\"GroupCommitA.save\", 16, 100L);");
+        assertThat(compilation).generatedSourceFile("%s.GroupCommitA$Intercepted".formatted(PACKAGE_NAME))
+                .contentsAsUtf8String()
+                .contains("groupCommitter$save.commit(transactionManager);\n    }\n    catch (GroupCommitFailedException e) {\n      throw e;");
+        assertThat(compilation).generatedSourceFile("%s.GroupCommitA$Intercepted".formatted(PACKAGE_NAME))
+                .contentsAsUtf8String()
+                .contains("var readReturnValue = (int) super.read();\n      transactionManager.commit();");
+    }
+
+    @Test
+    void shouldLeaveSupersededDefinitionOutOfIndexWhenPruning() {
+        Compilation compilation = javac.withOptions("-Aio.jd.framework.roots=%s.A".formatted(PACKAGE_NAME)).compile(VALID_TRANSACTIONAL_CASE);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).hadNoteContaining("Definitions unreachable from roots left out of the index: %s.$A$Definition".formatted(PACKAGE_NAME));
+    }
+
     @Test
     void shouldFailOnPrivateMethodAnnotatedAsTransactional() {
         Compilation compilation = javac.compile(PRIVATE_TRANSACTIONAL_METHOD_CASE);
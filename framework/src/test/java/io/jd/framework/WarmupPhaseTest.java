@@ -0,0 +1,44 @@
+package io.jd.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmupPhaseTest {
+
+    @Test
+    void shouldRunRoutineForDeclaredIterations() {
+        var calls = new AtomicInteger();
+
+        var results = new WarmupPhase(List.of(new WarmupRoutine("counted", 5, 0, calls::incrementAndGet))).run();
+
+        assertEquals(5, calls.get());
+        assertEquals(List.of("counted"), results.stream().map(WarmupPhase.Result::routine).toList());
+        assertEquals(5, results.get(0).iterations());
+    }
+
+    @Test
+    void shouldRunTimedRoutineUntilItsTimeElapses() {
+        var calls = new AtomicInteger();
+
+        var result = new WarmupPhase(List.of(new WarmupRoutine("timed", 1, 20, calls::incrementAndGet))).run().get(0);
+
+        assertTrue(result.nanos() >= 20_000_000);
+        assertEquals(calls.get(), result.iterations());
+    }
+
+    @Test
+    void shouldFailWhenRoutineFails() {
+        var routine = new WarmupRoutine("failing", 3, 0, () -> {
+            throw new Exception("cold");
+        });
+
+        var exception = assertThrows(IllegalStateException.class, () -> new WarmupPhase(List.of(routine)).parallelism(2).run());
+
+        assertEquals("Warmup routine failing failed after 0 iterations", exception.getMessage());
+        assertEquals("cold", exception.getCause().getMessage());
+    }
+}
@@ -0,0 +1,62 @@
+package io.jd.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WindowCoalescerTest {
+
+    private final List<List<Integer>> dispatched = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldDispatchFullGroupOnceWithoutWaitingForWindow() throws Exception {
+        var coalescer = WindowCoalescer.<List<Integer>>of(3, TimeUnit.SECONDS.toMicros(30), ArrayList::new, List::size, dispatched::add);
+        var pool = Executors.newFixedThreadPool(3);
+        try {
+            var groups = new ArrayList<Future<List<Integer>>>();
+            for (int member = 0; member < 3; member++) {
+                var joining = member;
+                groups.add(pool.submit(() -> coalescer.join(group -> {
+                    group.add(joining);
+                    return group;
+                })));
+            }
+
+            for (Future<List<Integer>> group : groups) {
+                assertSame(groups.get(0).get(5, TimeUnit.SECONDS), group.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, dispatched.size());
+        assertEquals(Map.of(3, 1L), coalescer.groupSizes());
+    }
+
+    @Test
+    void shouldDispatchLoneCallerOnceWindowElapses() {
+        var coalescer = WindowCoalescer.<List<Integer>>of(3, 1000, ArrayList::new, List::size, dispatched::add);
+
+        var size = coalescer.join(group -> {
+            group.add(1);
+            return group.size();
+        });
+
+        assertEquals(1, size);
+        assertEquals(List.of(List.of(1)), dispatched);
+        assertEquals(Map.of(1, 1L), coalescer.groupSizes());
+    }
+
+    @Test
+    void shouldRejectEmptyGroups() {
+        assertThrows(IllegalArgumentException.class, () -> WindowCoalescer.<List<Integer>>of(0, 0, ArrayList::new, List::size, dispatched::add));
+    }
+}
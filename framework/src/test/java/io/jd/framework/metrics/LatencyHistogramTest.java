@@ -0,0 +1,124 @@
+package io.jd.framework.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldPlaceEveryValueInBucketWithinRelativePrecision() {
+        var values = LongStream.concat(LongStream.range(0, 100_000), LongStream.range(7, 36).map(shift -> (1L << shift) + 12345));
+
+        values.forEach(value -> {
+            var index = LatencyHistogram.index(value);
+            var lowest = LatencyHistogram.lowestValue(index);
+            var width = LatencyHistogram.width(index);
+            assertTrue(lowest <= value && value < lowest + width, "value %d outside of bucket %d".formatted(value, index));
+            assertTrue(width == 1 || width * 32 <= lowest, "bucket %d too wide for its values".formatted(index));
+        });
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.index(LatencyHistogram.HIGHEST_TRACKABLE_NANOS));
+    }
+
+    @Test
+    void shouldReadPercentilesWithinTwoPercent() {
+        var histogram = new LatencyHistogram("uniform");
+        for (long nanos = 1; nanos <= 1_000_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        var snapshot = histogram.snapshot();
+
+        assertEquals(1_000_000, snapshot.count());
+        assertEquals(500_000.5, snapshot.meanNanos());
+        assertEquals(500_000, snapshot.p50(), 10_000);
+        assertEquals(990_000, snapshot.p99(), 19_800);
+        assertEquals(999_000, snapshot.p999(), 19_980);
+        assertEquals(1_000_000, snapshot.maxNanos(), 20_000);
+    }
+
+    @Test
+    void shouldClampValuesOutsideOfTrackableRange() {
+        var histogram = new LatencyHistogram("clamped");
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        var snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.count());
+        assertEquals(0, snapshot.percentileNanos(0));
+        assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_NANOS, snapshot.maxNanos());
+    }
+
+    @Test
+    void shouldReadEmptyHistogram() {
+        var snapshot = new LatencyHistogram("empty").snapshot();
+
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.p999());
+        assertEquals(0, snapshot.maxNanos());
+    }
+
+    @Test
+    void shouldRoundStripesToPowerOfTwo() {
+        assertEquals(1, new LatencyHistogram("single", 1).stripes());
+        assertEquals(8, new LatencyHistogram("eight", 5).stripes());
+        assertEquals(16, new LatencyHistogram("capped", 1000).stripes());
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram("none", 0));
+    }
+
+    @Test
+    void shouldCountEveryCallRecordedConcurrently() throws InterruptedException {
+        var histogram = new LatencyHistogram("concurrent", 4);
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int thread = 0; thread < 32; thread++) {
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int call = 0; call < 10_000; call++) {
+                    histogram.record(100);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        var snapshot = histogram.snapshot();
+        assertEquals(320_000, snapshot.count());
+        assertEquals(100, snapshot.meanNanos());
+    }
+
+    @Test
+    void shouldNotAllocateWhenRecording() {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var histogram = new LatencyHistogram("allocation-free");
+        var threadId = Thread.currentThread().getId();
+        histogram.record(1);
+        threadBean.getThreadAllocatedBytes(threadId);
+
+        var before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int call = 0; call < 100_000; call++) {
+            histogram.record(call);
+        }
+        var allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < 1024, "recording allocated %d bytes".formatted(allocated));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
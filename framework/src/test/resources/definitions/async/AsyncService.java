@@ -0,0 +1,27 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.async.Async;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+@Singleton
+public class AsyncService {
+
+    @Async
+    void notify(String message) {
+    }
+
+    @Async
+    CompletableFuture<String> find(int id) {
+        return CompletableFuture.completedFuture("found");
+    }
+
+    @Async
+    @Transactional
+    CompletionStage<Integer> count() {
+        return CompletableFuture.completedFuture(1);
+    }
+}
@@ -0,0 +1,13 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.async.Async;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class BlockingAsync {
+
+    @Async
+    String find(int id) {
+        return "found";
+    }
+}
@@ -0,0 +1,14 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.async.Async;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+
+@Singleton
+public class CheckedAsync {
+
+    @Async
+    public void send(String message) throws IOException {
+    }
+}
@@ -0,0 +1,24 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.batch.Batched;
+import io.jd.framework.cache.Cacheable;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Singleton
+public class EventStore {
+
+    @Cacheable("events")
+    @Batched(value = "findEvents", maxBatchSize = 50, windowMicros = 200)
+    String findEvent(Integer id) {
+        return null;
+    }
+
+    @Transactional
+    Map<Integer, String> findEvents(Collection<Integer> ids) {
+        return Map.of();
+    }
+}
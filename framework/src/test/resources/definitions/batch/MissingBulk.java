@@ -0,0 +1,20 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.batch.Batched;
+import jakarta.inject.Singleton;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Singleton
+public class MissingBulk {
+
+    @Batched("findEvents")
+    String findEvent(Integer id) {
+        return null;
+    }
+
+    Map<Integer, Integer> findEvents(Collection<Integer> ids) {
+        return Map.of();
+    }
+}
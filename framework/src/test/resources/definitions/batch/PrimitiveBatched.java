@@ -0,0 +1,20 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.batch.Batched;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Map;
+
+@Singleton
+public class PrimitiveBatched {
+
+    @Batched("counts")
+    int count(Integer id) {
+        return 0;
+    }
+
+    Map<Integer, Integer> counts(List<Integer> ids) {
+        return Map.of();
+    }
+}
@@ -0,0 +1,22 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.batch.Batched;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Singleton
+public class TransactionalBatched {
+
+    @Transactional
+    @Batched("findEvents")
+    String findEvent(Integer id) {
+        return null;
+    }
+
+    Map<Integer, String> findEvents(List<Integer> ids) {
+        return Map.of();
+    }
+}
@@ -0,0 +1,36 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.cache.CacheEvict;
+import io.jd.framework.cache.Cacheable;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+@Singleton
+public class CachedRepository {
+
+    @Cacheable(value = "names", maximumSize = 100)
+    String name(int id) {
+        return "name" + id;
+    }
+
+    @Transactional
+    @Cacheable(value = "totals", expireAfterWriteMillis = 1000)
+    long total(String first, String second) {
+        return 1;
+    }
+
+    @Cacheable("all")
+    <T> T all() {
+        return null;
+    }
+
+    @Transactional
+    @CacheEvict("names")
+    void rename(int id) {
+    }
+
+    @CacheEvict(value = "totals", allEntries = true)
+    int clear() {
+        return 0;
+    }
+}
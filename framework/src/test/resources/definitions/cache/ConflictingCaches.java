@@ -0,0 +1,18 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.cache.Cacheable;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class ConflictingCaches {
+
+    @Cacheable(value = "names", maximumSize = 10)
+    String name(int id) {
+        return "name";
+    }
+
+    @Cacheable(value = "names", maximumSize = 20)
+    String otherName(int id) {
+        return "name";
+    }
+}
@@ -0,0 +1,12 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.cache.CacheEvict;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class EvictOnlyWriter {
+
+    @CacheEvict("names")
+    void rename(int id, String name) {
+    }
+}
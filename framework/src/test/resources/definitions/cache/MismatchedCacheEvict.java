@@ -0,0 +1,18 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.cache.CacheEvict;
+import io.jd.framework.cache.Cacheable;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class MismatchedCacheEvict {
+
+    @Cacheable("names")
+    String name(int id) {
+        return "name";
+    }
+
+    @CacheEvict("names")
+    void rename(String name, int id) {
+    }
+}
@@ -0,0 +1,18 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.cache.Cacheable;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class MixedTypeCache {
+
+    @Cacheable("byId")
+    String name(Long id) {
+        return "name";
+    }
+
+    @Cacheable("byId")
+    Integer age(Long id) {
+        return 42;
+    }
+}
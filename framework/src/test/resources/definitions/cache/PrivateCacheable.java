@@ -0,0 +1,13 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.cache.Cacheable;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class PrivateCacheable {
+
+    @Cacheable("names")
+    private String name(int id) {
+        return "name";
+    }
+}
@@ -0,0 +1,18 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.cache.CacheEvict;
+import io.jd.framework.cache.Cacheable;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class UnknownCacheEvict {
+
+    @Cacheable("names")
+    String name(int id) {
+        return "name";
+    }
+
+    @CacheEvict("ids")
+    void rename(int id) {
+    }
+}
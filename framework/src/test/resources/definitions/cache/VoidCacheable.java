@@ -0,0 +1,12 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.cache.Cacheable;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class VoidCacheable {
+
+    @Cacheable("names")
+    void name(int id) {
+    }
+}
@@ -0,0 +1,7 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.ApplicationComponent;
+
+@ApplicationComponent
+public class App {
+}
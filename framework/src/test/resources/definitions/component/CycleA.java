@@ -0,0 +1,12 @@
+package io.jd.framework.definitions;
+
+import jakarta.inject.Singleton;
+
+@Singleton
+public class CycleA {
+    private final CycleB cycleB;
+
+    public CycleA(CycleB cycleB) {
+        this.cycleB = cycleB;
+    }
+}
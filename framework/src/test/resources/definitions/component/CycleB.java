@@ -0,0 +1,12 @@
+package io.jd.framework.definitions;
+
+import jakarta.inject.Singleton;
+
+@Singleton
+public class CycleB {
+    private final CycleA cycleA;
+
+    public CycleB(CycleA cycleA) {
+        this.cycleA = cycleA;
+    }
+}
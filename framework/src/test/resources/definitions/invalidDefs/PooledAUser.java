@@ -0,0 +1,12 @@
+package io.jd.framework.definitions;
+
+import jakarta.inject.Singleton;
+
+@Singleton
+public class PooledAUser {
+    private final PooledA pooled;
+
+    public PooledAUser(PooledA pooled) {
+        this.pooled = pooled;
+    }
+}
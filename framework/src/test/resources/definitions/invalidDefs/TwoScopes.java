@@ -0,0 +1,9 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.Prototype;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Prototype
+public class TwoScopes {
+}
@@ -0,0 +1,16 @@
+package io.jd.framework.definitions;
+
+import java.util.List;
+
+public interface Greeter<T> {
+    String greet(T who);
+
+    <R extends List<T>> R greetAll(R whom) throws Exception;
+
+    default void greetNobody() {
+    }
+
+    static String name() {
+        return "greeter";
+    }
+}
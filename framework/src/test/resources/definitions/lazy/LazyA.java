@@ -0,0 +1,26 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.Lazy;
+import io.jd.framework.Prototype;
+
+import java.util.List;
+
+@Lazy
+@Prototype
+public class LazyA implements Greeter<String>, Comparable<LazyA> {
+
+    @Override
+    public String greet(String who) {
+        return who;
+    }
+
+    @Override
+    public <R extends List<String>> R greetAll(R whom) {
+        return whom;
+    }
+
+    @Override
+    public int compareTo(LazyA other) {
+        return 0;
+    }
+}
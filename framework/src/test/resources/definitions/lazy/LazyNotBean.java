@@ -0,0 +1,11 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.Lazy;
+
+@Lazy
+public class LazyNotBean implements Runnable {
+
+    @Override
+    public void run() {
+    }
+}
@@ -0,0 +1,13 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.Lazy;
+import io.jd.framework.Pooled;
+
+@Lazy
+@Pooled
+public class LazyPooled implements Runnable {
+
+    @Override
+    public void run() {
+    }
+}
@@ -0,0 +1,15 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.Lazy;
+import io.jd.framework.metrics.Timed;
+import jakarta.inject.Singleton;
+
+@Lazy
+@Singleton
+public class LazyTimed implements Runnable {
+
+    @Timed
+    @Override
+    public void run() {
+    }
+}
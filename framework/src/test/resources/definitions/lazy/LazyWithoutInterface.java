@@ -0,0 +1,9 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.Lazy;
+import jakarta.inject.Singleton;
+
+@Lazy
+@Singleton
+public class LazyWithoutInterface {
+}
@@ -0,0 +1,17 @@
+package io.jd.framework.definitions;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class InvalidCallback {
+
+    @PostConstruct
+    private void init() {
+    }
+
+    @PreDestroy
+    void close(String reason) {
+    }
+}
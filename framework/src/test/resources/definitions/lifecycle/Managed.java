@@ -0,0 +1,22 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.Warmup;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class Managed extends ManagedBase {
+
+    @PostConstruct
+    void init() {
+    }
+
+    @PreDestroy
+    void close() {
+    }
+
+    @Warmup(millis = 50)
+    void warmup() throws Exception {
+    }
+}
@@ -0,0 +1,10 @@
+package io.jd.framework.definitions;
+
+import jakarta.annotation.PostConstruct;
+
+public abstract class ManagedBase {
+
+    @PostConstruct
+    void initBase() {
+    }
+}
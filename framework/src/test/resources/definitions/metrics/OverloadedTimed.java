@@ -0,0 +1,16 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.metrics.Timed;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class OverloadedTimed {
+
+    @Timed
+    void process(String input) {
+    }
+
+    @Timed
+    void process(int input) {
+    }
+}
@@ -0,0 +1,12 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.metrics.Timed;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class StaticTimed {
+
+    @Timed
+    static void process() {
+    }
+}
@@ -0,0 +1,26 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.cache.Cacheable;
+import io.jd.framework.metrics.Timed;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+@Singleton
+public class TimedService {
+
+    @Timed
+    void process(String input) {
+    }
+
+    @Timed("lookups")
+    @Transactional
+    @Cacheable("lookups")
+    String lookup(int id) {
+        return "value";
+    }
+
+    @Timed
+    <T> T generic() {
+        return null;
+    }
+}
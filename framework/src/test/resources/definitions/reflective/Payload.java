@@ -0,0 +1,7 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.Reflective;
+
+@Reflective
+public record Payload(String value) {
+}
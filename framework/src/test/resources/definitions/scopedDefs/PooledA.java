@@ -0,0 +1,7 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.Pooled;
+
+@Pooled(size = 4)
+public class PooledA {
+}
@@ -0,0 +1,17 @@
+package io.jd.framework.definitions;
+
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import java.util.Collection;
+
+@Singleton
+public class D {
+    private final Provider<A> a;
+    private final Provider<Collection<B>> bs;
+
+    public D(Provider<A> a, Provider<Collection<B>> bs) {
+        this.a = a;
+        this.bs = bs;
+    }
+}
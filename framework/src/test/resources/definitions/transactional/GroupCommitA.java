@@ -0,0 +1,25 @@
+package io.jd.framework.definitions;
+
+import io.jd.framework.transactional.GroupCommit;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+@Singleton
+public class GroupCommitA {
+
+    @Transactional
+    @GroupCommit(maxGroupSize = 16, windowMicros = 100)
+    void save() {
+    }
+
+    @Transactional
+    @GroupCommit
+    int saveAndCount() {
+        return 1;
+    }
+
+    @Transactional
+    int read() {
+        return 1;
+    }
+}
@@ -1,5 +1,6 @@
 package io.jd.framework.tests;
 
+import io.jd.framework.WarmupPhase;
 import io.jd.framework.webapp.RequestHandler;
 import jakarta.inject.Singleton;
 import org.eclipse.jetty.server.Server;
@@ -7,6 +8,7 @@ import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.handler.HandlerCollection;
 
 import java.util.Collection;
+import java.util.List;
 
 @Singleton
 public class ServerContainer {
@@ -26,6 +28,13 @@ public class ServerContainer {
         server.start();
     }
 
+    public synchronized List<WarmupPhase.Result> start(WarmupPhase warmupPhase) throws Exception {
+        // the connector is opened only after the routines finished, so no request meets code that is still interpreted
+        var results = warmupPhase.run();
+        start();
+        return results;
+    }
+
     private void createServerInstance() {
         server = new Server();
         var connector = new ServerConnector(server);
@@ -37,6 +46,10 @@ public class ServerContainer {
         return server.getURI().getPort();
     }
 
+    public boolean isRunning() {
+        return server != null && server.isRunning();
+    }
+
     public void stop() throws Exception {
         server.stop();
     }
@@ -10,6 +10,10 @@ public record SimpleRequest(String body) implements Request {
             List.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH);
 
     static SimpleRequest of(HttpMethod method, String body) {
-        return HTTP_METHOD_WITH_BODY.contains(method) ? new SimpleRequest(body) : new SimpleRequest(null);
+        return hasBody(method) ? new SimpleRequest(body) : new SimpleRequest(null);
+    }
+
+    static boolean hasBody(HttpMethod method) {
+        return HTTP_METHOD_WITH_BODY.contains(method);
     }
 }
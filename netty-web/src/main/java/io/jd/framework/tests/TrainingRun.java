@@ -0,0 +1,74 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProvider;
+import io.jd.framework.webapp.HttpMethod;
+import io.jd.framework.webapp.RequestHandler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class TrainingRun {
+    public static final String ENABLED_PROPERTY = "io.jd.framework.training";
+    private static final String DEFAULT_BODY = "{}";
+
+    private final ServerContainer container;
+    private final Collection<RequestHandler> handlers;
+    private final Map<String, String> bodies = new HashMap<>();
+
+    public TrainingRun(ServerContainer container, Collection<RequestHandler> handlers) {
+        this.container = container;
+        this.handlers = handlers;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    public static TrainingRun of(BeanProvider beanProvider) {
+        return new TrainingRun(beanProvider.provide(ServerContainer.class), beanProvider.provideAll(RequestHandler.class));
+    }
+
+    public TrainingRun withBody(String path, String body) {
+        bodies.put(path, body);
+        return this;
+    }
+
+    public List<Call> run() throws Exception {
+        // every route is called once, so classes of request handling are loaded before the JVM exits and dumps its archive
+        container.start();
+        try {
+            var client = HttpClient.newHttpClient();
+            var calls = new ArrayList<Call>();
+            for (RequestHandler handler : handlers) {
+                calls.add(call(client, handler));
+            }
+            return calls;
+        } finally {
+            container.stop();
+        }
+    }
+
+    private Call call(HttpClient client, RequestHandler handler) throws IOException, InterruptedException {
+        var body = SimpleRequest.hasBody(handler.method())
+                ? BodyPublishers.ofString(bodies.getOrDefault(handler.path(), DEFAULT_BODY))
+                : BodyPublishers.noBody();
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:%s%s".formatted(container.port(), handler.path())))
+                .header("Accept", handler.produce())
+                .method(handler.method().name(), body)
+                .build();
+        var response = client.send(request, BodyHandlers.discarding());
+        return new Call(handler.method(), handler.path(), response.statusCode());
+    }
+
+    public record Call(HttpMethod method, String path, int statusCode) {
+    }
+}
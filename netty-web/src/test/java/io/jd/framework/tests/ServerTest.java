@@ -1,8 +1,6 @@
 package io.jd.framework.tests;
 
-import io.jd.framework.BeanProvider;
-import io.jd.framework.BeanProviderFactory;
-import org.junit.jupiter.api.AfterAll;
+import io.jd.framework.junit.FrameworkTest;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -24,20 +22,14 @@ import static org.eclipse.jetty.http.HttpHeader.CONTENT_TYPE;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+@FrameworkTest
 class ServerTest {
     private static ServerContainer serverContainer = null;
     private final HttpClient client = HttpClient.newHttpClient();
 
     @BeforeAll
-    static void setupTest() throws Exception {
-        BeanProvider beanProvider = BeanProviderFactory.getInstance();
-        serverContainer = beanProvider.provide(ServerContainer.class);
-        serverContainer.start();
-    }
-
-    @AfterAll
-    static void cleanupTest() throws Exception {
-        serverContainer.stop();
+    static void setupTest(ServerContainer startedServerContainer) {
+        serverContainer = startedServerContainer;
     }
 
     private static URI path(String endpoint) {
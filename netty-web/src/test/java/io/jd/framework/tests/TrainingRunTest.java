@@ -0,0 +1,34 @@
+package io.jd.framework.tests;
+
+import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.tests.TrainingRun.Call;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.jd.framework.webapp.HttpMethod.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TrainingRunTest {
+
+    @Test
+    void shouldCallEveryRouteOnceAndStopServer() throws Exception {
+        var beanProvider = BeanProviderFactory.getInstance("io.jd.framework.tests");
+
+        var calls = TrainingRun.of(beanProvider).withBody("/int3", "42").run();
+
+        var statusCodes = calls.stream().collect(Collectors.toMap(call -> call.method() + " " + call.path(), Call::statusCode));
+        assertEquals(Map.of(
+                GET + " /int", 200,
+                GET + " /int2", 200,
+                POST + " /int3", 200,
+                POST + " /void", 204,
+                PUT + " /return-error-response", 500,
+                GET + " /error", 500,
+                GET + " /resource", 200
+        ), statusCodes);
+        assertFalse(beanProvider.provide(ServerContainer.class).isRunning());
+    }
+}
@@ -0,0 +1,58 @@
+package io.jd.testapp;
+
+import io.jd.framework.BeanProviderFactory;
+import jakarta.transaction.TransactionManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticipationBenchmark {
+
+    private final ParticipantId participantId = new ParticipantId();
+    private final EventId eventId = new EventId();
+    private PrintStream out;
+    private ParticipationService framework;
+    private ParticipationService plain;
+    private TransactionManager transactionManager;
+
+    @Setup
+    public void setup() {
+        // the flow and the transaction manager stub print on every call, measuring the console is not the point
+        out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        framework = BeanProviderFactory.getInstance().provide(ParticipationService.class);
+        // the same flow wired by hand, with the transaction handling the generated subclass would add written out
+        plain = new DeclarativeTransactionsParticipationService(new ParticipantRepositoryImpl(), new EventRepositoryImpl());
+        transactionManager = new TransactionalManagerStub();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(out);
+    }
+
+    @Benchmark
+    public void framework() {
+        framework.participate(participantId, eventId);
+    }
+
+    @Benchmark
+    public void noFramework() throws Exception {
+        transactionManager.begin();
+        try {
+            plain.participate(participantId, eventId);
+            transactionManager.commit();
+        } catch (Exception e) {
+            transactionManager.rollback();
+            throw e;
+        }
+    }
+}
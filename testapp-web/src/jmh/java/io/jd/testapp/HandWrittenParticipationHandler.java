@@ -0,0 +1,52 @@
+package io.jd.testapp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.transaction.TransactionManager;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+
+import java.io.IOException;
+import java.util.Map;
+
+class HandWrittenParticipationHandler extends AbstractHandler {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ParticipationService participationService;
+    private final TransactionManager transactionManager;
+
+    HandWrittenParticipationHandler(ParticipationService participationService, TransactionManager transactionManager) {
+        this.participationService = participationService;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!"/participate".equals(target) || !"POST".equals(request.getMethod())) {
+            return;
+        }
+        response.setCharacterEncoding("utf-8");
+        response.setContentType("application/json");
+        try {
+            var participationDTO = objectMapper.readValue(request.getInputStream(), ParticipationDTO.class);
+            participate(participationDTO);
+            response.setStatus(200);
+            response.getWriter().print(objectMapper.writeValueAsString(Map.of("accepted", participationDTO)));
+        } catch (Exception e) {
+            response.setStatus(500);
+            response.getWriter().print("{\"errorMessage\": \"%s\"}".formatted(e.getMessage()));
+        }
+        baseRequest.setHandled(true);
+    }
+
+    private void participate(ParticipationDTO participationDTO) throws Exception {
+        transactionManager.begin();
+        try {
+            participationService.participate(participationDTO.participantId(), participationDTO.eventId());
+            transactionManager.commit();
+        } catch (Exception e) {
+            transactionManager.rollback();
+            throw e;
+        }
+    }
+}
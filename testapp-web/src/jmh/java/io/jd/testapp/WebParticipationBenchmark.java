@@ -0,0 +1,82 @@
+package io.jd.testapp;
+
+import io.jd.framework.tests.ServerContainer;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebParticipationBenchmark {
+    private static final String BODY = "{\"participationId\":\"benchmark\",\"eventId\":\"benchmark\"}";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private PrintStream out;
+    private ServerContainer frameworkServer;
+    private Server handWrittenServer;
+    private HttpRequest frameworkRequest;
+    private HttpRequest handWrittenRequest;
+
+    @Setup
+    public void setup() throws Exception {
+        // the flow and the transaction manager stub print on every call, measuring the console is not the point
+        out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        frameworkServer = new $FrameworkApp$Component().provide(ServerContainer.class);
+        frameworkServer.start();
+        handWrittenServer = new Server();
+        var connector = new ServerConnector(handWrittenServer);
+        handWrittenServer.addConnector(connector);
+        handWrittenServer.setHandler(new HandWrittenParticipationHandler(
+                new DeclarativeTransactionsParticipationService(new ParticipantRepositoryImpl(), new EventRepositoryImpl()),
+                new TransactionalManagerStub()
+        ));
+        handWrittenServer.start();
+        frameworkRequest = request(frameworkServer.port());
+        handWrittenRequest = request(connector.getLocalPort());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        frameworkServer.stop();
+        handWrittenServer.stop();
+        System.setOut(out);
+    }
+
+    @Benchmark
+    public String framework() throws Exception {
+        return send(frameworkRequest);
+    }
+
+    @Benchmark
+    public String handWritten() throws Exception {
+        return send(handWrittenRequest);
+    }
+
+    private String send(HttpRequest request) throws Exception {
+        var response = client.send(request, BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Participation failed with status %s: %s".formatted(response.statusCode(), response.body()));
+        }
+        return response.body();
+    }
+
+    private static HttpRequest request(int port) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:%s/participate".formatted(port)))
+                .POST(BodyPublishers.ofString(BODY))
+                .build();
+    }
+}
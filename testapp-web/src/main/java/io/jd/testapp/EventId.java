@@ -1,4 +1,7 @@
 package io.jd.testapp;
 
+import io.jd.framework.Reflective;
+
+@Reflective
 public record EventId(String value) {
 }
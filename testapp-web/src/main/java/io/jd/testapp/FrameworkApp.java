@@ -1,18 +1,40 @@
 package io.jd.testapp;
 
+import io.jd.framework.ApplicationComponent;
 import io.jd.framework.BeanProvider;
-import io.jd.framework.BeanProviderFactory;
+import io.jd.framework.StartupProfiler;
+import io.jd.framework.WarmupPhase;
 import io.jd.framework.tests.ServerContainer;
+import io.jd.framework.tests.TrainingRun;
 
+import java.nio.file.Path;
+
+@ApplicationComponent(packages = {"io.jd.testapp", "io.jd.framework.tests"})
 public class FrameworkApp {
     public static void main(String[] args) throws Exception {
-        BeanProvider provider = BeanProviderFactory.getInstance();
+        BeanProvider provider = new $FrameworkApp$Component();
+        if (TrainingRun.isEnabled()) {
+            TrainingRun.of(provider)
+                    .withBody("/participate", "{\"participationId\":\"training\",\"eventId\":\"training\"}")
+                    .run()
+                    .forEach(call -> System.out.printf("Trained %s %s: %s%n", call.method(), call.path(), call.statusCode()));
+            return;
+        }
         ServerContainer container = provider.provide(ServerContainer.class);
-        container.start();
+        if (WarmupPhase.isEnabled()) {
+            container.start(WarmupPhase.of(provider))
+                    .forEach(result -> System.out.printf("Warmed up %s: %d iterations in %d ms%n", result.routine(), result.iterations(), result.nanos() / 1_000_000));
+        } else {
+            container.start();
+        }
         System.out.printf("Port: %s%n", container.port());
+        if (StartupProfiler.isEnabled()) {
+            StartupProfiler.writeReport(Path.of("startup-report.json"));
+        }
 
         // wait for input to close
         System.in.read();
         container.stop();
+        provider.close();
     }
 }
@@ -1,6 +1,7 @@
 package io.jd.testapp;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jd.framework.Warmup;
 import io.jd.framework.webapp.HttpMethod;
 import io.jd.framework.webapp.Request;
 import io.jd.framework.webapp.RequestHandle;
@@ -11,6 +12,8 @@ import java.util.Map;
 
 @Singleton
 public class ParticipationController {
+    private static final String WARMUP_BODY = "{\"participationId\":\"warmup\",\"eventId\":\"warmup\"}";
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private final ParticipationService participationService;
@@ -26,4 +29,11 @@ public class ParticipationController {
         return objectMapper.writeValueAsString(Map.of("accepted", participationDTO));
     }
 
+    @Warmup(iterations = 5000)
+    void warmUpJson() throws IOException {
+        // the binding is what the first requests pay for, participating itself would have side effects
+        var participationDTO = objectMapper.readValue(WARMUP_BODY, ParticipationDTO.class);
+        objectMapper.writeValueAsString(Map.of("accepted", participationDTO));
+    }
+
 }
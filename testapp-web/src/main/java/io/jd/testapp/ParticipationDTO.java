@@ -2,7 +2,9 @@ package io.jd.testapp;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.jd.framework.Reflective;
 
+@Reflective
 public record ParticipationDTO(ParticipantId participantId, EventId eventId) {
     @JsonCreator
     ParticipationDTO(@JsonProperty("participationId") String participationId, @JsonProperty("eventId") String eventId) {